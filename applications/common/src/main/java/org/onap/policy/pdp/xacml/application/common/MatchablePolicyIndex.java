@@ -0,0 +1,218 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdp.xacml.application.common;
+
+import com.att.research.xacml.api.Attribute;
+import com.att.research.xacml.api.AttributeValue;
+import com.att.research.xacml.api.Identifier;
+import com.att.research.xacml.api.Request;
+import com.att.research.xacml.api.RequestAttributes;
+import com.att.research.xacml.api.Version;
+import com.att.research.xacml.api.XACML3;
+import com.att.research.xacmlatt.pdp.policy.AllOf;
+import com.att.research.xacmlatt.pdp.policy.AnyOf;
+import com.att.research.xacmlatt.pdp.policy.CombiningAlgorithm;
+import com.att.research.xacmlatt.pdp.policy.Match;
+import com.att.research.xacmlatt.pdp.policy.PolicyDef;
+import com.att.research.xacmlatt.pdp.policy.PolicySet;
+import com.att.research.xacmlatt.pdp.policy.PolicySetChild;
+import com.att.research.xacmlatt.pdp.policy.Target;
+import com.att.research.xacmlatt.pdp.policy.expressions.AttributeDesignator;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.Getter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Inverted index over the policies of a combined root policy set. Each policy whose target
+ * requires one of a set of matchable resource values to be in the request is indexed under
+ * those values, all others (e.g. the default policies) are always evaluated. For a request,
+ * only the policies that could match it are put into the root policy set, in their original
+ * order, so the combining algorithm sees the same applicable policies as it would with all
+ * of them and the decision is unchanged.
+ *
+ * <p>Only string-equal matches on resource attributes that are not required to be present
+ * are indexed, since a request without the value can then never match them. The values are
+ * taken from the request itself, so the index must not be used when a PIP could supply the
+ * matchable attributes.
+ */
+public class MatchablePolicyIndex {
+    private static final Logger LOGGER = LoggerFactory.getLogger(MatchablePolicyIndex.class);
+
+    private final Identifier identifier;
+    private final Version version;
+    private final CombiningAlgorithm<PolicySetChild> algorithm;
+    private final List<PolicyDef> policies;
+    private final BitSet unindexed = new BitSet();
+    private final Map<MatchKey, BitSet> index = new HashMap<>();
+    private final Set<Identifier> attributeIds = new HashSet<>();
+
+    @Getter
+    private final int indexedCount;
+
+    private record MatchKey(Identifier attributeId, String value) {
+    }
+
+    /**
+     * Builds the index.
+     *
+     * @param identifier identifier of the root policy set
+     * @param version version of the root policy set
+     * @param algorithm combining algorithm of the root policy set
+     * @param policies the root policies
+     */
+    public MatchablePolicyIndex(Identifier identifier, Version version, CombiningAlgorithm<PolicySetChild> algorithm,
+        List<PolicyDef> policies) {
+        this.identifier = identifier;
+        this.version = version;
+        this.algorithm = algorithm;
+        this.policies = List.copyOf(policies);
+        var count = 0;
+        for (var position = 0; position < this.policies.size(); ++position) {
+            Set<MatchKey> keys = findRequiredValues(this.policies.get(position));
+            if (keys == null) {
+                unindexed.set(position);
+                continue;
+            }
+            for (MatchKey key : keys) {
+                index.computeIfAbsent(key, unused -> new BitSet()).set(position);
+                attributeIds.add(key.attributeId());
+            }
+            ++count;
+        }
+        this.indexedCount = count;
+        LOGGER.info("Indexed {} of {} root policies on {} values", indexedCount, this.policies.size(),
+            index.size());
+    }
+
+    /**
+     * Creates a root policy set holding only the policies that could match a request.
+     *
+     * @param request the request
+     * @return the root policy set for the request
+     */
+    public PolicySet select(Request request) {
+        var candidates = (BitSet) unindexed.clone();
+        for (RequestAttributes requestAttributes : request.getRequestAttributes()) {
+            if (!XACML3.ID_ATTRIBUTE_CATEGORY_RESOURCE.equals(requestAttributes.getCategory())) {
+                continue;
+            }
+            for (Attribute attribute : requestAttributes.getAttributes()) {
+                if (!attributeIds.contains(attribute.getAttributeId())) {
+                    continue;
+                }
+                for (AttributeValue<?> value : attribute.getValues()) {
+                    var positions = index.get(new MatchKey(attribute.getAttributeId(),
+                        String.valueOf(value.getValue())));
+                    if (positions != null) {
+                        candidates.or(positions);
+                    }
+                }
+            }
+        }
+        var root = newRoot();
+        candidates.stream().forEach(position -> root.addChild(policies.get(position)));
+        LOGGER.debug("Evaluating {} of {} root policies", candidates.cardinality(), policies.size());
+        return root;
+    }
+
+    private PolicySet newRoot() {
+        var root = new PolicySet();
+        root.setIdentifier(identifier);
+        root.setVersion(version);
+        root.setTarget(new Target());
+        root.setPolicyCombiningAlgorithm(algorithm);
+        return root;
+    }
+
+    /**
+     * Finds values one of which must be in the request for the policy to match. The target
+     * of the policy only matches if every AnyOf matches, so one AnyOf is enough, and an AnyOf
+     * only matches if one of its AllOf's does, each of which needs all of its matches.
+     *
+     * @param policy the policy
+     * @return the values, or {@code null} if the policy cannot be indexed
+     */
+    private static Set<MatchKey> findRequiredValues(PolicyDef policy) {
+        Target target = policy.getTarget();
+        if (target == null || target.getAnyOfs() == null) {
+            return null;
+        }
+        Iterator<AnyOf> anyOfs = target.getAnyOfs();
+        while (anyOfs.hasNext()) {
+            Set<MatchKey> keys = findRequiredValues(anyOfs.next());
+            if (keys != null) {
+                return keys;
+            }
+        }
+        return null;
+    }
+
+    private static Set<MatchKey> findRequiredValues(AnyOf anyOf) {
+        Set<MatchKey> keys = new HashSet<>();
+        Iterator<AllOf> allOfs = anyOf.getAllOfs();
+        if (allOfs == null || !allOfs.hasNext()) {
+            return null;
+        }
+        while (allOfs.hasNext()) {
+            MatchKey key = findRequiredValue(allOfs.next());
+            if (key == null) {
+                return null;
+            }
+            keys.add(key);
+        }
+        return keys;
+    }
+
+    private static MatchKey findRequiredValue(AllOf allOf) {
+        Iterator<Match> matches = allOf.getMatches();
+        if (matches == null) {
+            return null;
+        }
+        while (matches.hasNext()) {
+            MatchKey key = toKey(matches.next());
+            if (key != null) {
+                return key;
+            }
+        }
+        return null;
+    }
+
+    private static MatchKey toKey(Match match) {
+        if (!XACML3.ID_FUNCTION_STRING_EQUAL.equals(match.getMatchId())
+            || match.getAttributeValue() == null || match.getAttributeValue().getValue() == null
+            || !(match.getAttributeRetrievalBase() instanceof AttributeDesignator designator)) {
+            return null;
+        }
+        if (!XACML3.ID_ATTRIBUTE_CATEGORY_RESOURCE.equals(designator.getCategory())
+            || !XACML3.ID_DATATYPE_STRING.equals(designator.getDataTypeId())
+            || designator.getIssuer() != null || Boolean.TRUE.equals(designator.getMustBePresent())) {
+            return null;
+        }
+        return new MatchKey(designator.getAttributeId(), String.valueOf(match.getAttributeValue().getValue()));
+    }
+}
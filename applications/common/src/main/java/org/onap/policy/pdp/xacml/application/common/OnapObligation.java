@@ -51,6 +51,7 @@ public class OnapObligation {
             new GsonBuilder().registerTypeAdapterFactory(new MapDoubleAdapterFactory()).create();
 
     private String policyId;
+    private String policyVersion;
     private String policyType;
     private String policyContent;
     private Integer weight;
@@ -96,6 +97,21 @@ public class OnapObligation {
         this.weight = weight;
     }
 
+    /**
+     * Constructor for policy details, version, type and weight.
+     *
+     * @param policyId String
+     * @param policyVersion String
+     * @param policyContent String
+     * @param policyType String
+     * @param weight int
+     */
+    public OnapObligation(String policyId, String policyVersion, String policyContent, String policyType,
+            Integer weight) {
+        this(policyId, policyContent, policyType, weight);
+        this.policyVersion = policyVersion;
+    }
+
     /**
      * getPolicyContentAsMap returns the policy as a map for convience.
      *
@@ -159,6 +175,13 @@ public class OnapObligation {
                 ToscaDictionary.ID_OBLIGATION_POLICY_ID_CATEGORY,
                 policyId);
         //
+        // Add policy-version
+        //
+        addOptionalAttributeToObligation(obligation, ToscaDictionary.ID_OBLIGATION_POLICY_VERSION,
+                ToscaDictionary.ID_OBLIGATION_POLICY_VERSION_DATATYPE,
+                ToscaDictionary.ID_OBLIGATION_POLICY_VERSION_CATEGORY,
+                policyVersion);
+        //
         // Add policy contents
         //
         addOptionalAttributeToObligation(obligation, ToscaDictionary.ID_OBLIGATION_POLICY_CONTENT,
@@ -200,6 +223,9 @@ public class OnapObligation {
         if (ToscaDictionary.ID_OBLIGATION_POLICY_ID.equals(assignment.getAttributeId())) {
             policyId = assignment.getAttributeValue().getValue().toString();
             return true;
+        } else if (ToscaDictionary.ID_OBLIGATION_POLICY_VERSION.equals(assignment.getAttributeId())) {
+            policyVersion = assignment.getAttributeValue().getValue().toString();
+            return true;
         } else if (ToscaDictionary.ID_OBLIGATION_POLICY_TYPE.equals(assignment.getAttributeId())) {
             policyType = assignment.getAttributeValue().getValue().toString();
             return true;
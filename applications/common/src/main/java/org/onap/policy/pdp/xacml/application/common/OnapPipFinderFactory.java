@@ -0,0 +1,61 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdp.xacml.application.common;
+
+import com.att.research.xacml.api.pip.PIPException;
+import com.att.research.xacml.api.pip.PIPFinder;
+import com.att.research.xacml.api.pip.PIPFinderFactory;
+import com.att.research.xacml.std.pip.StdPIPFinderFactory;
+import java.util.Properties;
+import org.onap.policy.pdp.xacml.application.common.std.StdPipResolvingFinder;
+
+/**
+ * Creates the standard PIPFinder of an engine, wrapped so that its lookups can be
+ * resolved per decision by a {@link org.onap.policy.pdp.xacml.application.common.std.StdPipResolutionScope}.
+ * Configured with the xacml.pipFinderFactory property.
+ */
+public class OnapPipFinderFactory extends PIPFinderFactory {
+    private final StdPIPFinderFactory factory = new StdPIPFinderFactory();
+    private final Properties properties;
+    private PIPFinder finder;
+
+    public OnapPipFinderFactory() {
+        this.properties = null;
+    }
+
+    public OnapPipFinderFactory(Properties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    public synchronized PIPFinder getFinder() throws PIPException {
+        if (this.finder == null) {
+            this.finder = new StdPipResolvingFinder(
+                this.properties == null ? this.factory.getFinder() : this.factory.getFinder(this.properties));
+        }
+        return this.finder;
+    }
+
+    @Override
+    public PIPFinder getFinder(Properties properties) throws PIPException {
+        return new StdPipResolvingFinder(this.factory.getFinder(properties));
+    }
+}
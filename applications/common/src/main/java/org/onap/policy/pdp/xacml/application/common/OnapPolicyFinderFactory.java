@@ -1,6 +1,7 @@
 /*-
  * ============LICENSE_START=======================================================
  * Copyright (C) 2019-2021 AT&T Intellectual Property. All rights reserved.
+ * Modifications Copyright (C) 2026 Nordix Foundation.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -26,26 +27,32 @@ import com.att.research.xacml.std.StdVersion;
 import com.att.research.xacml.std.dom.DOMStructureException;
 import com.att.research.xacml.util.FactoryException;
 import com.att.research.xacml.util.XACMLProperties;
+import com.att.research.xacmlatt.pdp.eval.EvaluationContext;
 import com.att.research.xacmlatt.pdp.policy.CombiningAlgorithm;
 import com.att.research.xacmlatt.pdp.policy.CombiningAlgorithmFactory;
 import com.att.research.xacmlatt.pdp.policy.Policy;
 import com.att.research.xacmlatt.pdp.policy.PolicyDef;
 import com.att.research.xacmlatt.pdp.policy.PolicyFinder;
 import com.att.research.xacmlatt.pdp.policy.PolicyFinderFactory;
+import com.att.research.xacmlatt.pdp.policy.PolicyFinderResult;
 import com.att.research.xacmlatt.pdp.policy.PolicySet;
 import com.att.research.xacmlatt.pdp.policy.PolicySetChild;
 import com.att.research.xacmlatt.pdp.policy.Target;
 import com.att.research.xacmlatt.pdp.policy.dom.DOMPolicyDef;
 import com.att.research.xacmlatt.pdp.std.StdPolicyFinder;
+import com.att.research.xacmlatt.pdp.std.StdPolicyFinderResult;
 import com.att.research.xacmlatt.pdp.util.ATTPDPProperties;
 import com.google.common.base.Splitter;
 import com.google.common.base.Strings;
 import java.io.File;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -59,10 +66,21 @@ public class OnapPolicyFinderFactory extends PolicyFinderFactory {
 
     public static final String  PROP_FILE       = ".file";
     public static final String  PROP_URL        = ".url";
+    //
+    // Only for applications whose matchable attributes always come from the request,
+    // never from a PIP, see MatchablePolicyIndex
+    //
+    public static final String  PROP_INDEX_MATCHABLES = "xacml.att.policyFinderFactory.indexMatchables";
 
     private static Logger logger                           = LoggerFactory.getLogger(OnapPolicyFinderFactory.class);
+    //
+    // A new factory is constructed for every engine, so the parsed policies are kept here
+    // and shared by the engines. Only new or changed policy files need to be parsed.
+    //
+    private static final Map<String, LoadedPolicyDef> loadedPolicyDefs = new ConcurrentHashMap<>();
     private List<PolicyDef> rootPolicies;
     private List<PolicyDef> referencedPolicies;
+    private MatchablePolicyIndex policyIndex;
     private boolean needsInit                   = true;
 
     private Properties properties;
@@ -112,6 +130,15 @@ public class OnapPolicyFinderFactory extends PolicyFinderFactory {
 
     protected PolicyDef loadPolicyFileDef(String propLocation) {
         var fileLocation   = new File(propLocation);
+        //
+        // Compiled policies are used as is, they may not have been written yet
+        //
+        String key = fileLocation.getAbsolutePath();
+        var loaded = loadedPolicyDefs.get(key);
+        if (loaded != null && loaded.compiled()) {
+            logger.debug("Using compiled policy for {}", fileLocation);
+            return loaded.policyDef();
+        }
         if (!fileLocation.exists()) {
             logger.error("Policy file {} does not exist.", fileLocation.getAbsolutePath());
             return null;
@@ -120,10 +147,20 @@ public class OnapPolicyFinderFactory extends PolicyFinderFactory {
             logger.error("Policy file {} cannot be read.", fileLocation.getAbsolutePath());
             return null;
         }
+        //
+        // Re-use the policy if the file has not changed since it was parsed
+        //
+        long lastModified = fileLocation.lastModified();
+        long length = fileLocation.length();
+        if (loaded != null && loaded.lastModified() == lastModified && loaded.length() == length) {
+            logger.debug("Re-using policy file {}", fileLocation);
+            return loaded.policyDef();
+        }
         try {
             logger.info("Loading policy file {}", fileLocation);
             var policyDef = DOMPolicyDef.load(fileLocation);
             if (policyDef != null) {
+                loadedPolicyDefs.put(key, new LoadedPolicyDef(policyDef, false, lastModified, length));
                 return policyDef;
             }
             return new Policy(StdStatusCode.STATUS_CODE_SYNTAX_ERROR, "DOM Could not load policy");
@@ -133,6 +170,28 @@ public class OnapPolicyFinderFactory extends PolicyFinderFactory {
         }
     }
 
+    /**
+     * Registers a policy that was compiled in memory for a policy file. Engines use it
+     * instead of parsing the file, which may still be in the process of being written.
+     *
+     * @param policyPath path to the policy file
+     * @param policyDef the compiled policy
+     */
+    public static void registerPolicyDef(Path policyPath, PolicyDef policyDef) {
+        loadedPolicyDefs.put(policyPath.toAbsolutePath().toString(), new LoadedPolicyDef(policyDef, true, 0, 0));
+    }
+
+    /**
+     * Forgets the parsed or compiled policy for a policy file, so that it is parsed again
+     * the next time an engine loads it. Should be called whenever a policy file is re-written
+     * or deleted.
+     *
+     * @param policyPath path to the policy file
+     */
+    public static void evictPolicyDef(Path policyPath) {
+        loadedPolicyDefs.remove(policyPath.toAbsolutePath().toString());
+    }
+
     /**
      * Finds the identifiers for all of the policies referenced by the given property name in the
      * <code>XACMLProperties</code> and loads them using the requested loading method.
@@ -195,10 +254,22 @@ public class OnapPolicyFinderFactory extends PolicyFinderFactory {
                 //
                 // Load all our root policies
                 //
-                for (PolicyDef policy : this.getPolicyDefs(XACMLProperties.PROP_ROOTPOLICIES)) {
+                List<PolicyDef> policies = this.getPolicyDefs(XACMLProperties.PROP_ROOTPOLICIES);
+                for (PolicyDef policy : policies) {
                     root.addChild(policy);
                 }
                 //
+                // Index the policies on their matchables, so each request only
+                // evaluates the ones that could match it
+                //
+                if (Boolean.parseBoolean(properties.getProperty(PROP_INDEX_MATCHABLES))) {
+                    var index = new MatchablePolicyIndex(root.getIdentifier(), root.getVersion(), algorithm,
+                            policies);
+                    if (index.getIndexedCount() > 0) {
+                        this.policyIndex = index;
+                    }
+                }
+                //
                 // Set this policy as the root
                 //
                 this.rootPolicies = new ArrayList<>();
@@ -224,12 +295,36 @@ public class OnapPolicyFinderFactory extends PolicyFinderFactory {
         //
         // Force using any properties that were passed upon construction
         //
-        return new StdPolicyFinder(this.rootPolicies, this.referencedPolicies, this.properties);
+        return this.getPolicyFinder(this.properties);
     }
 
     @Override
     public PolicyFinder getPolicyFinder(Properties properties) throws FactoryException {
+        if (this.policyIndex != null) {
+            return new IndexedPolicyFinder(this.policyIndex, this.rootPolicies, this.referencedPolicies, properties);
+        }
         return new StdPolicyFinder(this.rootPolicies, this.referencedPolicies, properties);
     }
 
+    /**
+     * Finds the combined root policy set for a request, holding only the root policies the
+     * index says could apply to it.
+     */
+    private static class IndexedPolicyFinder extends StdPolicyFinder {
+        private final MatchablePolicyIndex policyIndex;
+
+        IndexedPolicyFinder(MatchablePolicyIndex policyIndex, List<PolicyDef> rootPolicies,
+            List<PolicyDef> referencedPolicies, Properties properties) {
+            super(rootPolicies, referencedPolicies, properties);
+            this.policyIndex = policyIndex;
+        }
+
+        @Override
+        public PolicyFinderResult<PolicyDef> getRootPolicy(EvaluationContext evaluationContext) {
+            return new StdPolicyFinderResult<>(this.policyIndex.select(evaluationContext.getRequest()));
+        }
+    }
+
+    private record LoadedPolicyDef(PolicyDef policyDef, boolean compiled, long lastModified, long length) {
+    }
 }
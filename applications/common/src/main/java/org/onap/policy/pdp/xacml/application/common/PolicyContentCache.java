@@ -0,0 +1,150 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdp.xacml.application.common;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.onap.policy.common.gson.MapDoubleAdapterFactory;
+
+/**
+ * Holds the policy content carried in the obligations of the deployed policies, decoded once
+ * into immutable maps and lists and rendered back to JSON, keyed by policy id and version.
+ * Decisions share the content rather than decoding the JSON of each obligation again, and
+ * responses are written from the rendered JSON. Anything that needs to change the content of
+ * a decision must replace it with a modified copy, see {@link RenderedPolicy#without}.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class PolicyContentCache {
+    private static final String VERSION = "version";
+
+    private static final Gson gson =
+            new GsonBuilder().registerTypeAdapterFactory(new MapDoubleAdapterFactory()).create();
+
+    //
+    // policy id -> version -> content
+    //
+    private static final Map<String, Map<String, RenderedPolicy>> contents = new ConcurrentHashMap<>();
+
+    /**
+     * Decodes the content of a policy and keeps it under the version found in the content.
+     *
+     * @param policyId the policy id
+     * @param json the policy content
+     * @return the decoded content
+     */
+    public static RenderedPolicy put(String policyId, String json) {
+        var policy = new RenderedPolicy(decode(json), gson);
+        contents.compute(policyId, (key, versions) -> {
+            Map<String, RenderedPolicy> newVersions = versions == null ? new ConcurrentHashMap<>() : versions;
+            newVersions.put(String.valueOf(policy.get(VERSION)), policy);
+            return newVersions;
+        });
+        return policy;
+    }
+
+    /**
+     * Finds the decoded content of a policy version, decoding it if it has not been seen before.
+     * Content is only kept once a decision has been made with it, so a policy that fails to
+     * load never leaves an entry behind. Content without a version is decoded every time.
+     *
+     * @param policyId the policy id
+     * @param version the policy version carried by the obligation, may be null
+     * @param json the policy content
+     * @return the decoded content, or an empty map if there is none
+     */
+    public static Map<String, Object> get(String policyId, String version, String json) {
+        if (policyId == null || json == null) {
+            return Collections.emptyMap();
+        }
+        if (version == null) {
+            return new RenderedPolicy(decode(json), gson);
+        }
+        var versions = contents.get(policyId);
+        var policy = versions == null ? null : versions.get(version);
+        if (policy != null) {
+            return policy;
+        }
+        var decoded = new RenderedPolicy(decode(json), gson);
+        var kept = new RenderedPolicy[1];
+        contents.compute(policyId, (key, existing) -> {
+            Map<String, RenderedPolicy> newVersions = existing == null ? new ConcurrentHashMap<>() : existing;
+            kept[0] = newVersions.computeIfAbsent(version, newVersion -> decoded);
+            return newVersions;
+        });
+        return kept[0];
+    }
+
+    /**
+     * Forgets the content of a policy that is no longer deployed.
+     *
+     * @param policyId the policy id
+     * @param version the policy version
+     */
+    public static void remove(String policyId, String version) {
+        contents.computeIfPresent(policyId, (key, versions) -> {
+            versions.remove(version);
+            return versions.isEmpty() ? null : versions;
+        });
+    }
+
+    /**
+     * Forgets all of the policy content.
+     */
+    public static void clear() {
+        contents.clear();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> decode(String json) {
+        Map<String, Object> map = gson.fromJson(json, Map.class);
+        if (map == null) {
+            return Collections.emptyMap();
+        }
+        return (Map<String, Object>) immutable(map);
+    }
+
+    private static Object immutable(Object value) {
+        if (value instanceof Map<?, ?> map) {
+            Map<Object, Object> copy = new LinkedHashMap<>();
+            for (Entry<?, ?> entry : map.entrySet()) {
+                copy.put(entry.getKey(), immutable(entry.getValue()));
+            }
+            return Collections.unmodifiableMap(copy);
+        }
+        if (value instanceof List<?> list) {
+            List<Object> copy = new ArrayList<>(list.size());
+            for (Object item : list) {
+                copy.add(immutable(item));
+            }
+            return Collections.unmodifiableList(copy);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,103 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdp.xacml.application.common;
+
+import com.google.gson.Gson;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Immutable policy content for decision responses, together with its JSON, rendered once so
+ * that writing a response can copy the bytes instead of encoding the content again. It is a
+ * read-only map of the content, so it can be used anywhere the decoded content is expected.
+ */
+public final class RenderedPolicy extends AbstractMap<String, Object> {
+    private final Map<String, Object> content;
+    private final byte[] json;
+    //
+    // Variants without some of the keys, e.g. abbreviated monitoring policies
+    //
+    private final Map<Set<String>, RenderedPolicy> variants = new ConcurrentHashMap<>();
+    private final Gson gson;
+
+    /**
+     * Constructs the object.
+     *
+     * @param content the content, which must be immutable
+     * @param gson used to render the content
+     */
+    RenderedPolicy(Map<String, Object> content, Gson gson) {
+        this.content = content;
+        this.gson = gson;
+        this.json = gson.toJson(content).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return content.entrySet();
+    }
+
+    @Override
+    public Object get(Object key) {
+        return content.get(key);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return content.containsKey(key);
+    }
+
+    @Override
+    public int size() {
+        return content.size();
+    }
+
+    /**
+     * Writes the rendered JSON.
+     *
+     * @param outputStream stream to write to
+     * @throws IOException if the stream cannot be written
+     */
+    public void writeTo(OutputStream outputStream) throws IOException {
+        outputStream.write(json);
+    }
+
+    /**
+     * Gets the content without some of its keys, rendering it the first time it is asked for.
+     *
+     * @param keys keys to leave out
+     * @return the content without the keys
+     */
+    public RenderedPolicy without(Set<String> keys) {
+        return variants.computeIfAbsent(Set.copyOf(keys), unused -> {
+            Map<String, Object> copy = new LinkedHashMap<>(content);
+            copy.keySet().removeAll(keys);
+            return new RenderedPolicy(Collections.unmodifiableMap(copy), gson);
+        });
+    }
+}
@@ -150,6 +150,15 @@ public final class ToscaDictionary {
     public static final Identifier ID_OBLIGATION_POLICY_ID_DATATYPE =
             XACML3.ID_DATATYPE_STRING;
 
+    public static final Identifier ID_OBLIGATION_POLICY_VERSION =
+            new IdentifierImpl(ID_URN_ONAP, ":obligation:policyversion");
+
+    public static final Identifier ID_OBLIGATION_POLICY_VERSION_CATEGORY =
+            XACML3.ID_ATTRIBUTE_CATEGORY_RESOURCE;
+
+    public static final Identifier ID_OBLIGATION_POLICY_VERSION_DATATYPE =
+            XACML3.ID_DATATYPE_STRING;
+
     public static final Identifier ID_OBLIGATION_POLICY_WEIGHT =
             new IdentifierImpl(ID_URN_ONAP, ":obligation:weight");
 
@@ -24,6 +24,9 @@ package org.onap.policy.pdp.xacml.application.common;
 
 import com.att.research.xacml.api.Response;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import org.apache.commons.lang3.tuple.Pair;
@@ -69,6 +72,72 @@ public interface XacmlApplicationServiceProvider {
     void             initialize(Path pathForData, HttpClient policyApiClient)
             throws XacmlApplicationException;
 
+    /**
+     * Sets the number of PDP engines the application should keep so that concurrent
+     * decisions each use their own engine. Must be called before the application is
+     * initialized. Zero means a single engine shared by all decisions. Applications that
+     * do not manage PDP engines can ignore it.
+     *
+     * @param size number of engines
+     */
+    default void setEnginePoolSize(int size) {
+        // do nothing by default
+    }
+
+    /**
+     * Sets up a cache of the decisions made by the application. Must be called before
+     * the application is initialized. A size or ttl of zero disables the cache.
+     * Applications whose decisions cannot be cached can ignore it.
+     *
+     * @param maximumSize maximum number of decisions to cache
+     * @param ttlSeconds number of seconds a decision stays cached
+     */
+    default void setDecisionCache(long maximumSize, long ttlSeconds) {
+        // do nothing by default
+    }
+
+    /**
+     * Sets how the application persists its policies. Must be called before the application
+     * is initialized. With write-behind, policies are written to disk after the deploy has
+     * returned. Applications that do not persist policies can ignore it.
+     *
+     * @param writeBehind true to write the policies on a separate thread
+     * @param fsync true to force each file to the storage device before it replaces the old one
+     */
+    default void setPersistence(boolean writeBehind, boolean fsync) {
+        // do nothing by default
+    }
+
+    /**
+     * Sets whether the application keeps a snapshot of the policies it has deployed, so
+     * that they can be restored after a restart. Must be called before the application is
+     * initialized. Applications that do not persist policies can ignore it.
+     *
+     * @param enabled true to keep a snapshot
+     */
+    default void setSnapshot(boolean enabled) {
+        // do nothing by default
+    }
+
+    /**
+     * Waits until all of the policies loaded or unloaded so far have been persisted.
+     */
+    default void flushPersistence() {
+        // do nothing by default
+    }
+
+    /**
+     * Restores the policies that were deployed before the application was last stopped,
+     * from its data directory. Called right after the application is initialized, the
+     * engine already has these policies. Applications that cannot tell which Tosca Policies
+     * they had deployed return none.
+     *
+     * @return List of the Tosca Policies that were restored
+     */
+    default List<ToscaPolicy> restorePolicies() {
+        return Collections.emptyList();
+    }
+
     /**
      * Returns a list of supported Tosca Policy Types.
      *
@@ -99,6 +168,44 @@ public interface XacmlApplicationServiceProvider {
      */
     boolean          unloadPolicy(ToscaPolicy toscaPolicy) throws XacmlApplicationException;
 
+    /**
+     * Load a batch of Tosca Policies. Applications that build a PDP engine should
+     * override this to rebuild it once for the whole batch. By default the policies
+     * are loaded one at a time.
+     *
+     * @param toscaPolicies policies to load
+     * @return Map of the policies that failed to load to the reason why, empty if all loaded
+     */
+    default Map<ToscaPolicy, XacmlApplicationException> loadPolicies(List<ToscaPolicy> toscaPolicies) {
+        Map<ToscaPolicy, XacmlApplicationException> failures = new LinkedHashMap<>();
+        for (ToscaPolicy toscaPolicy : toscaPolicies) {
+            try {
+                loadPolicy(toscaPolicy);
+            } catch (XacmlApplicationException e) {
+                failures.put(toscaPolicy, e);
+            }
+        }
+        return failures;
+    }
+
+    /**
+     * Unload a batch of Tosca Policies. Applications that build a PDP engine should
+     * override this to rebuild it once for the whole batch. By default the policies
+     * are unloaded one at a time.
+     *
+     * @param toscaPolicies policies to unload
+     * @return List of the policies that were unloaded by this application
+     */
+    default List<ToscaPolicy> unloadPolicies(List<ToscaPolicy> toscaPolicies) throws XacmlApplicationException {
+        List<ToscaPolicy> unloadedPolicies = new ArrayList<>();
+        for (ToscaPolicy toscaPolicy : toscaPolicies) {
+            if (unloadPolicy(toscaPolicy)) {
+                unloadedPolicies.add(toscaPolicy);
+            }
+        }
+        return unloadedPolicies;
+    }
+
     /**
      * Makes a decision given the incoming request and returns a response.
      *
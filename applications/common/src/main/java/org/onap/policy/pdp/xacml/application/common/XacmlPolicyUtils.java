@@ -24,8 +24,14 @@
 package org.onap.policy.pdp.xacml.application.common;
 
 import com.att.research.xacml.api.Identifier;
+import com.att.research.xacml.std.dom.DOMStructureException;
 import com.att.research.xacml.util.XACMLPolicyWriter;
 import com.att.research.xacml.util.XACMLProperties;
+import com.att.research.xacmlatt.pdp.policy.PolicyDef;
+import com.att.research.xacmlatt.pdp.policy.dom.DOMPolicy;
+import com.att.research.xacmlatt.pdp.policy.dom.DOMPolicySet;
+import jakarta.xml.bind.JAXBContext;
+import jakarta.xml.bind.JAXBException;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
@@ -39,6 +45,7 @@ import java.util.Properties;
 import java.util.Set;
 import java.util.StringJoiner;
 import java.util.function.Function;
+import javax.xml.transform.dom.DOMResult;
 import oasis.names.tc.xacml._3_0.core.schema.wd_17.IdReferenceType;
 import oasis.names.tc.xacml._3_0.core.schema.wd_17.ObjectFactory;
 import oasis.names.tc.xacml._3_0.core.schema.wd_17.PolicySetType;
@@ -46,6 +53,7 @@ import oasis.names.tc.xacml._3_0.core.schema.wd_17.PolicyType;
 import oasis.names.tc.xacml._3_0.core.schema.wd_17.TargetType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.w3c.dom.Document;
 
 public final class XacmlPolicyUtils {
 
@@ -529,4 +537,50 @@ public final class XacmlPolicyUtils {
             throw new IllegalArgumentException("Expecting PolicyType or PolicySetType");
         }
     }
+
+    /**
+     * Compiles a PolicyType or PolicySetType straight into the object model used by the PDP
+     * engine. The policy is marshalled into an in-memory DOM, so there is no need to write it
+     * to a file and parse it back.
+     *
+     * @param policy PolicyType or PolicySetType
+     * @return PolicyDef for the PDP engine
+     * @throws ToscaPolicyConversionException if the policy cannot be compiled
+     */
+    public static PolicyDef compilePolicy(Object policy) throws ToscaPolicyConversionException {
+        Object element;
+        if (policy instanceof PolicyType policyType) {
+            element = new ObjectFactory().createPolicy(policyType);
+        } else if (policy instanceof PolicySetType policySetType) {
+            element = new ObjectFactory().createPolicySet(policySetType);
+        } else {
+            throw new IllegalArgumentException("Expecting PolicyType or PolicySetType");
+        }
+        try {
+            var result = new DOMResult();
+            PolicyContextHolder.CONTEXT.createMarshaller().marshal(element, result);
+            var root = ((Document) result.getNode()).getDocumentElement();
+            if (policy instanceof PolicyType) {
+                return DOMPolicy.newInstance(root, null, null);
+            }
+            return DOMPolicySet.newInstance(root, null, null);
+        } catch (JAXBException | DOMStructureException e) {
+            throw new ToscaPolicyConversionException("Failed to compile policy", e);
+        }
+    }
+
+    /**
+     * Creating the context is expensive, so it is only done once, when a policy is first compiled.
+     */
+    private static class PolicyContextHolder {
+        private static final JAXBContext CONTEXT = newContext();
+
+        private static JAXBContext newContext() {
+            try {
+                return JAXBContext.newInstance(ObjectFactory.class);
+            } catch (JAXBException e) {
+                throw new IllegalStateException("Failed to create the XACML policy context", e);
+            }
+        }
+    }
 }
@@ -30,11 +30,13 @@ import com.att.research.xacml.std.pip.StdMutablePIPResponse;
 import com.att.research.xacml.std.pip.StdPIPResponse;
 import com.google.common.base.Strings;
 import java.sql.Timestamp;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Objects;
+import java.util.Properties;
 import org.onap.policy.pdp.xacml.application.common.ToscaDictionary;
 import org.onap.policy.pdp.xacml.application.common.std.StdOnapPip;
 import org.slf4j.Logger;
@@ -45,11 +47,88 @@ public class CountRecentOperationsPip extends StdOnapPip {
     public static final String ISSUER_NAME = "count-recent-operations";
     private static final Logger logger = LoggerFactory.getLogger(CountRecentOperationsPip.class);
 
+    //
+    // Issuer properties of the local counter
+    //
+    public static final String LOCAL_COUNTER_PROPERTY = ".localCounter.enabled";
+    public static final String LOCAL_COUNTER_MAX_WINDOW_PROPERTY = ".localCounter.maxWindowSeconds";
+    public static final String LOCAL_COUNTER_BUCKET_PROPERTY = ".localCounter.bucketSeconds";
+    public static final String LOCAL_COUNTER_POLL_INTERVAL_PROPERTY = ".localCounter.pollIntervalMs";
+    public static final String LOCAL_COUNTER_STALENESS_PROPERTY = ".localCounter.stalenessMs";
+    public static final String LOCAL_COUNTER_RESCAN_PROPERTY = ".localCounter.rescanSeconds";
+
+    //
+    // Issuer properties of the query batcher
+    //
+    public static final String BATCH_WINDOW_PROPERTY = ".batch.windowMs";
+    public static final String BATCH_SIZE_PROPERTY = ".batch.maxSize";
+    public static final String BATCH_TIMEOUT_PROPERTY = ".batch.timeoutMs";
+
+    protected OperationsHistoryCounter counter;
+    protected OperationsHistoryBatcher batcher;
+
+    private record TimeWindow(int value, String scale, ChronoUnit unit) {
+    }
+
+    private record CountKey(TimeWindow window, String actor, String operation, String target) {
+    }
+
     public CountRecentOperationsPip() {
         super();
         this.issuer = ISSUER_NAME;
     }
 
+    @Override
+    public synchronized void configure(String id, Properties properties) throws PIPException {
+        if (counter != null) {
+            counter.release();
+            counter = null;
+        }
+        super.configure(id, properties);
+        //
+        // Optionally batch the queries made at about the same time
+        //
+        batcher = null;
+        int batchWindowMs = getIntProperty(BATCH_WINDOW_PROPERTY, 0);
+        if (this.pool != null && batchWindowMs > 0) {
+            try {
+                batcher = new OperationsHistoryBatcher(this.issuer, this.pool, Duration.ofMillis(batchWindowMs),
+                    getIntProperty(BATCH_SIZE_PROPERTY, 100),
+                    Duration.ofMillis(getIntProperty(BATCH_TIMEOUT_PROPERTY, 10000)));
+            } catch (IllegalArgumentException e) {
+                logger.error("Invalid query batcher for {}, not batching", id, e);
+            }
+        }
+        //
+        // Optionally count the operations in memory, falling back to the
+        // database for windows it does not cover. The PIPs of every engine
+        // of the application use the same counter.
+        //
+        if (this.pool == null || !getBooleanProperty(LOCAL_COUNTER_PROPERTY, false)) {
+            return;
+        }
+        try {
+            counter = OperationsHistoryCounter.share(id, this.pool,
+                Duration.ofSeconds(getIntProperty(LOCAL_COUNTER_MAX_WINDOW_PROPERTY, 3600)),
+                Duration.ofSeconds(getIntProperty(LOCAL_COUNTER_BUCKET_PROPERTY, 1)),
+                Duration.ofMillis(getIntProperty(LOCAL_COUNTER_POLL_INTERVAL_PROPERTY, 1000)),
+                Duration.ofMillis(getIntProperty(LOCAL_COUNTER_STALENESS_PROPERTY, 5000)),
+                Duration.ofSeconds(getIntProperty(LOCAL_COUNTER_RESCAN_PROPERTY, 60)));
+        } catch (IllegalArgumentException e) {
+            logger.error("Invalid local counter for {}, counting in the database", id, e);
+        }
+    }
+
+    @Override
+    public synchronized void shutdown() {
+        if (this.counter != null) {
+            this.counter.release();
+            this.counter = null;
+        }
+        this.batcher = null;
+        super.shutdown();
+    }
+
     @Override
     public Collection<PIPRequest> attributesRequired() {
         return Arrays.asList(PIP_REQUEST_ACTOR, PIP_REQUEST_RECIPE, PIP_REQUEST_TARGET);
@@ -90,19 +169,15 @@ public class CountRecentOperationsPip extends StdOnapPip {
         // Parse out the issuer which denotes the time window
         // Eg: any-prefix:tw:10:minute
         //
-        String[] s1 = pipRequest.getIssuer().split("tw:");
-        String[] s2 = s1[1].split(":");
-        var timeWindowVal = Integer.parseInt(s2[0]);
-        String timeWindowScale = s2[1];
+        TimeWindow window = parseIssuer(pipRequest.getIssuer(), this::parseTimeWindow);
         //
         // Grab other attribute values
         //
         String actor = getAttribute(pipFinder, PIP_REQUEST_ACTOR);
         String operation = getAttribute(pipFinder, PIP_REQUEST_RECIPE);
         String target = getAttribute(pipFinder, PIP_REQUEST_TARGET);
-        String timeWindow = timeWindowVal + " " + timeWindowScale;
-        logger.info("Going to query DB about: actor {} operation {} target {} time window {}",
-            actor, operation, target, timeWindow);
+        logger.info("Going to query DB about: actor {} operation {} target {} time window {} {}",
+            actor, operation, target, window.value(), window.scale());
         //
         // Sanity check
         //
@@ -116,7 +191,14 @@ public class CountRecentOperationsPip extends StdOnapPip {
         //
         // Ok do the database query
         //
-        long operationCount = doDatabaseQuery(actor, operation, target, timeWindowVal, timeWindowScale);
+        var key = new CountKey(window, actor, operation, target);
+        var operationCount = (Long) getCachedResult(key);
+        if (operationCount == null) {
+            operationCount = doDatabaseQuery(actor, operation, target, window);
+            if (operationCount >= 0) {
+                cacheResult(key, operationCount);
+            }
+        }
         //
         // Create and return PipResponse
         //
@@ -129,14 +211,14 @@ public class CountRecentOperationsPip extends StdOnapPip {
         return new StdPIPResponse(pipResponse);
     }
 
-    private long doDatabaseQuery(String actor, String operation, String target, int timeWindowVal,
-                                 String timeWindowScale) {
+    private long doDatabaseQuery(String actor, String operation, String target, TimeWindow window) {
         logger.info("Querying operations history for {} {} {} {} {}",
-            actor, operation, target, timeWindowVal, timeWindowScale);
+            actor, operation, target, window.value(), window.scale());
         //
-        // Only can query if we have an EntityManager
+        // Only can query if we have an EntityManager pool
         //
-        if (em == null) {
+        var emPool = this.pool;
+        if (emPool == null) {
             logger.error("No EntityManager available");
             return -1;
         }
@@ -144,10 +226,28 @@ public class CountRecentOperationsPip extends StdOnapPip {
         // Do the query
         //
         try {
+            var from = Instant.now().minus(window.value(), Objects.requireNonNull(window.unit()));
+            //
+            // Answer from the local counter when it covers the window
+            //
+            var localCounter = this.counter;
+            if (localCounter != null) {
+                long count = localCounter.count(actor, operation, target, from);
+                if (count >= 0) {
+                    return count;
+                }
+            }
+            //
+            // Join the other counts being queried at the same time
+            //
+            var queryBatcher = this.batcher;
+            if (queryBatcher != null) {
+                return queryBatcher.count(actor, operation, target, window.value(), window.unit());
+            }
             //
             // We are expecting a single result
             //
-            return em.createQuery("select count(e) from OperationsHistory e"
+            return emPool.execute(em -> em.createQuery("select count(e) from OperationsHistory e"
                         + " where e.outcome<>'Failure_Guard'"
                         + " and e.actor= ?1"
                         + " and e.operation= ?2"
@@ -158,15 +258,20 @@ public class CountRecentOperationsPip extends StdOnapPip {
                 .setParameter(1, actor)
                 .setParameter(2, operation)
                 .setParameter(3, target)
-                .setParameter(4, Timestamp.from(Instant.now()
-                    .minus(timeWindowVal, Objects.requireNonNull(stringToChronoUnit(timeWindowScale)))))
-                .getSingleResult();
+                .setParameter(4, Timestamp.from(from))
+                .getSingleResult());
         } catch (Exception e) {
             logger.error("Typed query failed ", e);
             return -1;
         }
     }
 
+    private TimeWindow parseTimeWindow(String requestIssuer) {
+        String[] s1 = requestIssuer.split("tw:");
+        String[] s2 = s1[1].split(":");
+        return new TimeWindow(Integer.parseInt(s2[0]), s2[1], stringToChronoUnit(s2[1]));
+    }
+
     private ChronoUnit stringToChronoUnit(String scale) {
         //
         // Compute the time window
@@ -85,13 +85,17 @@ public class GetOperationOutcomePip extends StdOnapPip {
         // Parse out the issuer which denotes the time window
         // Eg: any-prefix:clname:some-controlloop-name
         //
-        String[] s1 = pipRequest.getIssuer().split("clname:");
-        String clname = s1[1];
+        String clname = parseIssuer(pipRequest.getIssuer(),
+            requestIssuer -> requestIssuer.split("clname:")[1]);
         String target = null;
         target = getAttribute(pipFinder, PIP_REQUEST_TARGET);
 
         logger.debug("Going to query DB about: clname={}, target={}", clname, target);
-        String outcome = doDatabaseQuery(clname);
+        var outcome = (String) getCachedResult(clname);
+        if (outcome == null) {
+            outcome = doDatabaseQuery(clname);
+            cacheResult(clname, outcome);
+        }
         logger.info("Query result is: {}", outcome);
 
         var pipResponse = new StdMutablePIPResponse();
@@ -103,9 +107,10 @@ public class GetOperationOutcomePip extends StdOnapPip {
     private String doDatabaseQuery(String clname) {
         logger.info("Querying operations history for {}", clname);
         //
-        // Only can query if we have an EntityManager
+        // Only can query if we have an EntityManager pool
         //
-        if (em == null) {
+        var emPool = this.pool;
+        if (emPool == null) {
             logger.error("No EntityManager available");
             return null;
         }
@@ -116,10 +121,10 @@ public class GetOperationOutcomePip extends StdOnapPip {
             //
             // We are expecting a single result
             //
-            String result = em
+            String result = emPool.execute(em -> em
                 .createQuery("select e.outcome from OperationsHistory e" + " where e.closedLoopName= ?1"
                     + " order by e.starttime desc", String.class)
-                .setParameter(1, clname).setMaxResults(1).getSingleResult();
+                .setParameter(1, clname).setMaxResults(1).getSingleResult());
 
             // Check the value of result
             if (result.equalsIgnoreCase("Started")) {
@@ -0,0 +1,259 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdp.xacml.application.common.operationshistory;
+
+import io.prometheus.client.Histogram;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.onap.policy.pdp.xacml.application.common.std.StdPipEntityManagerPool;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Batches the operation counts that CountRecentOperationsPip is asked for at about the
+ * same time, so that a burst of guard decisions makes one database query rather than
+ * one each. The first count of a batch waits for the batch window, or until the batch
+ * is full, and then runs a single query with a conditional count for each count of the
+ * batch. The other counts of the batch wait for that query, up to a timeout.
+ *
+ * <p>The counts are read back by their position in the result, so they compare actors,
+ * operations and targets with the collation of the database, just as a count queried on
+ * its own does. The query only depends on the size of the batch, rounded up to a power of
+ * two, so that Hibernate parses it once rather than for each batch.
+ */
+public class OperationsHistoryBatcher {
+    private static final Logger logger = LoggerFactory.getLogger(OperationsHistoryBatcher.class);
+
+    protected static final Histogram batchSizeHistogram =
+        Histogram.build().namespace("pdpx").name("pip_db_batch_size")
+            .labelNames("issuer")
+            .buckets(1, 2, 5, 10, 20, 50, 100, 200)
+            .help("The number of distinct counts resolved by a batched PIP query.")
+            .register();
+
+    private final String issuer;
+    private final StdPipEntityManagerPool pool;
+    private final long windowNanos;
+    private final int maxSize;
+    private final long timeoutMs;
+
+    protected final Map<Integer, String> queries = new ConcurrentHashMap<>();
+
+    private Batch open;
+
+    private record Target(String actor, String operation, String target) {
+    }
+
+    private record TimeWindow(int value, ChronoUnit unit) {
+    }
+
+    private record Count(Target target, TimeWindow window) {
+    }
+
+    /**
+     * The counts waiting for the same query.
+     */
+    private static class Batch {
+        private final Map<Count, CompletableFuture<Long>> counts = new LinkedHashMap<>();
+        private final CountDownLatch full = new CountDownLatch(1);
+    }
+
+    /**
+     * Constructs the object.
+     *
+     * @param issuer issuer of the PIP owning the batcher
+     * @param pool pool used to query the operations history
+     * @param window time the first count of a batch waits for others to join it
+     * @param maxSize largest number of distinct counts in a batch
+     * @param timeout time a count waits for the query of its batch
+     */
+    public OperationsHistoryBatcher(String issuer, StdPipEntityManagerPool pool, Duration window, int maxSize,
+            Duration timeout) {
+        if (window.isNegative() || window.isZero() || maxSize <= 0 || timeout.isNegative() || timeout.isZero()) {
+            throw new IllegalArgumentException("The batch window, size and timeout must be positive");
+        }
+        this.issuer = issuer;
+        this.pool = pool;
+        this.windowNanos = window.toNanos();
+        this.maxSize = maxSize;
+        this.timeoutMs = timeout.toMillis();
+    }
+
+    /**
+     * Counts the operations that ended within a time window, together with the other
+     * counts asked for at about the same time.
+     *
+     * @param actor actor of the operations
+     * @param operation operation
+     * @param target target of the operations
+     * @param value length of the time window
+     * @param unit unit of the time window
+     * @return the number of operations, or -1 if the query failed or timed out
+     */
+    public long count(String actor, String operation, String target, int value, ChronoUnit unit) {
+        var count = new Count(new Target(actor, operation, target), new TimeWindow(value, unit));
+        Batch batch;
+        CompletableFuture<Long> result;
+        boolean first;
+        synchronized (this) {
+            first = (open == null);
+            if (first) {
+                open = new Batch();
+            }
+            batch = open;
+            result = batch.counts.computeIfAbsent(count, key -> new CompletableFuture<>());
+            if (batch.counts.size() >= maxSize) {
+                open = null;
+                batch.full.countDown();
+            }
+        }
+        if (first) {
+            query(batch);
+        }
+        try {
+            return result.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.warn("Interrupted waiting for the operations count");
+        } catch (ExecutionException e) {
+            logger.error("Batched operations count failed", e.getCause());
+        } catch (TimeoutException e) {
+            logger.error("Timed out after {}ms waiting for the batched operations count", timeoutMs);
+        }
+        return -1;
+    }
+
+    private void query(Batch batch) {
+        try {
+            batch.full.await(windowNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        //
+        // No more counts join the batch once it is no longer open
+        //
+        Map<Count, CompletableFuture<Long>> counts;
+        synchronized (this) {
+            if (open == batch) {
+                open = null;
+            }
+            counts = batch.counts;
+        }
+        try {
+            batchSizeHistogram.labels(issuer).observe(counts.size());
+            var results = doQuery(new ArrayList<>(counts.keySet()));
+            counts.forEach((count, result) -> result.complete(results.get(count)));
+        } catch (Throwable e) {
+            //
+            // The other counts of the batch must never be left waiting, whatever the failure
+            //
+            counts.values().forEach(result -> result.completeExceptionally(e));
+            throw e;
+        }
+    }
+
+    private Map<Count, Long> doQuery(List<Count> counts) {
+        //
+        // The batch is padded with copies of its last count to a size the query is built
+        // for, so that batches reuse a few queries rather than each being parsed anew
+        //
+        int slots = getSlots(counts.size());
+        var query = queries.computeIfAbsent(slots, OperationsHistoryBatcher::buildQuery);
+        var now = Instant.now();
+        List<Object> parameters = new ArrayList<>(4 * slots + 1);
+        Instant earliest = now;
+        for (var slot = 0; slot < slots; ++slot) {
+            var count = counts.get(Math.min(slot, counts.size() - 1));
+            var from = now.minus(count.window().value(), count.window().unit());
+            earliest = (from.isBefore(earliest) ? from : earliest);
+            parameters.add(count.target().actor());
+            parameters.add(count.target().operation());
+            parameters.add(count.target().target());
+            parameters.add(Timestamp.from(from));
+        }
+        parameters.add(Timestamp.from(earliest));
+
+        Object result = pool.execute(em -> {
+            var untypedQuery = em.createQuery(query);
+            for (var index = 0; index < parameters.size(); ++index) {
+                untypedQuery.setParameter(index + 1, parameters.get(index));
+            }
+            return untypedQuery.getSingleResult();
+        });
+
+        //
+        // A single sum is not returned in an array, and the sums are null when no
+        // operation matched at all
+        //
+        var row = (result instanceof Object[] columns ? columns : new Object[] {result});
+        Map<Count, Long> results = new HashMap<>();
+        for (var column = 0; column < counts.size(); ++column) {
+            var sum = (Number) row[column];
+            results.put(counts.get(column), sum == null ? 0L : sum.longValue());
+        }
+        return results;
+    }
+
+    /**
+     * Gets the number of counts the query of a batch is built for: the next power of two,
+     * up to the largest batch.
+     */
+    private int getSlots(int size) {
+        var slots = 1;
+        while (slots < size) {
+            slots <<= 1;
+        }
+        return Math.min(slots, maxSize);
+    }
+
+    /**
+     * Builds the query for a number of counts. Each count has four parameters, its actor,
+     * operation, target and the start of its window, followed by the start of the longest
+     * window.
+     */
+    private static String buildQuery(int slots) {
+        var query = new StringBuilder("select ");
+        var filter = new StringBuilder();
+        for (var slot = 0; slot < slots; ++slot) {
+            var first = 4 * slot + 1;
+            var matchTarget = "(e.actor= ?" + first + " and e.operation= ?" + (first + 1)
+                + " and e.target= ?" + (first + 2) + ")";
+            query.append(slot == 0 ? "" : ", ").append("sum(case when ").append(matchTarget)
+                .append(" and e.endtime >= ?").append(first + 3).append(" then 1 else 0 end)");
+            filter.append(slot == 0 ? "" : " or ").append(matchTarget);
+        }
+        return query.append(" from OperationsHistory e where e.outcome<>'Failure_Guard' and e.endtime between ?")
+            .append(4 * slots + 1).append(" and CURRENT_TIMESTAMP and (").append(filter).append(')').toString();
+    }
+}
@@ -0,0 +1,320 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdp.xacml.application.common.operationshistory;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.onap.policy.pdp.xacml.application.common.std.StdPipEntityManagerPool;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Counts recent operations in memory, so that CountRecentOperationsPip need not query
+ * the database for every guard decision. Operations are counted in time buckets of a
+ * ring buffer per actor, operation and target, covering the largest window to be
+ * counted.
+ *
+ * <p>The counter is seeded from the operations that ended within the largest window.
+ * Each poll then reads again the operations that ended within the rescan window before
+ * the previous poll, skipping the ids already counted. Ids are not committed in order, so
+ * an operation is counted as long as it is committed within the rescan window of its end
+ * time. Counts are accurate to the bucket: an operation that ended in the bucket holding
+ * the start of a window is counted, even if it ended just before the window. Changes to
+ * operations already counted are not seen.
+ *
+ * <p>Each PIP of every engine would otherwise poll for the same operations, so PIPs
+ * share counters through {@link #share}, one per pool and settings.
+ */
+public class OperationsHistoryCounter {
+    private static final Logger logger = LoggerFactory.getLogger(OperationsHistoryCounter.class);
+
+    private static final String FAILURE_GUARD = "Failure_Guard";
+    private static final int POLL_BATCH_SIZE = 1000;
+
+    private final StdPipEntityManagerPool pool;
+    private final long bucketMs;
+    private final int bucketCount;
+    private final long pollIntervalMs;
+    private final long stalenessMs;
+    private final long rescanMs;
+    private final Map<Key, Buckets> counters = new ConcurrentHashMap<>();
+
+    //
+    // End times of the operations already counted, by id
+    //
+    private final Map<Long, Long> counted = new HashMap<>();
+
+    private ScheduledExecutorService poller;
+    private volatile long lastPollMs = 0;
+
+    //
+    // Shared counters, guarded by the class
+    //
+    private static final Map<SharedKey, OperationsHistoryCounter> sharedCounters = new HashMap<>();
+
+    private SharedKey sharedKey;
+    private int references = 1;
+
+    private record Key(String actor, String operation, String target) {
+    }
+
+    private record SharedKey(StdPipEntityManagerPool pool, Duration maxWindow, Duration bucket,
+            Duration pollInterval, Duration staleness, Duration rescan) {
+    }
+
+    /**
+     * Constructs the object.
+     *
+     * @param pool pool used to query the operations history
+     * @param maxWindow largest window to be counted
+     * @param bucket width of a time bucket
+     * @param pollInterval time between polls for new operations
+     * @param staleness time after the last successful poll beyond which counts are no
+     *        longer given
+     * @param rescan time before the previous poll from which operations are read again
+     */
+    public OperationsHistoryCounter(StdPipEntityManagerPool pool, Duration maxWindow, Duration bucket,
+            Duration pollInterval, Duration staleness, Duration rescan) {
+        if (bucket.toMillis() <= 0 || maxWindow.compareTo(bucket) < 0) {
+            throw new IllegalArgumentException("The window must hold at least one positive bucket");
+        }
+        if (rescan.isNegative()) {
+            throw new IllegalArgumentException("The rescan window must not be negative");
+        }
+        this.pool = pool;
+        this.bucketMs = bucket.toMillis();
+        // one extra bucket for the partial bucket at the start of the window
+        this.bucketCount = (int) ((maxWindow.toMillis() + bucketMs - 1) / bucketMs) + 1;
+        this.pollIntervalMs = pollInterval.toMillis();
+        this.stalenessMs = staleness.toMillis();
+        this.rescanMs = rescan.toMillis();
+    }
+
+    /**
+     * Gets the counter polling a pool, creating and starting it if no PIP shares it yet.
+     * PIPs share a counter when they use the same pool and settings. Each call must be
+     * matched by a call to {@link #release()}.
+     *
+     * @param name name of the PIP, used to name the polling thread
+     * @param pool pool used to query the operations history
+     * @param maxWindow largest window to be counted
+     * @param bucket width of a time bucket
+     * @param pollInterval time between polls for new operations
+     * @param staleness time after the last successful poll beyond which counts are no
+     *        longer given
+     * @param rescan time before the previous poll from which operations are read again
+     * @return the shared counter
+     */
+    public static OperationsHistoryCounter share(String name, StdPipEntityManagerPool pool, Duration maxWindow,
+            Duration bucket, Duration pollInterval, Duration staleness, Duration rescan) {
+        var key = new SharedKey(pool, maxWindow, bucket, pollInterval, staleness, rescan);
+        synchronized (OperationsHistoryCounter.class) {
+            var counter = sharedCounters.get(key);
+            if (counter != null) {
+                ++counter.references;
+                return counter;
+            }
+            counter = new OperationsHistoryCounter(pool, maxWindow, bucket, pollInterval, staleness, rescan);
+            counter.sharedKey = key;
+            sharedCounters.put(key, counter);
+            counter.start(name);
+            return counter;
+        }
+    }
+
+    /**
+     * Releases the counter, stopping it once no PIP shares it any longer.
+     */
+    public void release() {
+        synchronized (OperationsHistoryCounter.class) {
+            if (--references > 0) {
+                return;
+            }
+            if (sharedKey != null) {
+                sharedCounters.remove(sharedKey, this);
+            }
+        }
+        stop();
+    }
+
+    /**
+     * Starts polling the operations history.
+     *
+     * @param name name of the PIP, used to name the polling thread
+     */
+    public synchronized void start(String name) {
+        if (poller != null) {
+            return;
+        }
+        poller = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            var thread = new Thread(runnable, "pdpx-count-" + name);
+            thread.setDaemon(true);
+            return thread;
+        });
+        poller.scheduleWithFixedDelay(this::poll, 0, pollIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops polling the operations history.
+     */
+    public synchronized void stop() {
+        if (poller != null) {
+            poller.shutdownNow();
+            poller = null;
+        }
+    }
+
+    /**
+     * Counts the operations that ended since the given time.
+     *
+     * @param actor actor of the operations
+     * @param operation operation
+     * @param target target of the operations
+     * @param from start of the window
+     * @return the number of operations, or -1 if the window is larger than the counter
+     *         covers or the counter is stale
+     */
+    public long count(String actor, String operation, String target, Instant from) {
+        long nowMs = System.currentTimeMillis();
+        if (nowMs - lastPollMs > stalenessMs) {
+            return -1;
+        }
+        long fromBucket = from.toEpochMilli() / bucketMs;
+        long nowBucket = nowMs / bucketMs;
+        if (nowBucket - fromBucket >= bucketCount) {
+            return -1;
+        }
+        var buckets = counters.get(new Key(actor, operation, target));
+        return (buckets == null ? 0 : buckets.sum(fromBucket, nowBucket));
+    }
+
+    /**
+     * Polls the operations history for the operations that ended since the rescan window
+     * before the previous poll. The first poll seeds the counter.
+     *
+     * @return {@code true} if the poll succeeded
+     */
+    protected synchronized boolean poll() {
+        long pollStartMs = System.currentTimeMillis();
+        long oldestBucket = pollStartMs / bucketMs - bucketCount + 1;
+        long oldestMs = oldestBucket * bucketMs;
+        long sinceMs = (lastPollMs == 0 ? oldestMs : Math.max(oldestMs, lastPollMs - rescanMs));
+        try {
+            long afterId = Long.MIN_VALUE;
+            List<Object[]> rows;
+            do {
+                rows = fetch(afterId, new Timestamp(sinceMs));
+                for (Object[] row : rows) {
+                    afterId = ((Number) row[0]).longValue();
+                    add(afterId, row, oldestBucket);
+                }
+            } while (rows.size() == POLL_BATCH_SIZE);
+        } catch (RuntimeException e) {
+            logger.error("Polling operations history failed", e);
+            return false;
+        }
+        //
+        // The next poll reads nothing that ended before this
+        //
+        long nextSinceMs = Math.max(oldestMs, pollStartMs - rescanMs);
+        counted.values().removeIf(endtime -> endtime < nextSinceMs);
+        counters.values().removeIf(buckets -> buckets.isOlderThan(oldestBucket));
+        lastPollMs = pollStartMs;
+        return true;
+    }
+
+    private List<Object[]> fetch(long afterId, Timestamp endedAfter) {
+        return pool.execute(em -> em.createQuery("select e.id, e.actor, e.operation, e.target,"
+                    + " e.endtime from OperationsHistory e"
+                    + " where e.id > ?1"
+                    + " and e.endtime >= ?2"
+                    + " and e.outcome <> '" + FAILURE_GUARD + "'"
+                    + " order by e.id", Object[].class)
+            .setParameter(1, afterId)
+            .setParameter(2, endedAfter)
+            .setMaxResults(POLL_BATCH_SIZE)
+            .getResultList());
+    }
+
+    private void add(long id, Object[] row, long oldestBucket) {
+        if (!(row[4] instanceof Date endtime)) {
+            return;
+        }
+        long bucket = endtime.getTime() / bucketMs;
+        if (bucket < oldestBucket || counted.putIfAbsent(id, endtime.getTime()) != null) {
+            return;
+        }
+        counters.computeIfAbsent(new Key((String) row[1], (String) row[2], (String) row[3]),
+            key -> new Buckets(bucketCount)).add(bucket);
+    }
+
+    /**
+     * Ring buffer of counts, each slot tagged with the bucket it is counting.
+     */
+    private static class Buckets {
+        private final long[] ids;
+        private final int[] counts;
+        private long newest = Long.MIN_VALUE;
+
+        Buckets(int size) {
+            ids = new long[size];
+            counts = new int[size];
+        }
+
+        synchronized void add(long bucket) {
+            var slot = (int) Math.floorMod(bucket, (long) ids.length);
+            if (ids[slot] != bucket) {
+                if (ids[slot] > bucket && counts[slot] > 0) {
+                    // the slot already counts a newer bucket
+                    return;
+                }
+                ids[slot] = bucket;
+                counts[slot] = 0;
+            }
+            counts[slot]++;
+            newest = Math.max(newest, bucket);
+        }
+
+        synchronized long sum(long fromBucket, long toBucket) {
+            long sum = 0;
+            for (long bucket = fromBucket; bucket <= toBucket; ++bucket) {
+                var slot = (int) Math.floorMod(bucket, (long) ids.length);
+                if (ids[slot] == bucket) {
+                    sum += counts[slot];
+                }
+            }
+            return sum;
+        }
+
+        synchronized boolean isOlderThan(long bucket) {
+            return newest < bucket;
+        }
+    }
+}
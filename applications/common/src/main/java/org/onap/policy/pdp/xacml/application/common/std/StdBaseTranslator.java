@@ -222,15 +222,33 @@ public abstract class StdBaseTranslator implements ToscaPolicyTranslator {
      */
     protected <T> T addObligation(T ruleOrPolicy, String policyId, String jsonPolicy, Integer weight,
                                   String policyType) {
+        return addObligation(ruleOrPolicy, policyId, null, jsonPolicy, weight, policyType);
+    }
+
+    /**
+     * addObligation - adds a json policy as an obligation, along with the policy version so that
+     * decisions can share the decoded content of the policy.
+     *
+     * @param <T>           RuleType, PolicyType, PolicySetType object
+     * @param ruleOrPolicy  Incoming RuleType, PolicyType, PolicySetType object
+     * @param policyId      The policy-id
+     * @param policyVersion The policy version (optional)
+     * @param jsonPolicy    JSON String representation of policy.
+     * @param weight        Weighting for the policy (optional)
+     * @param policyType    The policy type (optional)
+     * @return Return the Incoming RuleType, PolicyType, PolicySetType object for convenience.
+     */
+    protected <T> T addObligation(T ruleOrPolicy, String policyId, String policyVersion, String jsonPolicy,
+                                  Integer weight, String policyType) {
         //
         // Creating obligation for returning policy
         //
-        LOGGER.info("Obligation Policy id: {} type: {} weight: {} policy:{}{}", policyId, policyType, weight,
-            XacmlPolicyUtils.LINE_SEPARATOR, jsonPolicy);
+        LOGGER.info("Obligation Policy id: {} version: {} type: {} weight: {} policy:{}{}", policyId, policyVersion,
+            policyType, weight, XacmlPolicyUtils.LINE_SEPARATOR, jsonPolicy);
         //
         // Create our OnapObligation
         //
-        var onapObligation = new OnapObligation(policyId, jsonPolicy, policyType, weight);
+        var onapObligation = new OnapObligation(policyId, policyVersion, jsonPolicy, policyType, weight);
         //
         // Generate the obligation
         //
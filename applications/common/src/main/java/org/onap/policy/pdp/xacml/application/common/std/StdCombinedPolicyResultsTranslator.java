@@ -44,6 +44,7 @@ import org.onap.policy.models.decisions.concepts.DecisionRequest;
 import org.onap.policy.models.decisions.concepts.DecisionResponse;
 import org.onap.policy.models.tosca.authorative.concepts.ToscaPolicy;
 import org.onap.policy.pdp.xacml.application.common.OnapObligation;
+import org.onap.policy.pdp.xacml.application.common.PolicyContentCache;
 import org.onap.policy.pdp.xacml.application.common.ToscaDictionary;
 import org.onap.policy.pdp.xacml.application.common.ToscaPolicyConversionException;
 import org.onap.policy.pdp.xacml.application.common.ToscaPolicyTranslatorUtils;
@@ -112,7 +113,7 @@ public class StdCombinedPolicyResultsTranslator extends StdBaseTranslator {
         } catch (CoderException e) {
             throw new ToscaPolicyConversionException(e);
         }
-        addObligation(rule, policyId, jsonPolicy, null, toscaPolicy.getType());
+        addObligation(rule, policyId, toscaPolicy.getVersion(), jsonPolicy, null, toscaPolicy.getType());
         //
         // Add the rule to the policy
         //
@@ -181,7 +182,8 @@ public class StdCombinedPolicyResultsTranslator extends StdBaseTranslator {
         // Get the attributes we care about
         //
         String policyId = onapObligation.getPolicyId();
-        Map<String, Object> policyContent = onapObligation.getPolicyContentAsMap();
+        Map<String, Object> policyContent = PolicyContentCache.get(policyId, onapObligation.getPolicyVersion(),
+            onapObligation.getPolicyContent());
         //
         // Sanity check that we got the attributes we care about. NOTE: This translator
         // ensures that these are set when convertPolicy is called.
@@ -0,0 +1,296 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdp.xacml.application.common.std;
+
+import com.att.research.xacml.api.Response;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalNotification;
+import com.google.gson.Gson;
+import io.prometheus.client.Counter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import org.apache.commons.lang3.tuple.Pair;
+import org.onap.policy.models.decisions.concepts.DecisionRequest;
+import org.onap.policy.models.decisions.concepts.DecisionResponse;
+import org.onap.policy.pdp.xacml.application.common.RenderedPolicy;
+
+/**
+ * Caches the decisions made by an application. Decisions are keyed on a canonical
+ * form of the DecisionRequest and the query parameters, so the same request always
+ * maps to the same entry regardless of the order of its maps.
+ *
+ * <p>Each cached decision is stamped with the policy epoch it was made in. The
+ * application bumps the epoch whenever its engines change, which makes every
+ * decision cached before then stale.
+ */
+public class StdDecisionCache {
+    protected static final String PROMETHEUS_NAMESPACE = "pdpx";
+    protected static final String APPLICATION = "application";
+
+    protected static final Counter hitsCounter =
+        Counter.build().namespace(PROMETHEUS_NAMESPACE).name("decision_cache_hits")
+            .labelNames(APPLICATION)
+            .help("The number of decisions served from the decision cache.")
+            .register();
+
+    protected static final Counter missesCounter =
+        Counter.build().namespace(PROMETHEUS_NAMESPACE).name("decision_cache_misses")
+            .labelNames(APPLICATION)
+            .help("The number of decisions not found in the decision cache.")
+            .register();
+
+    protected static final Counter evictionsCounter =
+        Counter.build().namespace(PROMETHEUS_NAMESPACE).name("decision_cache_evictions")
+            .labelNames(APPLICATION)
+            .help("The number of decisions evicted from the decision cache by size or age.")
+            .register();
+
+    //
+    // Totals across all the applications, for the statistics report
+    //
+    private static final LongAdder totalHits = new LongAdder();
+    private static final LongAdder totalMisses = new LongAdder();
+    private static final LongAdder totalEvictions = new LongAdder();
+
+    private static final Gson gson = new Gson();
+
+    private final String applicationName;
+    private final Cache<String, CachedDecision> cache;
+    private final AtomicLong epoch = new AtomicLong();
+
+    /**
+     * Constructs the object.
+     *
+     * @param applicationName name of the application making the decisions
+     * @param maximumSize maximum number of decisions to cache
+     * @param ttlSeconds number of seconds a decision stays cached
+     */
+    public StdDecisionCache(String applicationName, long maximumSize, long ttlSeconds) {
+        this.applicationName = applicationName;
+        this.cache = CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+                .<String, CachedDecision>removalListener(this::removed)
+                .build();
+    }
+
+    /**
+     * Gets the current policy epoch. This must be read before making a decision that
+     * will be cached.
+     *
+     * @return policy epoch
+     */
+    public long getEpoch() {
+        return epoch.get();
+    }
+
+    /**
+     * Gets a cached decision. A copy of the DecisionResponse is returned, so the caller
+     * is free to modify it.
+     *
+     * @param key key built by {@link #key(DecisionRequest, Map)}
+     * @return the decision or null if it is not cached
+     */
+    public Pair<DecisionResponse, Response> get(String key) {
+        var cached = cache.getIfPresent(key);
+        if (cached == null || cached.epoch != epoch.get()) {
+            missesCounter.labels(applicationName).inc();
+            totalMisses.increment();
+            return null;
+        }
+        hitsCounter.labels(applicationName).inc();
+        totalHits.increment();
+        return Pair.of(copy(cached.decisionResponse), cached.xacmlResponse);
+    }
+
+    /**
+     * Caches a decision. The decision is not cached if the epoch has changed since it
+     * was made.
+     *
+     * @param key key built by {@link #key(DecisionRequest, Map)}
+     * @param decisionEpoch epoch read before the decision was made
+     * @param decision the decision
+     */
+    public void put(String key, long decisionEpoch, Pair<DecisionResponse, Response> decision) {
+        if (decisionEpoch != epoch.get() || decision.getKey() == null || decision.getValue() == null) {
+            return;
+        }
+        cache.put(key, new CachedDecision(decisionEpoch, copy(decision.getKey()), decision.getValue()));
+    }
+
+    /**
+     * Bumps the policy epoch and drops all of the cached decisions.
+     */
+    public void invalidate() {
+        epoch.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    public long size() {
+        return cache.size();
+    }
+
+    public static long getTotalHitCount() {
+        return totalHits.sum();
+    }
+
+    public static long getTotalMissCount() {
+        return totalMisses.sum();
+    }
+
+    public static long getTotalEvictionCount() {
+        return totalEvictions.sum();
+    }
+
+    /**
+     * Resets the totals across all the applications.
+     */
+    public static void resetTotals() {
+        totalHits.reset();
+        totalMisses.reset();
+        totalEvictions.reset();
+    }
+
+    /**
+     * Builds the cache key for a decision. The request id is left out since it is
+     * unique to each request.
+     *
+     * @param request DecisionRequest
+     * @param queryParams query parameters of the request, may be null
+     * @return canonical key
+     */
+    public static String key(DecisionRequest request, Map<String, String[]> queryParams) {
+        Map<String, Object> key = new TreeMap<>();
+        key.put("onapName", request.getOnapName());
+        key.put("onapComponent", request.getOnapComponent());
+        key.put("onapInstance", request.getOnapInstance());
+        key.put("action", request.getAction());
+        key.put("context", canonical(request.getContext()));
+        key.put("resource", canonical(request.getResource()));
+        key.put("currentDateTime", Objects.toString(request.getCurrentDateTime(), null));
+        key.put("currentDate", Objects.toString(request.getCurrentDate(), null));
+        key.put("currentTime", Objects.toString(request.getCurrentTime(), null));
+        key.put("timeZone", Objects.toString(request.getTimeZone(), null));
+        if (queryParams != null) {
+            Map<String, Object> params = new TreeMap<>();
+            for (Entry<String, String[]> entry : queryParams.entrySet()) {
+                params.put(entry.getKey(), entry.getValue() == null ? null : Arrays.asList(entry.getValue()));
+            }
+            key.put("queryParams", params);
+        }
+        return gson.toJson(key);
+    }
+
+    private static Object canonical(Object value) {
+        if (value instanceof Map) {
+            Map<String, Object> sorted = new TreeMap<>();
+            for (Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                sorted.put(String.valueOf(entry.getKey()), canonical(entry.getValue()));
+            }
+            return sorted;
+        }
+        if (value instanceof Collection) {
+            List<Object> list = new ArrayList<>();
+            for (Object item : (Collection<?>) value) {
+                list.add(canonical(item));
+            }
+            return list;
+        }
+        return value;
+    }
+
+    /**
+     * Copies a DecisionResponse, including its nested maps and lists, since applications
+     * may modify the response they are given.
+     *
+     * @param response DecisionResponse to copy
+     * @return the copy
+     */
+    public static DecisionResponse copy(DecisionResponse response) {
+        var copy = new DecisionResponse();
+        copy.setStatus(response.getStatus());
+        copy.setMessage(response.getMessage());
+        copy.setAdvice(copyMap(response.getAdvice()));
+        copy.setObligations(copyMap(response.getObligations()));
+        copy.setPolicies(copyMap(response.getPolicies()));
+        copy.setAttributes(copyMap(response.getAttributes()));
+        return copy;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> copyMap(Map<String, Object> map) {
+        return (Map<String, Object>) copyValue(map);
+    }
+
+    private static Object copyValue(Object value) {
+        if (value instanceof RenderedPolicy) {
+            //
+            // Immutable, so it can be shared
+            //
+            return value;
+        }
+        if (value instanceof Map) {
+            Map<Object, Object> copy = new LinkedHashMap<>();
+            for (Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                copy.put(entry.getKey(), copyValue(entry.getValue()));
+            }
+            return copy;
+        }
+        if (value instanceof List) {
+            List<Object> copy = new ArrayList<>();
+            for (Object item : (List<?>) value) {
+                copy.add(copyValue(item));
+            }
+            return copy;
+        }
+        return value;
+    }
+
+    private void removed(RemovalNotification<String, CachedDecision> notification) {
+        if (notification.wasEvicted()) {
+            evictionsCounter.labels(applicationName).inc();
+            totalEvictions.increment();
+        }
+    }
+
+    private static class CachedDecision {
+        private final long epoch;
+        private final DecisionResponse decisionResponse;
+        private final Response xacmlResponse;
+
+        private CachedDecision(long epoch, DecisionResponse decisionResponse, Response xacmlResponse) {
+            this.epoch = epoch;
+            this.decisionResponse = decisionResponse;
+            this.xacmlResponse = xacmlResponse;
+        }
+    }
+}
@@ -32,12 +32,8 @@ import com.att.research.xacml.std.IdentifierImpl;
 import com.att.research.xacml.util.XACMLPolicyWriter;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
@@ -55,7 +51,6 @@ import org.apache.commons.lang3.tuple.Pair;
 import org.onap.policy.common.endpoints.http.client.HttpClient;
 import org.onap.policy.common.utils.coder.CoderException;
 import org.onap.policy.common.utils.coder.StandardCoder;
-import org.onap.policy.common.utils.coder.StandardYamlCoder;
 import org.onap.policy.models.decisions.concepts.DecisionRequest;
 import org.onap.policy.models.decisions.concepts.DecisionResponse;
 import org.onap.policy.models.tosca.authorative.concepts.ToscaConceptIdentifier;
@@ -63,10 +58,8 @@ import org.onap.policy.models.tosca.authorative.concepts.ToscaDataType;
 import org.onap.policy.models.tosca.authorative.concepts.ToscaPolicy;
 import org.onap.policy.models.tosca.authorative.concepts.ToscaPolicyType;
 import org.onap.policy.models.tosca.authorative.concepts.ToscaServiceTemplate;
-import org.onap.policy.models.tosca.simple.concepts.JpaToscaServiceTemplate;
 import org.onap.policy.pdp.xacml.application.common.OnapObligation;
-import org.onap.policy.pdp.xacml.application.common.PolicyApiCaller;
-import org.onap.policy.pdp.xacml.application.common.PolicyApiException;
+import org.onap.policy.pdp.xacml.application.common.PolicyContentCache;
 import org.onap.policy.pdp.xacml.application.common.ToscaDictionary;
 import org.onap.policy.pdp.xacml.application.common.ToscaPolicyConversionException;
 import org.onap.policy.pdp.xacml.application.common.ToscaPolicyTranslatorUtils;
@@ -87,10 +80,12 @@ import org.slf4j.LoggerFactory;
 public class StdMatchableTranslator extends StdBaseTranslator implements MatchableCallback {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(StdMatchableTranslator.class);
-    private static final StandardYamlCoder standardYamlCoder = new StandardYamlCoder();
 
-    private final Map<ToscaConceptIdentifier, ToscaServiceTemplate> matchablePolicyTypes = new HashMap<>();
-    private final Map<ToscaConceptIdentifier, MatchablePolicyType> matchableCache = new HashMap<>();
+    //
+    // Policy types and their matchables are shared by all of the translators
+    //
+    @Setter
+    private StdPolicyTypeRepository policyTypeRepository = StdPolicyTypeRepository.getInstance();
 
     @Setter
     private HttpClient apiClient;
@@ -185,7 +180,8 @@ public class StdMatchableTranslator extends StdBaseTranslator implements Matchab
         //
         String policyId = onapObligation.getPolicyId();
         String policyType = onapObligation.getPolicyType();
-        Map<String, Object> policyContent = onapObligation.getPolicyContentAsMap();
+        Map<String, Object> policyContent = PolicyContentCache.get(policyId, onapObligation.getPolicyVersion(),
+            onapObligation.getPolicyContent());
         int policyWeight = onapObligation.getWeight();
         //
         // If the Policy Type exists, get the weight map.
@@ -287,7 +283,8 @@ public class StdMatchableTranslator extends StdBaseTranslator implements Matchab
         //
         // Add it as an obligation
         //
-        addObligation(newPolicyType, policyName, jsonPolicy, pairGenerated.getRight(), toscaPolicy.getType());
+        addObligation(newPolicyType, policyName, toscaPolicy.getVersion(), jsonPolicy, pairGenerated.getRight(),
+            toscaPolicy.getType());
         //
         // Now create the Permit Rule.
         //
@@ -372,27 +369,11 @@ public class StdMatchableTranslator extends StdBaseTranslator implements Matchab
         //
         var target = new TargetType();
         //
-        // See if we have a matchable in the cache already
-        //
-        var matchablePolicyType = matchableCache.get(policy.getTypeIdentifier());
-        //
-        // If not found, create one
+        // See if we have a matchable in the repository already, if not create one
         //
-        if (matchablePolicyType == null) {
-            //
-            // Our callback
-            //
-            var myCallback = new MyMatchableCallback(this, template);
-            //
-            // Create the matchable
-            //
-            matchablePolicyType = new MatchablePolicyType(
-                template.getPolicyTypes().get(policy.getType()), myCallback);
-            //
-            // Cache it
-            //
-            matchableCache.put(policy.getTypeIdentifier(), matchablePolicyType);
-        }
+        var matchablePolicyType = policyTypeRepository.getMatchable(policy.getTypeIdentifier(),
+            () -> new MatchablePolicyType(template.getPolicyTypes().get(policy.getType()),
+                new MyMatchableCallback(this, template)));
         //
         // Fill in the target type with potential matchables
         //
@@ -460,6 +441,16 @@ public class StdMatchableTranslator extends StdBaseTranslator implements Matchab
         return weight;
     }
 
+    /**
+     * Fetches the policy types, and the types they derive from, ahead of translating
+     * policies of those types.
+     *
+     * @param policyTypeIds ToscaConceptIdentifiers of the policy types
+     */
+    public void prefetchPolicyTypes(Collection<ToscaConceptIdentifier> policyTypeIds) {
+        policyTypeRepository.prefetch(policyTypeIds, this.pathForData, this.apiClient);
+    }
+
     /**
      * findPolicyType - given the ToscaConceptIdentifier, finds it in memory, or
      * then tries to find it either locally on disk or pull it from the Policy
@@ -469,133 +460,6 @@ public class StdMatchableTranslator extends StdBaseTranslator implements Matchab
      * @return ToscaPolicyType object. Can be null if failure.
      */
     protected ToscaServiceTemplate findPolicyType(ToscaConceptIdentifier policyTypeId) {
-        //
-        // Is it loaded in memory?
-        //
-        ToscaServiceTemplate policyTemplate = this.matchablePolicyTypes.get(policyTypeId);
-        if (policyTemplate == null) {
-            //
-            // Load the policy
-            //
-            policyTemplate = this.loadPolicyType(policyTypeId);
-            //
-            // Save it
-            //
-            if (policyTemplate != null) {
-                this.matchablePolicyTypes.put(policyTypeId, policyTemplate);
-            }
-        }
-        //
-        // Yep return it
-        //
-        return policyTemplate;
-    }
-
-    /**
-     * loadPolicyType - Tries to load the given ToscaConceptIdentifier from local
-     * storage. If it does not exist, will then attempt to pull from Policy Lifecycle
-     * API.
-     *
-     * @param policyTypeId ToscaConceptIdentifier input
-     * @return ToscaPolicyType object. Null if failure.
-     */
-    protected ToscaServiceTemplate loadPolicyType(ToscaConceptIdentifier policyTypeId) {
-        //
-        // Construct what the file name should be
-        //
-        var policyTypePath = this.constructLocalFilePath(policyTypeId);
-        //
-        // See if it exists
-        //
-        byte[] bytes;
-        try {
-            //
-            // If it exists locally, read the bytes in
-            //
-            bytes = Files.readAllBytes(policyTypePath);
-        } catch (IOException e) {
-            //
-            // Does not exist locally, so let's GET it from the policy api
-            //
-            LOGGER.error("PolicyType not found in data area yet {}", policyTypePath, e);
-            //
-            // So let's pull it from API REST call and save it locally
-            //
-            return this.pullPolicyType(policyTypeId, policyTypePath);
-        }
-        //
-        // Success - we have read locally the policy type. Now bring it into our
-        // return object.
-        //
-        LOGGER.info("Read in local policy type {}", policyTypePath.toAbsolutePath());
-        try {
-            //
-            // Decode the template
-            //
-            ToscaServiceTemplate template = standardYamlCoder.decode(new String(bytes, StandardCharsets.UTF_8),
-                ToscaServiceTemplate.class);
-            //
-            // Ensure all the fields are setup correctly
-            //
-            var jtst = new JpaToscaServiceTemplate();
-            jtst.fromAuthorative(template);
-            return jtst.toAuthorative();
-        } catch (CoderException e) {
-            LOGGER.error("Failed to decode tosca template for {}", policyTypePath, e);
-        }
-        //
-        // Hopefully we never get here
-        //
-        LOGGER.error("Failed to find/load policy type {}", policyTypeId);
-        return null;
-    }
-
-    /**
-     * pullPolicyType - pulls the given ToscaConceptIdentifier from the Policy Lifecycle API.
-     * If successful, will store it locally given the policyTypePath.
-     *
-     * @param policyTypeId   ToscaConceptIdentifier
-     * @param policyTypePath Path object to store locally
-     * @return ToscaPolicyType object. Null if failure.
-     */
-    protected synchronized ToscaServiceTemplate pullPolicyType(ToscaConceptIdentifier policyTypeId,
-                                                               Path policyTypePath) {
-        //
-        // This is what we return
-        //
-        ToscaServiceTemplate policyTemplate = null;
-        try {
-            var api = new PolicyApiCaller(this.apiClient);
-
-            policyTemplate = api.getPolicyType(policyTypeId);
-        } catch (PolicyApiException e) {
-            LOGGER.error("Failed to make API call", e);
-            return null;
-        }
-        LOGGER.info("Successfully pulled {}", policyTypeId);
-        //
-        // Store it locally
-        //
-        try {
-            standardYamlCoder.encode(policyTypePath.toFile(), policyTemplate);
-        } catch (CoderException e) {
-            LOGGER.error("Failed to store {} locally to {}", policyTypeId, policyTypePath, e);
-        }
-        //
-        // Done return the policy type
-        //
-        return policyTemplate;
-    }
-
-    /**
-     * constructLocalFilePath - common method to ensure the name of the local file for the
-     * policy type is the same.
-     *
-     * @param policyTypeId ToscaConceptIdentifier
-     * @return Path object
-     */
-    protected Path constructLocalFilePath(ToscaConceptIdentifier policyTypeId) {
-        return Paths.get(this.pathForData.toAbsolutePath().toString(), policyTypeId.getName() + "-"
-            + policyTypeId.getVersion() + ".yaml");
+        return policyTypeRepository.get(policyTypeId, this.pathForData, this.apiClient);
     }
 }
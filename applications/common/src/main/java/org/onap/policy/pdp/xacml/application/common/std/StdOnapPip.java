@@ -36,14 +36,18 @@ import com.att.research.xacml.std.datatypes.DataTypes;
 import com.att.research.xacml.std.pip.StdMutablePIPResponse;
 import com.att.research.xacml.std.pip.StdPIPRequest;
 import com.att.research.xacml.std.pip.engines.StdConfigurableEngine;
-import jakarta.persistence.EntityManager;
-import jakarta.persistence.EntityManagerFactory;
-import jakarta.persistence.Persistence;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.prometheus.client.Counter;
 import java.math.BigInteger;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.onap.policy.pdp.xacml.application.common.ToscaDictionary;
@@ -69,12 +73,50 @@ public abstract class StdOnapPip extends StdConfigurableEngine {
         ToscaDictionary.ID_RESOURCE_GUARD_TARGETID,
         XACML3.ID_DATATYPE_STRING);
 
+    //
+    // Issuer properties sizing the database pool, and Hibernate's cache of parsed queries.
+    // Prepared statements are cached by the JDBC driver, through its own properties.
+    //
+    public static final String POOL_SIZE_PROPERTY = ".pool.size";
+    public static final String POOL_ACQUIRE_TIMEOUT_PROPERTY = ".pool.acquireTimeoutMs";
+    public static final String POOL_QUERY_PLAN_CACHE_PROPERTY = ".pool.queryPlanCacheSize";
+
+    protected static final int DEFAULT_POOL_SIZE = 10;
+    protected static final int DEFAULT_POOL_ACQUIRE_TIMEOUT_MS = 5000;
+    protected static final int DEFAULT_POOL_QUERY_PLAN_CACHE_SIZE = 64;
+
+    //
+    // Issuer properties of the result cache, which is disabled without a TTL
+    //
+    public static final String CACHE_TTL_PROPERTY = ".cache.ttlMs";
+    public static final String CACHE_SIZE_PROPERTY = ".cache.maxSize";
+
+    protected static final int DEFAULT_CACHE_SIZE = 10000;
+    protected static final int MAX_PARSED_ISSUERS = 1000;
+
+    protected static final String PROMETHEUS_NAMESPACE = "pdpx";
+    protected static final String ISSUER = "issuer";
+
+    protected static final Counter cacheHitsCounter =
+        Counter.build().namespace(PROMETHEUS_NAMESPACE).name("pip_cache_hits")
+            .labelNames(ISSUER)
+            .help("The number of PIP lookups served from the PIP result cache.")
+            .register();
+
+    protected static final Counter cacheMissesCounter =
+        Counter.build().namespace(PROMETHEUS_NAMESPACE).name("pip_cache_misses")
+            .labelNames(ISSUER)
+            .help("The number of PIP lookups not found in the PIP result cache.")
+            .register();
+
     protected Properties properties;
-    protected EntityManagerFactory emf;
-    protected EntityManager em;
+    protected StdPipEntityManagerPool pool;
+    protected Cache<Object, Object> results;
     protected String issuer;
     protected boolean shutdown = false;
 
+    private final Map<String, Object> parsedIssuers = new ConcurrentHashMap<>();
+
     @Override
     public Collection<PIPRequest> attributesProvided() {
         return Collections.emptyList();
@@ -93,9 +135,24 @@ public abstract class StdOnapPip extends StdConfigurableEngine {
         logger.info("Configuring historyDb PIP {}", properties);
         this.properties = properties;
         //
-        // Create our entity manager
+        // Cache the results of lookups, if they have a TTL
         //
-        em = null;
+        var ttlMs = getIntProperty(CACHE_TTL_PROPERTY, 0);
+        if (ttlMs > 0) {
+            results = CacheBuilder.newBuilder()
+                .maximumSize(getIntProperty(CACHE_SIZE_PROPERTY, DEFAULT_CACHE_SIZE))
+                .expireAfterWrite(ttlMs, TimeUnit.MILLISECONDS)
+                .build();
+        } else {
+            results = null;
+        }
+        //
+        // Share the entity manager pool of the persistence unit
+        //
+        if (pool != null) {
+            pool.release();
+            pool = null;
+        }
         try {
             //
             // In case there are any overloaded properties for the JPA
@@ -104,11 +161,22 @@ public abstract class StdOnapPip extends StdConfigurableEngine {
             emProperties.putAll(properties);
 
             //
-            // Create the entity manager factory
+            // Size the JDBC connection pool and query plan cache, unless the
+            // properties already set them
+            //
+            var poolSize = getIntProperty(POOL_SIZE_PROPERTY, DEFAULT_POOL_SIZE);
+            var acquireTimeoutMs = getIntProperty(POOL_ACQUIRE_TIMEOUT_PROPERTY,
+                DEFAULT_POOL_ACQUIRE_TIMEOUT_MS);
+            var queryPlanCacheSize = getIntProperty(POOL_QUERY_PLAN_CACHE_PROPERTY,
+                DEFAULT_POOL_QUERY_PLAN_CACHE_SIZE);
+            emProperties.putIfAbsent("hibernate.connection.pool_size", String.valueOf(poolSize));
+            emProperties.putIfAbsent("hibernate.query.plan_cache_max_size", String.valueOf(queryPlanCacheSize));
+
+            //
+            // The PIPs of every engine of the application use the same pool
             //
-            emf = Persistence.createEntityManagerFactory(
-                properties.getProperty(this.issuer + ".persistenceunit"), emProperties);
-            em = emf.createEntityManager();
+            pool = StdPipEntityManagerPool.share(properties.getProperty(this.issuer + ".persistenceunit"),
+                emProperties, poolSize, acquireTimeoutMs);
         } catch (Exception e) {
             logger.error("Persistence failed {} operations history db", e.getLocalizedMessage(), e);
         }
@@ -116,13 +184,95 @@ public abstract class StdOnapPip extends StdConfigurableEngine {
 
     @Override
     public synchronized void shutdown() {
-        if (this.em != null) {
-            this.em.close();
-            this.em = null;
+        if (this.pool != null) {
+            this.pool.release();
+            this.pool = null;
         }
+        this.results = null;
         this.shutdown = true;
     }
 
+    /**
+     * Gets an integer property of the issuer.
+     *
+     * @param suffix suffix of the property, following the issuer
+     * @param defaultValue value if the property is missing or invalid
+     * @return the value of the property
+     */
+    protected int getIntProperty(String suffix, int defaultValue) {
+        var value = properties.getProperty(this.issuer + suffix);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            logger.warn("Invalid value {} for {}{}, using {}", value, this.issuer, suffix, defaultValue);
+            return defaultValue;
+        }
+    }
+
+    /**
+     * Gets a boolean property of the issuer.
+     *
+     * @param suffix suffix of the property, following the issuer
+     * @param defaultValue value if the property is missing
+     * @return the value of the property
+     */
+    protected boolean getBooleanProperty(String suffix, boolean defaultValue) {
+        var value = properties.getProperty(this.issuer + suffix);
+        return (value == null ? defaultValue : Boolean.parseBoolean(value.trim()));
+    }
+
+    /**
+     * Parses the issuer of a request, re-using the result of an earlier parse of the same
+     * issuer.
+     *
+     * @param requestIssuer issuer of the request
+     * @param parser parses the issuer
+     * @return the parsed issuer
+     */
+    @SuppressWarnings("unchecked")
+    protected <T> T parseIssuer(String requestIssuer, Function<String, T> parser) {
+        var parsed = parsedIssuers.get(requestIssuer);
+        if (parsed == null) {
+            parsed = parser.apply(requestIssuer);
+            if (parsedIssuers.size() < MAX_PARSED_ISSUERS) {
+                parsedIssuers.put(requestIssuer, parsed);
+            }
+        }
+        return (T) parsed;
+    }
+
+    /**
+     * Gets the cached result of a lookup.
+     *
+     * @param key parsed issuer and attribute values of the lookup
+     * @return the result, or null if it is not cached
+     */
+    protected Object getCachedResult(Object key) {
+        var cache = this.results;
+        if (cache == null) {
+            return null;
+        }
+        var result = cache.getIfPresent(key);
+        (result == null ? cacheMissesCounter : cacheHitsCounter).labels(this.issuer).inc();
+        return result;
+    }
+
+    /**
+     * Caches the result of a lookup, if the result cache is enabled.
+     *
+     * @param key parsed issuer and attribute values of the lookup
+     * @param result result of the lookup, not cached if null
+     */
+    protected void cacheResult(Object key, Object result) {
+        var cache = this.results;
+        if (cache != null && result != null) {
+            cache.put(key, result);
+        }
+    }
+
     protected String getAttribute(PIPFinder pipFinder, PIPRequest pipRequest) {
         //
         // Get the actor value
@@ -0,0 +1,195 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdp.xacml.application.common.std;
+
+import com.att.research.xacml.api.pdp.PDPEngine;
+import io.prometheus.client.Gauge;
+import io.prometheus.client.Histogram;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.Getter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Holds the PDP engines of an application, all of which were created from the same
+ * properties. An exclusive pool hands each decision its own engine, so that engine
+ * components and PIPs that are not thread-safe are never shared between decisions.
+ * Otherwise the pool has a single engine that is shared by all decisions.
+ *
+ * <p>The pool counts the decisions using it. Once a deploy retires the pool, its
+ * engines are shutdown by the last decision to finish with them.
+ */
+public class StdPdpEnginePool {
+    private static final Logger LOGGER = LoggerFactory.getLogger(StdPdpEnginePool.class);
+
+    protected static final String PROMETHEUS_NAMESPACE = "pdpx";
+    protected static final String APPLICATION = "application";
+
+    protected static final Gauge poolSizeGauge =
+        Gauge.build().namespace(PROMETHEUS_NAMESPACE).name("engine_pool_size")
+            .labelNames(APPLICATION)
+            .help("The number of PDP engines available to an application.")
+            .register();
+
+    protected static final Gauge poolInUseGauge =
+        Gauge.build().namespace(PROMETHEUS_NAMESPACE).name("engine_pool_in_use")
+            .labelNames(APPLICATION)
+            .help("The number of PDP engines currently evaluating a decision.")
+            .register();
+
+    protected static final Histogram poolWaitHistogram =
+        Histogram.build().namespace(PROMETHEUS_NAMESPACE).name("engine_pool_wait_seconds")
+            .labelNames(APPLICATION)
+            .help("Time spent by a decision waiting to check out a PDP engine.")
+            .register();
+
+    private final String applicationName;
+    private final List<PDPEngine> engines;
+    private final BlockingQueue<PDPEngine> available;
+    private final AtomicInteger users = new AtomicInteger();
+    private final AtomicBoolean isShutdown = new AtomicBoolean();
+    private volatile boolean retired = false;
+
+    @Getter
+    private final boolean exclusive;
+
+    /**
+     * Constructs the object.
+     *
+     * @param applicationName name of the application owning the engines
+     * @param engines engines in the pool, must not be empty
+     * @param exclusive true if each decision must check out its own engine
+     */
+    public StdPdpEnginePool(String applicationName, List<PDPEngine> engines, boolean exclusive) {
+        if (engines.isEmpty()) {
+            throw new IllegalArgumentException("An engine pool requires at least one engine");
+        }
+        this.applicationName = applicationName;
+        this.engines = List.copyOf(engines);
+        this.exclusive = exclusive;
+        if (exclusive) {
+            this.available = new ArrayBlockingQueue<>(this.engines.size(), false, this.engines);
+        } else {
+            this.available = null;
+        }
+        poolSizeGauge.labels(applicationName).set(this.engines.size());
+    }
+
+    /**
+     * Gets the first engine of the pool.
+     *
+     * @return PDPEngine object
+     */
+    public PDPEngine getEngine() {
+        return engines.get(0);
+    }
+
+    public int getSize() {
+        return engines.size();
+    }
+
+    /**
+     * Gets the number of decisions currently using the pool.
+     *
+     * @return number of decisions
+     */
+    public int getInUse() {
+        return users.get();
+    }
+
+    /**
+     * Checks out an engine for a decision, waiting for one to be checked in if the pool
+     * is exclusive and all the engines are busy. Every engine returned must be given
+     * back to {@link #checkin(PDPEngine)}.
+     *
+     * @return PDPEngine object or null if the pool has been retired
+     * @throws InterruptedException if interrupted while waiting for an engine
+     */
+    public PDPEngine checkout() throws InterruptedException {
+        users.incrementAndGet();
+        if (retired) {
+            release();
+            return null;
+        }
+        if (!exclusive) {
+            poolInUseGauge.labels(applicationName).inc();
+            return engines.get(0);
+        }
+        long timeStart = System.nanoTime();
+        try {
+            PDPEngine engine = available.take();
+            poolInUseGauge.labels(applicationName).inc();
+            return engine;
+        } catch (InterruptedException e) {
+            release();
+            throw e;
+        } finally {
+            poolWaitHistogram.labels(applicationName).observe((System.nanoTime() - timeStart) / 1.0e9);
+        }
+    }
+
+    /**
+     * Gives back an engine that was checked out.
+     *
+     * @param engine PDPEngine object
+     */
+    public void checkin(PDPEngine engine) {
+        poolInUseGauge.labels(applicationName).dec();
+        if (exclusive && !available.offer(engine)) {
+            LOGGER.error("Engine pool for {} is full, dropping checked in engine", applicationName);
+        }
+        release();
+    }
+
+    /**
+     * Retires the pool. No further engines are checked out, and the engines are shutdown
+     * as soon as no decision is using them.
+     */
+    public void retire() {
+        retired = true;
+        if (users.get() == 0) {
+            shutdown();
+        }
+    }
+
+    private void release() {
+        if (users.decrementAndGet() == 0 && retired) {
+            shutdown();
+        }
+    }
+
+    private void shutdown() {
+        if (!isShutdown.compareAndSet(false, true)) {
+            return;
+        }
+        for (PDPEngine engine : engines) {
+            try {
+                engine.shutdown();
+            } catch (Exception e) {
+                LOGGER.warn("Exception thrown when destroying XACML PDP engine.", e);
+            }
+        }
+    }
+}
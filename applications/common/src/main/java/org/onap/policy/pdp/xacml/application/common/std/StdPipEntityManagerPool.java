@@ -0,0 +1,256 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdp.xacml.application.common.std;
+
+import io.prometheus.client.Counter;
+import io.prometheus.client.Gauge;
+import io.prometheus.client.Histogram;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Persistence;
+import jakarta.persistence.PersistenceException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import lombok.Getter;
+
+/**
+ * Gives each database query of a PIP its own EntityManager, as EntityManagers are not
+ * thread-safe. The number of queries running at once is bounded by the size of the
+ * pool, which should match the size of the JDBC connection pool behind the
+ * EntityManagerFactory. A query waits up to the acquire timeout for a free slot.
+ *
+ * <p>Every engine of an application configures PIPs of its own, so the PIPs share pools
+ * through {@link #share}, one per persistence unit and settings. Otherwise the number of
+ * connections would be the pool size multiplied by the number of engines, and again for
+ * every redeploy until the old engines are shut down.
+ */
+public class StdPipEntityManagerPool {
+    protected static final String PROMETHEUS_NAMESPACE = "pdpx";
+    protected static final String POOL = "pool";
+    private static final String[] JPA_PROPERTY_PREFIXES =
+        {"jakarta.persistence.", "javax.persistence.", "hibernate.", "eclipselink."};
+
+    protected static final Gauge poolSizeGauge =
+        Gauge.build().namespace(PROMETHEUS_NAMESPACE).name("pip_db_pool_size")
+            .labelNames(POOL)
+            .help("The number of database queries a PIP may run at once.")
+            .register();
+
+    protected static final Gauge poolInUseGauge =
+        Gauge.build().namespace(PROMETHEUS_NAMESPACE).name("pip_db_pool_in_use")
+            .labelNames(POOL)
+            .help("The number of database queries a PIP is currently running.")
+            .register();
+
+    protected static final Histogram poolWaitHistogram =
+        Histogram.build().namespace(PROMETHEUS_NAMESPACE).name("pip_db_pool_wait_seconds")
+            .labelNames(POOL)
+            .help("Time spent by a PIP query waiting for a database connection.")
+            .register();
+
+    protected static final Histogram queryHistogram =
+        Histogram.build().namespace(PROMETHEUS_NAMESPACE).name("pip_db_query_seconds")
+            .labelNames(POOL)
+            .help("Time spent by a PIP running a database query.")
+            .register();
+
+    protected static final Counter poolTimeoutsCounter =
+        Counter.build().namespace(PROMETHEUS_NAMESPACE).name("pip_db_pool_timeouts")
+            .labelNames(POOL)
+            .help("The number of PIP queries that timed out waiting for a database connection.")
+            .register();
+
+    //
+    // Shared pools, guarded by the class
+    //
+    private static final Map<SharedKey, StdPipEntityManagerPool> sharedPools = new HashMap<>();
+
+    private record SharedKey(String persistenceUnit, Map<String, String> jpaProperties, int size,
+            long acquireTimeoutMs) {
+    }
+
+    private final String name;
+    private final EntityManagerFactory emf;
+    private final Semaphore permits;
+    private final long acquireTimeoutMs;
+    private volatile boolean closed = false;
+    private SharedKey sharedKey;
+    private int references = 1;
+
+    @Getter
+    private final int size;
+
+    /**
+     * Constructs the object.
+     *
+     * @param name name of the pool, used to label its metrics
+     * @param emf factory of the EntityManagers
+     * @param size maximum number of queries to run at once, must be positive
+     * @param acquireTimeoutMs milliseconds a query waits for a free slot
+     */
+    public StdPipEntityManagerPool(String name, EntityManagerFactory emf, int size, long acquireTimeoutMs) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("A PIP database pool requires a positive size");
+        }
+        this.name = name;
+        this.emf = emf;
+        this.size = size;
+        this.acquireTimeoutMs = acquireTimeoutMs;
+        this.permits = new Semaphore(size, true);
+        poolSizeGauge.labels(name).inc(size);
+    }
+
+    /**
+     * Gets the pool for a persistence unit, creating it if no PIP shares it yet. PIPs share
+     * a pool when they use the same persistence unit, JPA properties, size and acquire
+     * timeout. Each call must be matched by a call to {@link #release()}.
+     *
+     * @param persistenceUnit the persistence unit
+     * @param emProperties properties of the EntityManagerFactory
+     * @param size maximum number of queries to run at once, must be positive
+     * @param acquireTimeoutMs milliseconds a query waits for a free slot
+     * @return the shared pool
+     * @throws PersistenceException if the EntityManagerFactory cannot be created
+     */
+    public static StdPipEntityManagerPool share(String persistenceUnit, Properties emProperties, int size,
+            long acquireTimeoutMs) {
+        var key = new SharedKey(persistenceUnit, getJpaProperties(emProperties), size, acquireTimeoutMs);
+        synchronized (StdPipEntityManagerPool.class) {
+            var pool = sharedPools.get(key);
+            if (pool != null) {
+                ++pool.references;
+                return pool;
+            }
+            pool = new StdPipEntityManagerPool(persistenceUnit,
+                Persistence.createEntityManagerFactory(persistenceUnit, emProperties), size, acquireTimeoutMs);
+            pool.sharedKey = key;
+            sharedPools.put(key, pool);
+            return pool;
+        }
+    }
+
+    /**
+     * Releases the pool, closing it once no PIP shares it any longer.
+     */
+    public void release() {
+        synchronized (StdPipEntityManagerPool.class) {
+            if (--references > 0) {
+                return;
+            }
+            if (sharedKey != null) {
+                sharedPools.remove(sharedKey, this);
+            }
+        }
+        close();
+    }
+
+    private static Map<String, String> getJpaProperties(Properties properties) {
+        Map<String, String> jpaProperties = new TreeMap<>();
+        for (String property : properties.stringPropertyNames()) {
+            for (String prefix : JPA_PROPERTY_PREFIXES) {
+                if (property.startsWith(prefix)) {
+                    jpaProperties.put(property, properties.getProperty(property));
+                    break;
+                }
+            }
+        }
+        return jpaProperties;
+    }
+
+    /**
+     * Gets the number of queries currently running.
+     *
+     * @return number of queries
+     */
+    public int getInUse() {
+        return size - permits.availablePermits();
+    }
+
+    /**
+     * Runs a query with an EntityManager of its own, which is closed once the query
+     * completes.
+     *
+     * @param query the query to run
+     * @return the result of the query
+     * @throws PersistenceException if the pool is closed or no slot frees up within the
+     *         acquire timeout
+     */
+    public <T> T execute(Function<EntityManager, T> query) {
+        acquire();
+        poolInUseGauge.labels(name).inc();
+        EntityManager em = null;
+        long timeStart = System.nanoTime();
+        try {
+            em = emf.createEntityManager();
+            return query.apply(em);
+        } finally {
+            if (em != null) {
+                em.close();
+            }
+            queryHistogram.labels(name).observe((System.nanoTime() - timeStart) / 1.0e9);
+            poolInUseGauge.labels(name).dec();
+            permits.release();
+        }
+    }
+
+    /**
+     * Closes the pool and its EntityManagerFactory. Queries already running are given
+     * up to the acquire timeout to complete.
+     */
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        poolSizeGauge.labels(name).dec(size);
+        try {
+            permits.tryAcquire(size, acquireTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        emf.close();
+    }
+
+    private void acquire() {
+        if (closed) {
+            throw new PersistenceException("PIP database pool for " + name + " is closed");
+        }
+        long timeStart = System.nanoTime();
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PersistenceException("Interrupted waiting for a PIP database connection", e);
+        } finally {
+            poolWaitHistogram.labels(name).observe((System.nanoTime() - timeStart) / 1.0e9);
+        }
+        if (!acquired) {
+            poolTimeoutsCounter.labels(name).inc();
+            throw new PersistenceException("Timed out waiting for a PIP database connection for " + name);
+        }
+    }
+}
@@ -0,0 +1,166 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdp.xacml.application.common.std;
+
+import com.att.research.xacml.api.Identifier;
+import com.att.research.xacml.api.pip.PIPException;
+import com.att.research.xacml.api.pip.PIPRequest;
+import com.att.research.xacml.api.pip.PIPResponse;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Resolves the PIP lookups of a single decision. Identical lookups, made by the
+ * different policies the engine walks, are resolved once. Lookups known to be needed by
+ * the decision are started concurrently as soon as the engine makes its first lookup,
+ * so the decision waits for the slowest of them rather than for their sum.
+ *
+ * <p>A scope is bound to the thread making the decision from {@link #open(Collection)}
+ * until {@link #close()}. Only lookups made through a {@link StdPipResolvingFinder},
+ * with an issuer, are resolved by the scope.
+ */
+public class StdPipResolutionScope implements AutoCloseable {
+    private static final ThreadLocal<StdPipResolutionScope> current = new ThreadLocal<>();
+
+    //
+    // Lookups are blocking database queries, so prefetches run on their own threads
+    //
+    private static final int PREFETCH_THREADS = 8;
+    private static final AtomicInteger prefetchThreadCount = new AtomicInteger();
+    private static final ExecutorService prefetcher = Executors.newFixedThreadPool(PREFETCH_THREADS, runnable -> {
+        var thread = new Thread(runnable, "pdpx-pip-prefetch-" + prefetchThreadCount.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final List<PIPRequest> prefetches;
+    private final StdPipResolutionScope previous;
+    private final Map<Key, FutureTask<PIPResponse>> lookups = new ConcurrentHashMap<>();
+    private final AtomicBoolean prefetched = new AtomicBoolean();
+
+    /**
+     * Makes a lookup through the finder of an engine.
+     */
+    @FunctionalInterface
+    public interface Lookup {
+        PIPResponse apply(PIPRequest pipRequest) throws PIPException;
+    }
+
+    private record Key(boolean matching, Identifier category, Identifier attributeId, Identifier dataTypeId,
+            String issuer) {
+
+        static Key of(boolean matching, PIPRequest pipRequest) {
+            return new Key(matching, pipRequest.getCategory(), pipRequest.getAttributeId(),
+                pipRequest.getDataTypeId(), pipRequest.getIssuer());
+        }
+    }
+
+    private StdPipResolutionScope(Collection<PIPRequest> prefetches, StdPipResolutionScope previous) {
+        this.prefetches = List.copyOf(prefetches);
+        this.previous = previous;
+    }
+
+    /**
+     * Opens a scope for the decision about to be made on the current thread.
+     *
+     * @param prefetches lookups known to be needed by the decision
+     * @return the scope, which must be closed once the decision is made
+     */
+    public static StdPipResolutionScope open(Collection<PIPRequest> prefetches) {
+        var scope = new StdPipResolutionScope(prefetches, current.get());
+        current.set(scope);
+        return scope;
+    }
+
+    /**
+     * Gets the scope of the decision being made on the current thread.
+     *
+     * @return the scope, or null if there is none
+     */
+    public static StdPipResolutionScope current() {
+        return current.get();
+    }
+
+    /**
+     * Resolves a lookup, re-using the result of an identical lookup made earlier in the
+     * decision. The first lookup also starts the prefetches, using the same finder.
+     *
+     * @param pipRequest the request
+     * @param matching true if only the matching attributes are being looked up
+     * @param lookup makes the lookup
+     * @return the response
+     * @throws PIPException if the lookup fails
+     */
+    public PIPResponse resolve(PIPRequest pipRequest, boolean matching, Lookup lookup) throws PIPException {
+        if (prefetched.compareAndSet(false, true)) {
+            for (PIPRequest prefetch : prefetches) {
+                var task = newTask(prefetch, lookup);
+                if (lookups.putIfAbsent(Key.of(matching, prefetch), task) == null) {
+                    prefetcher.execute(task);
+                }
+            }
+        }
+        var task = lookups.computeIfAbsent(Key.of(matching, pipRequest), key -> newTask(pipRequest, lookup));
+        //
+        // Run it here, unless a prefetch already started it
+        //
+        task.run();
+        try {
+            return task.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PIPException("Interrupted resolving " + pipRequest.getAttributeId(), e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof PIPException pipException) {
+                throw pipException;
+            }
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new PIPException("Failed resolving " + pipRequest.getAttributeId(), e.getCause());
+        }
+    }
+
+    /**
+     * Unbinds the scope from the thread. Prefetches that have not started are cancelled.
+     */
+    @Override
+    public void close() {
+        lookups.values().forEach(task -> task.cancel(false));
+        if (previous == null) {
+            current.remove();
+        } else {
+            current.set(previous);
+        }
+    }
+
+    private static FutureTask<PIPResponse> newTask(PIPRequest pipRequest, Lookup lookup) {
+        return new FutureTask<>(() -> lookup.apply(pipRequest));
+    }
+}
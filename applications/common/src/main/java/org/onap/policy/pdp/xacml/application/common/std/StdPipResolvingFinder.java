@@ -0,0 +1,78 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdp.xacml.application.common.std;
+
+import com.att.research.xacml.api.pip.PIPEngine;
+import com.att.research.xacml.api.pip.PIPException;
+import com.att.research.xacml.api.pip.PIPFinder;
+import com.att.research.xacml.api.pip.PIPRequest;
+import com.att.research.xacml.api.pip.PIPResponse;
+import java.util.Collection;
+
+/**
+ * Wraps the PIPFinder of an engine, so that the lookups made with an issuer during a
+ * decision are resolved by the {@link StdPipResolutionScope} of the decision, if there is
+ * one.
+ */
+public class StdPipResolvingFinder implements PIPFinder {
+    private final PIPFinder finder;
+
+    public StdPipResolvingFinder(PIPFinder finder) {
+        this.finder = finder;
+    }
+
+    @Override
+    public PIPResponse getAttributes(PIPRequest pipRequest, PIPEngine exclude) throws PIPException {
+        return resolve(pipRequest, false, request -> finder.getAttributes(request, exclude));
+    }
+
+    @Override
+    public PIPResponse getAttributes(PIPRequest pipRequest, PIPEngine exclude, PIPFinder pipFinderParent)
+            throws PIPException {
+        return resolve(pipRequest, false, request -> finder.getAttributes(request, exclude, pipFinderParent));
+    }
+
+    @Override
+    public PIPResponse getMatchingAttributes(PIPRequest pipRequest, PIPEngine exclude) throws PIPException {
+        return resolve(pipRequest, true, request -> finder.getMatchingAttributes(request, exclude));
+    }
+
+    @Override
+    public PIPResponse getMatchingAttributes(PIPRequest pipRequest, PIPEngine exclude, PIPFinder pipFinderParent)
+            throws PIPException {
+        return resolve(pipRequest, true,
+            request -> finder.getMatchingAttributes(request, exclude, pipFinderParent));
+    }
+
+    @Override
+    public Collection<PIPEngine> getPIPEngines() {
+        return finder.getPIPEngines();
+    }
+
+    private static PIPResponse resolve(PIPRequest pipRequest, boolean matching, StdPipResolutionScope.Lookup lookup)
+            throws PIPException {
+        var scope = StdPipResolutionScope.current();
+        if (scope == null || pipRequest.getIssuer() == null) {
+            return lookup.apply(pipRequest);
+        }
+        return scope.resolve(pipRequest, matching, lookup);
+    }
+}
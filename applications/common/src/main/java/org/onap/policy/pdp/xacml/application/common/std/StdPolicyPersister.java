@@ -0,0 +1,294 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdp.xacml.application.common.std;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Properties;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import lombok.Getter;
+import org.onap.policy.pdp.xacml.application.common.XacmlPolicyUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Persists the policy files and xacml.properties of an application. Files are first written
+ * to a temporary file which is then renamed, so a crash never leaves a partially written
+ * file behind. With write-behind, the files are written by a dedicated thread and the
+ * caller does not wait for them; the in-memory engine is what decisions use anyway.
+ */
+public class StdPolicyPersister {
+    private static final Logger LOGGER = LoggerFactory.getLogger(StdPolicyPersister.class);
+
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    @Getter
+    private final boolean fsync;
+
+    private final String applicationName;
+    private final ExecutorService writer;
+
+    //
+    // Snapshots are always written off the caller's thread, by the writer with write-behind
+    // so that they follow the policy files, otherwise by their own thread
+    //
+    private ExecutorService snapshotWriter;
+
+    //
+    // Each store of the properties or snapshot gets a sequence number. The writer skips a
+    // store if another one has come in after it, since that one contains the latest state.
+    //
+    private final AtomicLong propertiesSequence = new AtomicLong();
+    private final AtomicLong snapshotSequence = new AtomicLong();
+
+    /**
+     * Constructs the object.
+     *
+     * @param applicationName name of the application, used to name the writer thread
+     * @param writeBehind {@code true} to write the files on a dedicated thread
+     * @param fsync {@code true} to force each file to the device before renaming it, and
+     *        its directory after
+     */
+    public StdPolicyPersister(String applicationName, boolean writeBehind, boolean fsync) {
+        this.applicationName = applicationName;
+        this.fsync = fsync;
+        if (!writeBehind) {
+            this.writer = null;
+            return;
+        }
+        this.writer = newWriter("pdpx-persist-" + applicationName);
+    }
+
+    public boolean isWriteBehind() {
+        return writer != null;
+    }
+
+    /**
+     * Writes a policy file.
+     *
+     * @param path path to the policy file
+     * @param policy PolicyType or PolicySetType
+     * @throws IOException if the file cannot be written, only thrown without write-behind
+     */
+    public void writePolicy(Path path, Object policy) throws IOException {
+        run(() -> replace(path, temp -> {
+            if (XacmlPolicyUtils.writePolicyFile(temp, policy) == null) {
+                throw new IOException("Unable to write policy file " + temp);
+            }
+        }), path);
+    }
+
+    /**
+     * Writes a policy file whose content is already known.
+     *
+     * @param path path to the policy file
+     * @param content content of the file
+     * @throws IOException if the file cannot be written, only thrown without write-behind
+     */
+    public void writePolicy(Path path, byte[] content) throws IOException {
+        run(() -> replace(path, temp -> Files.write(temp, content)), path);
+    }
+
+    /**
+     * Deletes a policy file.
+     *
+     * @param path path to the policy file
+     * @throws IOException if the file cannot be deleted, only thrown without write-behind
+     */
+    public void deletePolicy(Path path) throws IOException {
+        run(() -> Files.delete(path), path);
+    }
+
+    /**
+     * Stores the xacml properties. With write-behind, repeated stores are coalesced and
+     * only the latest properties are written.
+     *
+     * @param properties properties to store
+     * @param path path to the properties file
+     * @throws IOException if the file cannot be written, only thrown without write-behind
+     */
+    public void storeProperties(Properties properties, Path path) throws IOException {
+        var copy = new Properties();
+        copy.putAll(properties);
+        long sequence = propertiesSequence.incrementAndGet();
+        run(() -> {
+            if (sequence != propertiesSequence.get()) {
+                LOGGER.debug("Skipping superseded store of {}", path);
+                return;
+            }
+            replace(path, temp -> XacmlPolicyUtils.storeXacmlProperties(copy, temp));
+        }, path);
+    }
+
+    /**
+     * Stores a snapshot of the policies. The snapshot is built and written on another
+     * thread, after the policy files queued before it, so the caller never waits for it.
+     * Like the properties, repeated stores are coalesced. Failures are only logged.
+     *
+     * @param path path to the snapshot file
+     * @param snapshot builds the snapshot
+     */
+    public void storeSnapshot(Path path, Supplier<StdPolicySnapshot> snapshot) {
+        long sequence = snapshotSequence.incrementAndGet();
+        execute(getSnapshotWriter(), () -> {
+            if (sequence != snapshotSequence.get()) {
+                LOGGER.debug("Skipping superseded store of {}", path);
+                return;
+            }
+            var newSnapshot = snapshot.get();
+            replace(path, temp -> {
+                try (var outputStream = Files.newOutputStream(temp)) {
+                    newSnapshot.write(outputStream);
+                }
+            });
+        }, path);
+    }
+
+    /**
+     * Waits for all of the files queued so far to be written.
+     */
+    public void flush() {
+        flush(writer);
+        ExecutorService snapshots;
+        synchronized (this) {
+            snapshots = snapshotWriter;
+        }
+        if (snapshots != writer) {
+            flush(snapshots);
+        }
+    }
+
+    /**
+     * Writes any queued files and stops the writer threads.
+     */
+    public void shutdown() {
+        flush();
+        if (writer != null) {
+            writer.shutdown();
+        }
+        synchronized (this) {
+            if (snapshotWriter != null && snapshotWriter != writer) {
+                snapshotWriter.shutdown();
+            }
+        }
+    }
+
+    private static void flush(ExecutorService executor) {
+        if (executor == null) {
+            return;
+        }
+        try {
+            executor.submit(() -> { }).get();
+        } catch (InterruptedException e) {
+            LOGGER.warn("Interrupted while flushing policy files");
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            LOGGER.error("Failed to flush policy files", e);
+        }
+    }
+
+    private synchronized ExecutorService getSnapshotWriter() {
+        if (snapshotWriter == null) {
+            snapshotWriter = (writer != null ? writer : newWriter("pdpx-snapshot-" + applicationName));
+        }
+        return snapshotWriter;
+    }
+
+    private static ExecutorService newWriter(String name) {
+        return Executors.newSingleThreadExecutor(runnable -> {
+            var thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private void run(FileAction action, Path path) throws IOException {
+        if (writer == null) {
+            action.run();
+            return;
+        }
+        execute(writer, action, path);
+    }
+
+    private static void execute(ExecutorService executor, FileAction action, Path path) {
+        executor.execute(() -> {
+            try {
+                action.run();
+            } catch (IOException | RuntimeException e) {
+                LOGGER.error("Failed to persist {}", path, e);
+            }
+        });
+    }
+
+    private void replace(Path path, FileWriter fileWriter) throws IOException {
+        var temp = path.resolveSibling(path.getFileName() + TEMP_SUFFIX);
+        try {
+            fileWriter.write(temp);
+            if (fsync) {
+                try (var channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                    channel.force(true);
+                }
+            }
+            try {
+                Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                LOGGER.debug("Atomic move not supported for {}", path, e);
+                Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING);
+            }
+            if (fsync) {
+                forceDirectory(path.toAbsolutePath().getParent());
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private static void forceDirectory(Path directory) {
+        //
+        // The rename is only durable once the directory entry is on the device. Not every
+        // platform can open a directory, in which case the rename is left to the OS.
+        //
+        try (var channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            LOGGER.debug("Cannot force directory {}", directory, e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface FileAction {
+        void run() throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface FileWriter {
+        void write(Path temp) throws IOException;
+    }
+}
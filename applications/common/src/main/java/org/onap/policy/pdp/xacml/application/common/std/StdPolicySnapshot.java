@@ -0,0 +1,295 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdp.xacml.application.common.std;
+
+import com.att.research.xacml.std.dom.DOMStructureException;
+import com.att.research.xacmlatt.pdp.policy.PolicyDef;
+import com.att.research.xacmlatt.pdp.policy.dom.DOMPolicyDef;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import lombok.Getter;
+import org.onap.policy.common.utils.coder.CoderException;
+import org.onap.policy.common.utils.coder.StandardCoder;
+import org.onap.policy.models.tosca.authorative.concepts.ToscaPolicy;
+import org.onap.policy.pdp.xacml.application.common.ToscaPolicyConversionException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Compact binary snapshot of the policies an application has deployed. For each policy it
+ * keeps the Tosca Policy and its translated XACML, keyed by a digest of the Tosca Policy, so
+ * that the same policy can be deployed or restored after a restart without being translated.
+ * The checksum identifies the whole set of policies. Each entry keeps its digest and encoded
+ * Tosca Policy, so a new snapshot only digests and encodes the policies that were added.
+ */
+public final class StdPolicySnapshot {
+    private static final Logger LOGGER = LoggerFactory.getLogger(StdPolicySnapshot.class);
+
+    public static final String SNAPSHOT_FILE = "policies.snapshot";
+    public static final int FORMAT_VERSION = 2;
+    public static final StdPolicySnapshot EMPTY = new StdPolicySnapshot(Map.of());
+
+    private static final int MAGIC = 0x50445058;
+    private static final StandardCoder coder = new StandardCoder();
+
+    private final Map<String, Entry> entries;
+
+    @Getter
+    private final String checksum;
+
+    /**
+     * A policy in the snapshot.
+     *
+     * @param digest digest of the Tosca Policy
+     * @param policy the Tosca Policy
+     * @param json the encoded Tosca Policy
+     * @param fileName name of the policy file within the application directory
+     * @param content the XACML policy
+     */
+    public record Entry(String digest, ToscaPolicy policy, byte[] json, String fileName, byte[] content) {
+
+        /**
+         * Compiles the XACML policy for the PDP engine.
+         *
+         * @return the compiled policy
+         * @throws ToscaPolicyConversionException if the policy cannot be compiled
+         */
+        public PolicyDef compile() throws ToscaPolicyConversionException {
+            try {
+                return DOMPolicyDef.load(new ByteArrayInputStream(content));
+            } catch (DOMStructureException e) {
+                throw new ToscaPolicyConversionException("Failed to compile snapshot policy " + fileName, e);
+            }
+        }
+    }
+
+    /**
+     * A deployed policy to be kept in a snapshot.
+     *
+     * @param digest digest of the Tosca Policy, from {@link #digest(ToscaPolicy)}
+     * @param policy the Tosca Policy
+     * @param path path to the policy file
+     */
+    public record Deployed(String digest, ToscaPolicy policy, Path path) {
+    }
+
+    /**
+     * Constructs the object.
+     *
+     * @param entries the policies, keyed by the digest of their Tosca Policy
+     */
+    public StdPolicySnapshot(Map<String, Entry> entries) {
+        this.entries = Map.copyOf(entries);
+        this.checksum = checksum(this.entries.keySet());
+    }
+
+    /**
+     * Finds a Tosca Policy in the snapshot.
+     *
+     * @param digest digest of the Tosca Policy, from {@link #digest(ToscaPolicy)}
+     * @return the policy's entry, or {@code null} if the snapshot does not contain it
+     */
+    public Entry get(String digest) {
+        return entries.get(digest);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public Collection<Entry> entries() {
+        return entries.values();
+    }
+
+    /**
+     * Builds a snapshot of the deployed policies. The entry of each policy is taken from
+     * the previous snapshot if it already contains the policy, otherwise the policy is
+     * encoded and its XACML read from the policy file.
+     *
+     * @param policies the deployed policies
+     * @param previous the previous snapshot
+     * @return a new snapshot
+     */
+    public static StdPolicySnapshot build(Collection<Deployed> policies, StdPolicySnapshot previous) {
+        Map<String, Entry> newEntries = new HashMap<>();
+        for (Deployed policy : policies) {
+            var entry = previous.entries.get(policy.digest());
+            if (entry == null) {
+                try {
+                    entry = new Entry(policy.digest(), policy.policy(),
+                        encode(policy.policy()).getBytes(StandardCharsets.UTF_8),
+                        policy.path().getFileName().toString(), Files.readAllBytes(policy.path()));
+                } catch (IOException e) {
+                    LOGGER.error("Leaving policy {} out of the snapshot", policy.policy().getMetadata(), e);
+                    continue;
+                }
+            }
+            newEntries.put(policy.digest(), entry);
+        }
+        return new StdPolicySnapshot(newEntries);
+    }
+
+    /**
+     * Writes the snapshot.
+     *
+     * @param outputStream stream to write to
+     * @throws IOException if the snapshot cannot be written
+     */
+    public void write(OutputStream outputStream) throws IOException {
+        var gzip = new GZIPOutputStream(outputStream);
+        var output = new DataOutputStream(gzip);
+        output.writeInt(MAGIC);
+        output.writeInt(FORMAT_VERSION);
+        output.writeUTF(checksum);
+        output.writeInt(entries.size());
+        for (Entry entry : entries.values()) {
+            writeBytes(output, entry.json());
+            output.writeUTF(entry.fileName());
+            writeBytes(output, entry.content());
+        }
+        output.flush();
+        gzip.finish();
+    }
+
+    /**
+     * Loads a snapshot. A snapshot that is missing, was written by another version, or
+     * does not match its checksum is ignored.
+     *
+     * @param path path to the snapshot file
+     * @return the snapshot, empty if there is no usable snapshot
+     */
+    public static StdPolicySnapshot load(Path path) {
+        if (!Files.exists(path)) {
+            LOGGER.info("No policy snapshot {}", path);
+            return EMPTY;
+        }
+        try (InputStream inputStream = Files.newInputStream(path)) {
+            var snapshot = read(inputStream);
+            LOGGER.info("Loaded {} policies from snapshot {}", snapshot.size(), path);
+            return snapshot;
+        } catch (IOException e) {
+            LOGGER.warn("Ignoring policy snapshot {}", path, e);
+            return EMPTY;
+        }
+    }
+
+    /**
+     * Reads a snapshot.
+     *
+     * @param inputStream stream to read from
+     * @return the snapshot
+     * @throws IOException if the snapshot cannot be read or is not valid
+     */
+    public static StdPolicySnapshot read(InputStream inputStream) throws IOException {
+        var input = new DataInputStream(new GZIPInputStream(inputStream));
+        if (input.readInt() != MAGIC) {
+            throw new IOException("Not a policy snapshot");
+        }
+        int version = input.readInt();
+        if (version != FORMAT_VERSION) {
+            throw new IOException("Unsupported policy snapshot version " + version);
+        }
+        String expectedChecksum = input.readUTF();
+        int count = input.readInt();
+        Map<String, Entry> entries = new HashMap<>();
+        for (var index = 0; index < count; ++index) {
+            byte[] json = readBytes(input);
+            String fileName = input.readUTF();
+            byte[] content = readBytes(input);
+            try {
+                var text = new String(json, StandardCharsets.UTF_8);
+                var digest = sha256(text);
+                entries.put(digest, new Entry(digest, coder.decode(text, ToscaPolicy.class), json, fileName, content));
+            } catch (CoderException e) {
+                throw new IOException("Invalid policy in snapshot", e);
+            }
+        }
+        var snapshot = new StdPolicySnapshot(entries);
+        if (!snapshot.checksum.equals(expectedChecksum)) {
+            throw new IOException("Policy snapshot checksum mismatch");
+        }
+        return snapshot;
+    }
+
+    /**
+     * Computes the digest of a Tosca Policy.
+     *
+     * @param policy Tosca Policy
+     * @return the digest of the policy
+     */
+    public static String digest(ToscaPolicy policy) {
+        return sha256(encode(policy));
+    }
+
+    /**
+     * Computes the checksum of a set of policies, independent of their order.
+     *
+     * @param digests digests of the policies
+     * @return the checksum of the set
+     */
+    public static String checksum(Collection<String> digests) {
+        return sha256(String.join(",", new TreeSet<>(digests)));
+    }
+
+    private static String encode(ToscaPolicy policy) {
+        try {
+            return coder.encode(policy);
+        } catch (CoderException e) {
+            throw new IllegalArgumentException("Cannot encode policy " + policy.getMetadata(), e);
+        }
+    }
+
+    private static void writeBytes(DataOutputStream output, byte[] bytes) throws IOException {
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    private static byte[] readBytes(DataInputStream input) throws IOException {
+        var bytes = new byte[input.readInt()];
+        input.readFully(bytes);
+        return bytes;
+    }
+
+    private static String sha256(String text) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256")
+                .digest(text.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
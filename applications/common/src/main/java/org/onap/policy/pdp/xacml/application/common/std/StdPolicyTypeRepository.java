@@ -0,0 +1,317 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdp.xacml.application.common.std;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import lombok.Getter;
+import org.onap.policy.common.endpoints.http.client.HttpClient;
+import org.onap.policy.common.utils.coder.CoderException;
+import org.onap.policy.common.utils.coder.StandardCoder;
+import org.onap.policy.common.utils.coder.StandardYamlCoder;
+import org.onap.policy.models.tosca.authorative.concepts.ToscaConceptIdentifier;
+import org.onap.policy.models.tosca.authorative.concepts.ToscaPolicyType;
+import org.onap.policy.models.tosca.authorative.concepts.ToscaServiceTemplate;
+import org.onap.policy.models.tosca.simple.concepts.JpaToscaServiceTemplate;
+import org.onap.policy.pdp.xacml.application.common.PolicyApiCaller;
+import org.onap.policy.pdp.xacml.application.common.PolicyApiException;
+import org.onap.policy.pdp.xacml.application.common.matchable.MatchablePolicyType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Process wide repository of the policy types used by the matchable translators. A policy
+ * type is looked up in memory, then in the application's data directory and finally pulled
+ * from policy-api. The policy types of a deploy, and the types they derive from, can be
+ * fetched in parallel up front so that translating the policies does not wait on policy-api.
+ *
+ * <p>Besides the YAML it was pulled as, each policy type is kept in the data directory as
+ * JSON that has already been through the {@link JpaToscaServiceTemplate}, which is much
+ * cheaper to read back.
+ */
+public class StdPolicyTypeRepository {
+    private static final Logger LOGGER = LoggerFactory.getLogger(StdPolicyTypeRepository.class);
+
+    public static final long MAXIMUM_SIZE = 500;
+    public static final int FETCH_THREADS = 8;
+
+    private static final String ROOT_POLICY_TYPE = "tosca.policies.Root";
+    private static final String DERIVED_VERSION = "1.0.0";
+    private static final StandardYamlCoder yamlCoder = new StandardYamlCoder();
+    private static final StandardCoder coder = new StandardCoder();
+
+    @Getter
+    private static final StdPolicyTypeRepository instance = new StdPolicyTypeRepository(MAXIMUM_SIZE);
+
+    private final Cache<ToscaConceptIdentifier, ToscaServiceTemplate> policyTypes;
+    private final Cache<ToscaConceptIdentifier, MatchablePolicyType> matchables;
+    //
+    // Policy types being fetched, so concurrent requests for one wait on the same fetch
+    //
+    private final ConcurrentHashMap<ToscaConceptIdentifier, CompletableFuture<ToscaServiceTemplate>> fetches =
+        new ConcurrentHashMap<>();
+    private final ExecutorService fetcher;
+
+    /**
+     * Constructs the object.
+     *
+     * @param maximumSize maximum number of policy types, and of matchable policy types, to keep
+     */
+    public StdPolicyTypeRepository(long maximumSize) {
+        this.policyTypes = CacheBuilder.newBuilder().maximumSize(maximumSize).build();
+        this.matchables = CacheBuilder.newBuilder().maximumSize(maximumSize).build();
+        var count = new AtomicInteger();
+        this.fetcher = Executors.newFixedThreadPool(FETCH_THREADS, runnable -> {
+            var thread = new Thread(runnable, "pdpx-policy-types-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Finds a policy type.
+     *
+     * @param policyTypeId policy type to find
+     * @param pathForData the application's data directory
+     * @param apiClient client for policy-api
+     * @return the service template containing the policy type, {@code null} if it cannot be found
+     */
+    public ToscaServiceTemplate get(ToscaConceptIdentifier policyTypeId, Path pathForData, HttpClient apiClient) {
+        var template = policyTypes.getIfPresent(policyTypeId);
+        if (template != null) {
+            return template;
+        }
+        var future = new CompletableFuture<ToscaServiceTemplate>();
+        var existing = fetches.putIfAbsent(policyTypeId, future);
+        if (existing != null) {
+            return existing.join();
+        }
+        try {
+            template = load(policyTypeId, pathForData, apiClient);
+            if (template != null) {
+                policyTypes.put(policyTypeId, template);
+            }
+            future.complete(template);
+            return template;
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            fetches.remove(policyTypeId, future);
+        }
+    }
+
+    /**
+     * Fetches policy types and all of the types they derive from, in parallel, so they are
+     * in memory when the policies are translated. Types that cannot be found are logged and
+     * left for the translation to report.
+     *
+     * @param policyTypeIds policy types to fetch
+     * @param pathForData the application's data directory
+     * @param apiClient client for policy-api
+     */
+    public void prefetch(Collection<ToscaConceptIdentifier> policyTypeIds, Path pathForData, HttpClient apiClient) {
+        Set<ToscaConceptIdentifier> seen = new HashSet<>(policyTypeIds);
+        List<ToscaConceptIdentifier> pending = new ArrayList<>(policyTypeIds);
+        //
+        // Each round fetches the parents found in the previous one
+        //
+        while (!pending.isEmpty()) {
+            List<ToscaConceptIdentifier> fetching = pending;
+            List<CompletableFuture<ToscaServiceTemplate>> futures = new ArrayList<>();
+            for (ToscaConceptIdentifier policyTypeId : fetching) {
+                futures.add(CompletableFuture.supplyAsync(() -> get(policyTypeId, pathForData, apiClient),
+                    fetcher));
+            }
+            pending = new ArrayList<>();
+            for (var index = 0; index < futures.size(); ++index) {
+                ToscaServiceTemplate template;
+                try {
+                    template = futures.get(index).join();
+                } catch (RuntimeException e) {
+                    LOGGER.error("Failed to prefetch policy type {}", fetching.get(index), e);
+                    continue;
+                }
+                if (template == null || template.getPolicyTypes() == null) {
+                    continue;
+                }
+                for (ToscaPolicyType policyType : template.getPolicyTypes().values()) {
+                    String derivedFrom = policyType.getDerivedFrom();
+                    if (derivedFrom == null || ROOT_POLICY_TYPE.equals(derivedFrom)
+                        || template.getPolicyTypes().containsKey(derivedFrom)) {
+                        continue;
+                    }
+                    var parentId = new ToscaConceptIdentifier(derivedFrom, DERIVED_VERSION);
+                    if (seen.add(parentId)) {
+                        pending.add(parentId);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Finds the matchable properties of a policy type, creating them if need be.
+     *
+     * @param policyTypeId policy type
+     * @param creator creates the matchable policy type if it is not in the repository
+     * @return the matchable policy type
+     */
+    public MatchablePolicyType getMatchable(ToscaConceptIdentifier policyTypeId,
+        Supplier<MatchablePolicyType> creator) {
+        var matchable = matchables.getIfPresent(policyTypeId);
+        if (matchable == null) {
+            matchable = creator.get();
+            var existing = matchables.asMap().putIfAbsent(policyTypeId, matchable);
+            if (existing != null) {
+                matchable = existing;
+            }
+        }
+        return matchable;
+    }
+
+    /**
+     * Forgets all of the policy types held in memory.
+     */
+    public void clear() {
+        policyTypes.invalidateAll();
+        matchables.invalidateAll();
+    }
+
+    /**
+     * Returns the path of the YAML file for a policy type.
+     *
+     * @param policyTypeId policy type
+     * @param pathForData the application's data directory
+     * @return path to the policy type's file
+     */
+    public static Path constructLocalFilePath(ToscaConceptIdentifier policyTypeId, Path pathForData) {
+        return pathForData.toAbsolutePath().resolve(policyTypeId.getName() + "-" + policyTypeId.getVersion()
+            + ".yaml");
+    }
+
+    /**
+     * Returns the path of the pre-parsed file for a policy type.
+     *
+     * @param policyTypeId policy type
+     * @param pathForData the application's data directory
+     * @return path to the policy type's pre-parsed file
+     */
+    public static Path constructCompactFilePath(ToscaConceptIdentifier policyTypeId, Path pathForData) {
+        return pathForData.toAbsolutePath().resolve(policyTypeId.getName() + "-" + policyTypeId.getVersion()
+            + ".json");
+    }
+
+    private ToscaServiceTemplate load(ToscaConceptIdentifier policyTypeId, Path pathForData, HttpClient apiClient) {
+        //
+        // Try the pre-parsed form first
+        //
+        var compactPath = constructCompactFilePath(policyTypeId, pathForData);
+        try {
+            var template = coder.decode(Files.readString(compactPath), ToscaServiceTemplate.class);
+            LOGGER.info("Read in pre-parsed policy type {}", compactPath);
+            return template;
+        } catch (NoSuchFileException e) {
+            LOGGER.debug("No pre-parsed policy type {}", compactPath);
+        } catch (IOException | CoderException e) {
+            LOGGER.warn("Ignoring pre-parsed policy type {}", compactPath, e);
+        }
+        //
+        // Then the YAML
+        //
+        var policyTypePath = constructLocalFilePath(policyTypeId, pathForData);
+        byte[] bytes;
+        try {
+            bytes = Files.readAllBytes(policyTypePath);
+        } catch (IOException e) {
+            //
+            // Does not exist locally, so let's GET it from the policy api
+            //
+            LOGGER.error("PolicyType not found in data area yet {}", policyTypePath, e);
+            return pull(policyTypeId, policyTypePath, apiClient);
+        }
+        LOGGER.info("Read in local policy type {}", policyTypePath);
+        try {
+            ToscaServiceTemplate template = yamlCoder.decode(new String(bytes, StandardCharsets.UTF_8),
+                ToscaServiceTemplate.class);
+            //
+            // Ensure all the fields are setup correctly
+            //
+            var jtst = new JpaToscaServiceTemplate();
+            jtst.fromAuthorative(template);
+            template = jtst.toAuthorative();
+            //
+            // Keep the result so we need not do that again
+            //
+            storeCompact(template, compactPath);
+            return template;
+        } catch (CoderException e) {
+            LOGGER.error("Failed to decode tosca template for {}", policyTypePath, e);
+        }
+        LOGGER.error("Failed to find/load policy type {}", policyTypeId);
+        return null;
+    }
+
+    private ToscaServiceTemplate pull(ToscaConceptIdentifier policyTypeId, Path policyTypePath,
+        HttpClient apiClient) {
+        ToscaServiceTemplate template;
+        try {
+            template = new PolicyApiCaller(apiClient).getPolicyType(policyTypeId);
+        } catch (PolicyApiException e) {
+            LOGGER.error("Failed to make API call", e);
+            return null;
+        }
+        LOGGER.info("Successfully pulled {}", policyTypeId);
+        //
+        // Store it locally
+        //
+        try {
+            yamlCoder.encode(policyTypePath.toFile(), template);
+        } catch (CoderException e) {
+            LOGGER.error("Failed to store {} locally to {}", policyTypeId, policyTypePath, e);
+        }
+        return template;
+    }
+
+    private void storeCompact(ToscaServiceTemplate template, Path compactPath) {
+        try {
+            coder.encode(compactPath.toFile(), template);
+        } catch (CoderException e) {
+            LOGGER.warn("Failed to store pre-parsed policy type {}", compactPath, e);
+        }
+    }
+}
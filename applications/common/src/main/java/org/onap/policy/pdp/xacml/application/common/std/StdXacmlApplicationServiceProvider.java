@@ -29,15 +29,24 @@ import com.att.research.xacml.api.pdp.PDPEngine;
 import com.att.research.xacml.api.pdp.PDPEngineFactory;
 import com.att.research.xacml.api.pdp.PDPException;
 import com.att.research.xacml.util.FactoryException;
+import com.att.research.xacml.util.XACMLProperties;
+import com.att.research.xacmlatt.pdp.policy.PolicyDef;
 import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -47,6 +56,8 @@ import org.onap.policy.models.decisions.concepts.DecisionRequest;
 import org.onap.policy.models.decisions.concepts.DecisionResponse;
 import org.onap.policy.models.tosca.authorative.concepts.ToscaConceptIdentifier;
 import org.onap.policy.models.tosca.authorative.concepts.ToscaPolicy;
+import org.onap.policy.pdp.xacml.application.common.OnapPolicyFinderFactory;
+import org.onap.policy.pdp.xacml.application.common.PolicyContentCache;
 import org.onap.policy.pdp.xacml.application.common.ToscaPolicyConversionException;
 import org.onap.policy.pdp.xacml.application.common.ToscaPolicyTranslator;
 import org.onap.policy.pdp.xacml.application.common.XacmlApplicationException;
@@ -59,6 +70,12 @@ import org.slf4j.LoggerFactory;
 public abstract class StdXacmlApplicationServiceProvider implements XacmlApplicationServiceProvider {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(StdXacmlApplicationServiceProvider.class);
+    //
+    // Translating a policy is CPU bound and independent of the other policies, so
+    // the policies of a deploy are translated in parallel
+    //
+    private static final ForkJoinPool translationPool =
+        new ForkJoinPool(Runtime.getRuntime().availableProcessors());
 
     protected String applicationName = "Please Override";
     protected List<String> actions = Collections.emptyList();
@@ -68,8 +85,28 @@ public abstract class StdXacmlApplicationServiceProvider implements XacmlApplica
     @Getter
     private HttpClient policyApiClient;
     private Properties pdpProperties = null;
-    private PDPEngine pdpEngine = null;
+    //
+    // Decisions read the current engines without locking, deploys build new
+    // engines off to the side and swap them in.
+    //
+    private final AtomicReference<StdPdpEnginePool> enginePool = new AtomicReference<>();
+    @Getter
+    private int enginePoolSize = 0;
+    //
+    // Optional cache of decisions, invalidated whenever new engines are swapped in
+    //
+    private volatile StdDecisionCache decisionCache = null;
+    //
+    // Writes the policy files and properties, possibly behind the deploys
+    //
+    private StdPolicyPersister persister = new StdPolicyPersister(null, false, false);
+    //
+    // Translated policies from the previous run, so they need not be translated again
+    //
+    private boolean snapshotEnabled = false;
+    private volatile StdPolicySnapshot snapshot = StdPolicySnapshot.EMPTY;
     private final Map<ToscaPolicy, Path> mapLoadedPolicies = new HashMap<>();
+    private final Map<ToscaPolicy, String> mapLoadedDigests = new HashMap<>();
 
     @Override
     public String applicationName() {
@@ -103,11 +140,53 @@ public abstract class StdXacmlApplicationServiceProvider implements XacmlApplica
             throw new XacmlApplicationException("Failed to load " + XacmlPolicyUtils.XACML_PROPERTY_FILE, e);
         }
         //
+        // Load the snapshot of the policies we deployed before
+        //
+        if (this.snapshotEnabled) {
+            this.snapshot = StdPolicySnapshot.load(this.getSnapshotPath());
+        }
+        //
         // Create an engine
         //
         createEngine(pdpProperties);
     }
 
+    @Override
+    public void setEnginePoolSize(int size) {
+        this.enginePoolSize = Math.max(0, size);
+    }
+
+    @Override
+    public void setDecisionCache(long maximumSize, long ttlSeconds) {
+        if (maximumSize <= 0 || ttlSeconds <= 0) {
+            this.decisionCache = null;
+            return;
+        }
+        if (!this.isDecisionCacheable()) {
+            LOGGER.info("Decisions of {} cannot be cached", this.applicationName);
+            this.decisionCache = null;
+            return;
+        }
+        this.decisionCache = new StdDecisionCache(this.applicationName, maximumSize, ttlSeconds);
+    }
+
+    @Override
+    public synchronized void setPersistence(boolean writeBehind, boolean fsync) {
+        var oldPersister = this.persister;
+        this.persister = new StdPolicyPersister(this.applicationName, writeBehind, fsync);
+        oldPersister.shutdown();
+    }
+
+    @Override
+    public void setSnapshot(boolean enabled) {
+        this.snapshotEnabled = enabled;
+    }
+
+    @Override
+    public void flushPersistence() {
+        this.persister.flush();
+    }
+
     @Override
     public List<ToscaConceptIdentifier> supportedPolicyTypes() {
         return supportedPolicyTypes;
@@ -119,99 +198,346 @@ public abstract class StdXacmlApplicationServiceProvider implements XacmlApplica
     }
 
     @Override
-    public synchronized void loadPolicy(ToscaPolicy toscaPolicy) throws XacmlApplicationException {
-        try {
-            //
-            // Convert the policies first
-            //
-            Object xacmlPolicy = this.getTranslator(toscaPolicy.getType()).convertPolicy(toscaPolicy);
-            if (xacmlPolicy == null) {
-                throw new ToscaPolicyConversionException("Failed to convert policy");
+    public synchronized List<ToscaPolicy> restorePolicies() {
+        //
+        // The engine was created from the properties, so find the root policies
+        // in them that we know the Tosca Policy of from the snapshot
+        //
+        Map<String, Path> rootPolicyFiles = new HashMap<>();
+        for (String rootPolicy : XACMLProperties.getRootPolicyIDs(this.pdpProperties)) {
+            String file = this.pdpProperties.getProperty(rootPolicy + OnapPolicyFinderFactory.PROP_FILE);
+            if (file != null) {
+                var path = Paths.get(file);
+                rootPolicyFiles.put(path.getFileName().toString(), path);
             }
+        }
+        int rootPolicyCount = rootPolicyFiles.size();
+        List<ToscaPolicy> restoredPolicies = new ArrayList<>();
+        for (StdPolicySnapshot.Entry entry : this.snapshot.entries()) {
+            Path refPath = rootPolicyFiles.remove(entry.fileName());
+            if (refPath == null) {
+                LOGGER.warn("Not restoring {}, it is not in the properties", entry.policy().getMetadata());
+                continue;
+            }
+            this.mapLoadedPolicies.put(entry.policy(), refPath);
+            this.mapLoadedDigests.put(entry.policy(), entry.digest());
+            restoredPolicies.add(entry.policy());
+        }
+        //
+        // Root policies we do not know the Tosca Policy of could never be undeployed,
+        // so they are dropped and left for PAP to deploy again
+        //
+        if (!rootPolicyFiles.isEmpty()) {
+            this.dropRootPolicies(rootPolicyFiles.values());
+        }
+        LOGGER.info("Restored {} of {} root policies for {}", restoredPolicies.size(), rootPolicyCount,
+            this.applicationName);
+        return restoredPolicies;
+    }
+
+    private void dropRootPolicies(Collection<Path> rootPolicies) {
+        var newProperties = this.getProperties();
+        var dataPath = this.getDataPath().toAbsolutePath();
+        for (Path refPath : rootPolicies) {
+            LOGGER.warn("Dropping root policy {}, it is not in the snapshot", refPath);
+            XacmlPolicyUtils.removeRootPolicy(newProperties, refPath);
+            OnapPolicyFinderFactory.evictPolicyDef(refPath);
             //
-            // Create a copy of the properties object
-            //
-            var newProperties = this.getProperties();
-            //
-            // Construct the filename
-            //
-            var refPath = XacmlPolicyUtils.constructUniquePolicyFilename(xacmlPolicy, this.getDataPath());
-            //
-            // Write the policy to disk
-            // Maybe check for an error
+            // Only files we wrote ourselves are deleted
             //
-            if (XacmlPolicyUtils.writePolicyFile(refPath, xacmlPolicy) == null) {
-                throw new ToscaPolicyConversionException("Unable to writePolicyFile");
+            if (!refPath.toAbsolutePath().startsWith(dataPath)) {
+                continue;
             }
-            if (LOGGER.isInfoEnabled()) {
-                LOGGER.info("Xacml Policy is {}{}", XacmlPolicyUtils.LINE_SEPARATOR,
-                    Files.readString(refPath));
+            try {
+                this.persister.deletePolicy(refPath);
+            } catch (IOException e) {
+                LOGGER.error("Failed to delete policy {} from disk", refPath.toAbsolutePath(), e);
             }
+        }
+        try {
+            this.persister.storeProperties(newProperties, XacmlPolicyUtils.getPropertiesPath(this.getDataPath()));
+        } catch (IOException e) {
+            LOGGER.error("Failed to save the properties to disk {}", newProperties, e);
+        }
+        this.createEngine(newProperties);
+        this.pdpProperties = newProperties;
+    }
+
+    @Override
+    public synchronized void loadPolicy(ToscaPolicy toscaPolicy) throws XacmlApplicationException {
+        var failures = this.loadPolicies(List.of(toscaPolicy));
+        if (!failures.isEmpty()) {
+            throw failures.get(toscaPolicy);
+        }
+    }
+
+    @Override
+    public synchronized Map<ToscaPolicy, XacmlApplicationException> loadPolicies(List<ToscaPolicy> toscaPolicies) {
+        Map<ToscaPolicy, XacmlApplicationException> failures = new LinkedHashMap<>();
+        Map<ToscaPolicy, Path> loadedPolicies = new LinkedHashMap<>();
+        Map<ToscaPolicy, String> loadedDigests = new HashMap<>();
+        Map<Path, PolicyDef> loadedPolicyDefs = new HashMap<>();
+        //
+        // Create a copy of the properties object
+        //
+        var newProperties = this.getProperties();
+        //
+        // Convert all of the policies, then write each one in order, adding it to the properties
+        //
+        List<TranslatedPolicy> translatedPolicies = this.translatePolicies(toscaPolicies);
+        for (TranslatedPolicy translatedPolicy : translatedPolicies) {
+            ToscaPolicy toscaPolicy = translatedPolicy.toscaPolicy();
+            try {
+                var refPath = this.writePolicy(translatedPolicy);
+                XacmlPolicyUtils.addRootPolicy(newProperties, refPath);
+                loadedPolicies.put(toscaPolicy, refPath);
+                loadedPolicyDefs.put(refPath, translatedPolicy.policyDef());
+                if (translatedPolicy.digest() != null) {
+                    loadedDigests.put(toscaPolicy, translatedPolicy.digest());
+                }
+            } catch (ToscaPolicyConversionException e) {
+                failures.put(toscaPolicy, new XacmlApplicationException("loadPolicy failed", e));
+            }
+        }
+        if (loadedPolicies.isEmpty()) {
+            return failures;
+        }
+        //
+        // Write the properties to disk
+        //
+        try {
+            this.persister.storeProperties(newProperties, XacmlPolicyUtils.getPropertiesPath(this.getDataPath()));
+        } catch (IOException e) {
             //
-            // Add root policy to properties object
-            //
-            XacmlPolicyUtils.addRootPolicy(newProperties, refPath);
-            //
-            // Write the properties to disk
+            // None of the policies are loaded, so do not leave their files behind
             //
-            XacmlPolicyUtils.storeXacmlProperties(newProperties,
-                XacmlPolicyUtils.getPropertiesPath(this.getDataPath()));
+            loadedPolicies.forEach((toscaPolicy, refPath) -> {
+                failures.put(toscaPolicy, new XacmlApplicationException("loadPolicy failed", e));
+                try {
+                    this.persister.deletePolicy(refPath);
+                } catch (IOException deleteException) {
+                    LOGGER.error("Failed to delete policy {} from disk", refPath.toAbsolutePath(), deleteException);
+                }
+            });
+            return failures;
+        }
+        //
+        // Make sure the engine uses the compiled policies, then reload it once for all of them
+        //
+        loadedPolicyDefs.forEach(OnapPolicyFinderFactory::registerPolicyDef);
+        this.createEngine(newProperties);
+        //
+        // Save the properties
+        //
+        this.pdpProperties = newProperties;
+        //
+        // Save in our map
+        //
+        this.mapLoadedPolicies.putAll(loadedPolicies);
+        this.mapLoadedDigests.putAll(loadedDigests);
+        this.storeSnapshot();
+        return failures;
+    }
+
+    /**
+     * A policy that has been converted and compiled for the engine, or the reason it could not be.
+     * The digest is only computed when the application keeps a snapshot.
+     */
+    private record TranslatedPolicy(ToscaPolicy toscaPolicy, String digest, Object xacmlPolicy,
+        PolicyDef policyDef, StdPolicySnapshot.Entry snapshotEntry, ToscaPolicyConversionException error) {
+    }
+
+    /**
+     * Converts and compiles policies in parallel.
+     *
+     * @param toscaPolicies policies to translate
+     * @return the translated policies, in the same order
+     */
+    private List<TranslatedPolicy> translatePolicies(List<ToscaPolicy> toscaPolicies) {
+        List<String> digests = toscaPolicies.stream()
+            .map(toscaPolicy -> this.snapshotEnabled ? StdPolicySnapshot.digest(toscaPolicy) : null).toList();
+        this.prefetchPolicyTypes(toscaPolicies, digests);
+        if (toscaPolicies.size() <= 1) {
+            return IntStream.range(0, toscaPolicies.size())
+                .mapToObj(index -> this.translatePolicy(toscaPolicies.get(index), digests.get(index))).toList();
+        }
+        return translationPool.submit(() -> IntStream.range(0, toscaPolicies.size()).parallel()
+            .mapToObj(index -> this.translatePolicy(toscaPolicies.get(index), digests.get(index))).toList())
+            .join();
+    }
+
+    /**
+     * Has the matchable translators fetch the policy types they will need all at once, rather
+     * than one at a time as each policy is translated.
+     *
+     * @param toscaPolicies policies about to be translated
+     * @param digests digests of the policies, null when there is no snapshot
+     */
+    private void prefetchPolicyTypes(List<ToscaPolicy> toscaPolicies, List<String> digests) {
+        Map<StdMatchableTranslator, Set<ToscaConceptIdentifier>> policyTypes = new LinkedHashMap<>();
+        for (var index = 0; index < toscaPolicies.size(); ++index) {
+            var toscaPolicy = toscaPolicies.get(index);
+            if (this.getSnapshotEntry(digests.get(index)) == null
+                && this.getTranslator(toscaPolicy.getType()) instanceof StdMatchableTranslator translator) {
+                policyTypes.computeIfAbsent(translator, key -> new HashSet<>()).add(toscaPolicy.getTypeIdentifier());
+            }
+        }
+        policyTypes.forEach(StdMatchableTranslator::prefetchPolicyTypes);
+    }
+
+    /**
+     * Converts a policy and compiles it for the engine.
+     *
+     * @param toscaPolicy policy to translate
+     * @param digest digest of the policy, null when there is no snapshot
+     * @return the translated policy
+     */
+    private TranslatedPolicy translatePolicy(ToscaPolicy toscaPolicy, String digest) {
+        try {
             //
-            // Reload the engine
+            // No need to translate it if it is in the snapshot
             //
-            this.createEngine(newProperties);
+            var entry = this.getSnapshotEntry(digest);
+            if (entry != null) {
+                return new TranslatedPolicy(toscaPolicy, digest, null, entry.compile(), entry, null);
+            }
             //
-            // Save the properties
+            // Convert the policies first
             //
-            this.pdpProperties = newProperties;
+            Object xacmlPolicy = this.getTranslator(toscaPolicy.getType()).convertPolicy(toscaPolicy);
+            if (xacmlPolicy == null) {
+                throw new ToscaPolicyConversionException("Failed to convert policy");
+            }
             //
-            // Save in our map
+            // Compile it for the engine, rather than have the engine parse the file
             //
-            this.mapLoadedPolicies.put(toscaPolicy, refPath);
-        } catch (IOException | ToscaPolicyConversionException e) {
-            throw new XacmlApplicationException("loadPolicy failed", e);
+            return new TranslatedPolicy(toscaPolicy, digest, xacmlPolicy, XacmlPolicyUtils.compilePolicy(xacmlPolicy),
+                null, null);
+        } catch (ToscaPolicyConversionException e) {
+            return new TranslatedPolicy(toscaPolicy, digest, null, null, null, e);
         }
     }
 
-    @Override
-    public synchronized boolean unloadPolicy(ToscaPolicy toscaPolicy) {
-        //
-        // Find it in our map
-        //
-        Path refPolicy = this.mapLoadedPolicies.get(toscaPolicy);
-        if (refPolicy == null) {
-            LOGGER.error("Failed to find ToscaPolicy {} in our map size {}", toscaPolicy.getMetadata(),
-                this.mapLoadedPolicies.size());
-            return false;
+    private StdPolicySnapshot.Entry getSnapshotEntry(String digest) {
+        return digest == null ? null : this.snapshot.get(digest);
+    }
+
+    /**
+     * Writes a translated policy to disk.
+     *
+     * @param translatedPolicy policy to write
+     * @return the path to the policy file
+     * @throws ToscaPolicyConversionException if the policy could not be translated or written
+     */
+    private Path writePolicy(TranslatedPolicy translatedPolicy) throws ToscaPolicyConversionException {
+        if (translatedPolicy.error() != null) {
+            throw translatedPolicy.error();
         }
+        var entry = translatedPolicy.snapshotEntry();
         //
-        // Create a copy of the properties object
+        // Construct the filename
         //
-        var newProperties = this.getProperties();
+        var refPath = entry != null ? this.getDataPath().toAbsolutePath().resolve(entry.fileName())
+            : XacmlPolicyUtils.constructUniquePolicyFilename(translatedPolicy.xacmlPolicy(), this.getDataPath());
         //
-        // Remove it from the properties
-        //
-        XacmlPolicyUtils.removeRootPolicy(newProperties, refPolicy);
-        //
-        // We can delete the file
+        // Write the policy to disk, which may happen after the engine is using it
         //
         try {
-            Files.delete(refPolicy);
+            if (entry != null) {
+                this.persister.writePolicy(refPath, entry.content());
+            } else {
+                this.persister.writePolicy(refPath, translatedPolicy.xacmlPolicy());
+            }
         } catch (IOException e) {
-            LOGGER.error("Failed to delete policy {} from disk {}", toscaPolicy.getMetadata(),
-                refPolicy.toAbsolutePath(), e);
+            throw new ToscaPolicyConversionException("Unable to writePolicyFile", e);
+        }
+        LOGGER.info("Xacml Policy for {} is {}{}", translatedPolicy.toscaPolicy().getMetadata(), refPath,
+            entry != null ? " from the snapshot" : "");
+        return refPath;
+    }
+
+    /**
+     * Stores a snapshot of the policies that are now loaded, once their files are written.
+     * Only the list of loaded policies is taken here, the snapshot is built and written by
+     * the persister on another thread.
+     */
+    private void storeSnapshot() {
+        if (!this.snapshotEnabled) {
+            return;
+        }
+        List<StdPolicySnapshot.Deployed> policies = new ArrayList<>(this.mapLoadedPolicies.size());
+        this.mapLoadedPolicies.forEach((toscaPolicy, path) -> {
+            String digest = this.mapLoadedDigests.get(toscaPolicy);
+            if (digest != null) {
+                policies.add(new StdPolicySnapshot.Deployed(digest, toscaPolicy, path));
+            }
+        });
+        this.persister.storeSnapshot(this.getSnapshotPath(), () -> {
+            var newSnapshot = StdPolicySnapshot.build(policies, this.snapshot);
+            this.snapshot = newSnapshot;
+            return newSnapshot;
+        });
+    }
+
+    private Path getSnapshotPath() {
+        return this.getDataPath().toAbsolutePath().resolve(StdPolicySnapshot.SNAPSHOT_FILE);
+    }
+
+    @Override
+    public synchronized boolean unloadPolicy(ToscaPolicy toscaPolicy) {
+        return !this.unloadPolicies(List.of(toscaPolicy)).isEmpty();
+    }
+
+    @Override
+    public synchronized List<ToscaPolicy> unloadPolicies(List<ToscaPolicy> toscaPolicies) {
+        List<ToscaPolicy> unloadedPolicies = new ArrayList<>();
+        //
+        // Create a copy of the properties object
+        //
+        var newProperties = this.getProperties();
+        for (ToscaPolicy toscaPolicy : toscaPolicies) {
+            //
+            // Find it in our map
+            //
+            Path refPolicy = this.mapLoadedPolicies.get(toscaPolicy);
+            if (refPolicy == null) {
+                LOGGER.error("Failed to find ToscaPolicy {} in our map size {}", toscaPolicy.getMetadata(),
+                    this.mapLoadedPolicies.size());
+                continue;
+            }
+            //
+            // Remove it from the properties
+            //
+            XacmlPolicyUtils.removeRootPolicy(newProperties, refPolicy);
+            //
+            // We can delete the file
+            //
+            try {
+                this.persister.deletePolicy(refPolicy);
+            } catch (IOException e) {
+                LOGGER.error("Failed to delete policy {} from disk {}", toscaPolicy.getMetadata(),
+                    refPolicy.toAbsolutePath(), e);
+            }
+            OnapPolicyFinderFactory.evictPolicyDef(refPolicy);
+            if (toscaPolicy.getMetadata() != null) {
+                PolicyContentCache.remove(String.valueOf(toscaPolicy.getMetadata().get(StdBaseTranslator.POLICY_ID)),
+                    toscaPolicy.getVersion());
+            }
+            unloadedPolicies.add(toscaPolicy);
+        }
+        if (unloadedPolicies.isEmpty()) {
+            return unloadedPolicies;
         }
         //
         // Write the properties to disk
         //
         try {
-            XacmlPolicyUtils.storeXacmlProperties(newProperties,
-                XacmlPolicyUtils.getPropertiesPath(this.getDataPath()));
+            this.persister.storeProperties(newProperties, XacmlPolicyUtils.getPropertiesPath(this.getDataPath()));
         } catch (IOException e) {
             LOGGER.error("Failed to save the properties to disk {}", newProperties, e);
         }
         //
-        // Reload the engine
+        // Reload the engine once for all of the policies
         //
         this.createEngine(newProperties);
         //
@@ -219,21 +545,47 @@ public abstract class StdXacmlApplicationServiceProvider implements XacmlApplica
         //
         this.pdpProperties = newProperties;
         //
-        // Save in our map
+        // Remove from our map
         //
-        if (this.mapLoadedPolicies.remove(toscaPolicy) == null) {
-            LOGGER.error("Failed to remove toscaPolicy {} from internal map size {}", toscaPolicy.getMetadata(),
-                this.mapLoadedPolicies.size());
+        for (ToscaPolicy toscaPolicy : unloadedPolicies) {
+            this.mapLoadedPolicies.remove(toscaPolicy);
+            this.mapLoadedDigests.remove(toscaPolicy);
         }
-        //
-        // Not sure if any of the errors above warrant returning false
-        //
-        return true;
+        this.storeSnapshot();
+        return unloadedPolicies;
     }
 
     @Override
     public Pair<DecisionResponse, Response> makeDecision(DecisionRequest request,
                                                          Map<String, String[]> requestQueryParams) {
+        var cache = this.decisionCache;
+        if (cache == null) {
+            return this.evaluateDecision(request, requestQueryParams);
+        }
+        //
+        // Check the cache first, the epoch must be read before the decision
+        // is made so that a deploy in the meantime keeps it out of the cache.
+        //
+        String key = StdDecisionCache.key(request, requestQueryParams);
+        var decision = cache.get(key);
+        if (decision != null) {
+            return decision;
+        }
+        long epoch = cache.getEpoch();
+        decision = this.evaluateDecision(request, requestQueryParams);
+        cache.put(key, epoch, decision);
+        return decision;
+    }
+
+    /**
+     * Makes the decision without using the decision cache.
+     *
+     * @param request Incoming DecisionRequest object
+     * @param requestQueryParams http request query parameters
+     * @return Pair of DecisionResponse and Xacml Response
+     */
+    protected Pair<DecisionResponse, Response> evaluateDecision(DecisionRequest request,
+                                                                Map<String, String[]> requestQueryParams) {
         //
         // Convert to a XacmlRequest
         //
@@ -263,8 +615,28 @@ public abstract class StdXacmlApplicationServiceProvider implements XacmlApplica
         return this.getTranslator("");
     }
 
-    protected synchronized PDPEngine getEngine() {
-        return this.pdpEngine;
+    protected PDPEngine getEngine() {
+        var pool = this.enginePool.get();
+        return (pool == null ? null : pool.getEngine());
+    }
+
+    protected StdPdpEnginePool getEnginePool() {
+        return this.enginePool.get();
+    }
+
+    protected StdDecisionCache getDecisionCache() {
+        return this.decisionCache;
+    }
+
+    /**
+     * Determines whether the decisions of this application can be cached. Applications
+     * whose decisions depend on more than the request and the deployed policies, such as
+     * the time of day or PIP lookups, should override this and return false.
+     *
+     * @return true if decisions can be cached
+     */
+    protected boolean isDecisionCacheable() {
+        return true;
     }
 
     protected synchronized Properties getProperties() {
@@ -278,49 +650,65 @@ public abstract class StdXacmlApplicationServiceProvider implements XacmlApplica
     }
 
     /**
-     * Creates an instance of PDP engine given the Properties object.
+     * Creates the PDP engines given the Properties object. When an engine pool size
+     * has been configured, that many engines are created and each decision checks out
+     * its own. Otherwise a single engine is shared by all decisions. The new engines
+     * replace the current ones atomically, decisions already running against the
+     * previous engines are allowed to complete before those are shutdown.
      */
     protected synchronized void createEngine(Properties properties) {
         //
-        // Now initialize the XACML PDP Engine
+        // Now initialize the XACML PDP Engines
         //
+        int count = Math.max(1, this.enginePoolSize);
+        List<PDPEngine> engines = new ArrayList<>(count);
         try {
             var factory = getPdpEngineFactory();
-            PDPEngine engine = factory.newEngine(properties);
-            if (engine != null) {
-                //
-                // If there is a previous engine have it shutdown.
-                //
-                this.destroyEngine();
-                //
-                // Save it off
-                //
-                this.pdpEngine = engine;
+            while (engines.size() < count) {
+                PDPEngine engine = factory.newEngine(properties);
+                if (engine == null) {
+                    break;
+                }
+                engines.add(engine);
             }
         } catch (FactoryException e) {
             LOGGER.error("Failed to create XACML PDP Engine", e);
         }
+        if (engines.size() < count) {
+            //
+            // Keep the current engines, discard any partial pool
+            //
+            engines.forEach(StdXacmlApplicationServiceProvider::shutdownEngine);
+            return;
+        }
+        //
+        // Swap them in and have the previous engines shutdown.
+        //
+        retireEngines(this.enginePool.getAndSet(
+            new StdPdpEnginePool(this.applicationName, engines, this.enginePoolSize > 0)));
+        invalidateDecisions();
     }
 
     protected synchronized void destroyEngine() {
-        if (this.pdpEngine == null) {
-            return;
-        }
-        try {
-            this.pdpEngine.shutdown();
-        } catch (Exception e) {
-            LOGGER.warn("Exception thrown when destroying XACML PDP engine.", e);
+        retireEngines(this.enginePool.getAndSet(null));
+        invalidateDecisions();
+    }
+
+    private void invalidateDecisions() {
+        var cache = this.decisionCache;
+        if (cache != null) {
+            cache.invalidate();
         }
-        this.pdpEngine = null;
     }
 
     /**
-     * Make a decision call.
+     * Make a decision call. This does not lock, so any number of decisions
+     * can be evaluated concurrently, including while new engines are being created.
      *
      * @param request Incoming request object
      * @return Response object
      */
-    protected synchronized Response xacmlDecision(Request request) {
+    protected Response xacmlDecision(Request request) {
         //
         // This is what we need to return
         //
@@ -329,11 +717,31 @@ public abstract class StdXacmlApplicationServiceProvider implements XacmlApplica
         // Track some timing
         //
         long timeStart = System.currentTimeMillis();
+        StdPdpEnginePool pool = null;
+        PDPEngine engine = null;
         try {
-            response = this.pdpEngine.decide(request);
+            //
+            // Check out an engine, if a deploy retires the pool in between
+            // simply try again with the new one.
+            //
+            while (engine == null) {
+                pool = this.enginePool.get();
+                if (pool == null) {
+                    LOGGER.error("Xacml PDP Engine has not been created");
+                    return null;
+                }
+                engine = pool.checkout();
+            }
+            response = engine.decide(request);
         } catch (PDPException e) {
             LOGGER.error("Xacml PDP Engine decide failed", e);
+        } catch (InterruptedException e) {
+            LOGGER.error("Interrupted waiting for a Xacml PDP Engine", e);
+            Thread.currentThread().interrupt();
         } finally {
+            if (engine != null) {
+                pool.checkin(engine);
+            }
             //
             // Track the end of timing
             //
@@ -343,6 +751,20 @@ public abstract class StdXacmlApplicationServiceProvider implements XacmlApplica
         return response;
     }
 
+    private static void retireEngines(StdPdpEnginePool pool) {
+        if (pool != null) {
+            pool.retire();
+        }
+    }
+
+    private static void shutdownEngine(PDPEngine engine) {
+        try {
+            engine.shutdown();
+        } catch (Exception e) {
+            LOGGER.warn("Exception thrown when destroying XACML PDP engine.", e);
+        }
+    }
+
     // these may be overridden by junit tests
 
     protected PDPEngineFactory getPdpEngineFactory() throws FactoryException {
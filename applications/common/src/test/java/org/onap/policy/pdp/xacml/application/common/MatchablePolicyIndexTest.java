@@ -0,0 +1,136 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdp.xacml.application.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.att.research.xacml.api.Identifier;
+import com.att.research.xacml.api.XACML3;
+import com.att.research.xacml.std.IdentifierImpl;
+import com.att.research.xacml.std.StdMutableAttribute;
+import com.att.research.xacml.std.StdMutableRequest;
+import com.att.research.xacml.std.StdMutableRequestAttributes;
+import com.att.research.xacml.std.StdVersion;
+import com.att.research.xacml.std.datatypes.DataTypes;
+import com.att.research.xacmlatt.pdp.policy.CombiningAlgorithmFactory;
+import com.att.research.xacmlatt.pdp.policy.PolicyDef;
+import com.att.research.xacmlatt.pdp.policy.PolicySet;
+import com.att.research.xacmlatt.pdp.policy.PolicySetChild;
+import java.util.ArrayList;
+import java.util.List;
+import oasis.names.tc.xacml._3_0.core.schema.wd_17.MatchType;
+import oasis.names.tc.xacml._3_0.core.schema.wd_17.PolicyType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class MatchablePolicyIndexTest {
+    private static final Identifier GEOGRAPHY = new IdentifierImpl(ToscaDictionary.ID_RESOURCE_MATCHABLE + "geography");
+    private static final Identifier SERVICE = new IdentifierImpl(ToscaDictionary.ID_RESOURCE_MATCHABLE + "services");
+
+    private MatchablePolicyIndex index;
+
+    /**
+     * Creates an index for a default policy and policies matching on their properties.
+     */
+    @BeforeEach
+    void setUp() throws Exception {
+        List<PolicyDef> policies = new ArrayList<>();
+        // no matchables
+        policies.add(XacmlPolicyUtils.compilePolicy(XacmlPolicyUtils.createEmptyPolicy("default",
+            XACML3.ID_RULE_FIRST_APPLICABLE)));
+        // either geography, and a service
+        PolicyType policy = XacmlPolicyUtils.createEmptyPolicy("us", XACML3.ID_RULE_FIRST_APPLICABLE);
+        var anyOf = ToscaPolicyTranslatorUtils.buildAndAppendAllof(null, match(GEOGRAPHY, "US"));
+        ToscaPolicyTranslatorUtils.buildAndAppendAllof(anyOf, match(GEOGRAPHY, "INTERNATIONAL"));
+        ToscaPolicyTranslatorUtils.buildAndAppendTarget(policy.getTarget(), anyOf);
+        ToscaPolicyTranslatorUtils.buildAndAppendTarget(policy.getTarget(), match(SERVICE, "vCPE"));
+        policies.add(XacmlPolicyUtils.compilePolicy(policy));
+        // only a function that is not indexed
+        policy = XacmlPolicyUtils.createEmptyPolicy("regexp", XACML3.ID_RULE_FIRST_APPLICABLE);
+        var regexp = match(SERVICE, "v.*");
+        regexp.setMatchId(XACML3.ID_FUNCTION_STRING_REGEXP_MATCH.stringValue());
+        ToscaPolicyTranslatorUtils.buildAndAppendTarget(policy.getTarget(), regexp);
+        policies.add(XacmlPolicyUtils.compilePolicy(policy));
+        // another service
+        policy = XacmlPolicyUtils.createEmptyPolicy("vfw", XACML3.ID_RULE_FIRST_APPLICABLE);
+        ToscaPolicyTranslatorUtils.buildAndAppendTarget(policy.getTarget(), match(SERVICE, "vFW"));
+        policies.add(XacmlPolicyUtils.compilePolicy(policy));
+
+        index = new MatchablePolicyIndex(new IdentifierImpl("root"), StdVersion.newInstance("1.0"),
+            CombiningAlgorithmFactory.newInstance().getPolicyCombiningAlgorithm(
+                XACML3.ID_POLICY_FIRST_APPLICABLE), policies);
+    }
+
+    @Test
+    void testIndexedCount() {
+        assertThat(index.getIndexedCount()).isEqualTo(2);
+    }
+
+    @Test
+    void testSelect() throws Exception {
+        // the policies that are not indexed are always candidates
+        assertThat(select(newRequest())).containsExactly("default", "regexp");
+
+        assertThat(select(newRequest(GEOGRAPHY, "INTERNATIONAL"))).containsExactly("default", "us", "regexp");
+        assertThat(select(newRequest(SERVICE, "vFW", "vCPE"))).containsExactly("default", "us", "regexp", "vfw");
+        assertThat(select(newRequest(SERVICE, "vDNS"))).containsExactly("default", "regexp");
+
+        PolicySet root = index.select(newRequest(GEOGRAPHY, "US"));
+        assertThat(root.getIdentifier().stringValue()).isEqualTo("root");
+        assertThat(root.getPolicyCombiningAlgorithm()).isNotNull();
+    }
+
+    private List<String> select(StdMutableRequest request) {
+        List<String> ids = new ArrayList<>();
+        var children = index.select(request).getChildren();
+        while (children.hasNext()) {
+            PolicySetChild child = children.next();
+            ids.add(child.getIdentifier().stringValue());
+        }
+        return ids;
+    }
+
+    private static MatchType match(Identifier attributeId, String value) {
+        return ToscaPolicyTranslatorUtils.buildMatchTypeDesignator(XACML3.ID_FUNCTION_STRING_EQUAL, value,
+            XACML3.ID_DATATYPE_STRING, attributeId, XACML3.ID_ATTRIBUTE_CATEGORY_RESOURCE);
+    }
+
+    private static StdMutableRequest newRequest(Identifier attributeId, String... values) throws Exception {
+        var attributes = new StdMutableRequestAttributes();
+        attributes.setCategory(XACML3.ID_ATTRIBUTE_CATEGORY_RESOURCE);
+        for (String value : values) {
+            var attribute = new StdMutableAttribute();
+            attribute.setCategory(XACML3.ID_ATTRIBUTE_CATEGORY_RESOURCE);
+            attribute.setAttributeId(attributeId);
+            attribute.addValue(DataTypes.DT_STRING.createAttributeValue(value));
+            attributes.add(attribute);
+        }
+        var request = new StdMutableRequest();
+        request.add(attributes);
+        return request;
+    }
+
+    private static StdMutableRequest newRequest() {
+        var request = new StdMutableRequest();
+        request.add(new StdMutableRequestAttributes());
+        return request;
+    }
+}
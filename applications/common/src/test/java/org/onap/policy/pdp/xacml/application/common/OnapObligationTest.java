@@ -142,4 +142,24 @@ class OnapObligationTest {
         assertThat(newObligation.getAttributeAssignmentExpression()).hasSize(4);
     }
 
+    @Test
+    void testVersionedPolicy() {
+        OnapObligation onapObligation = new OnapObligation("my.policy.id", "1.0.0", policyJson,
+            "onap.policies.Test", 5);
+        assertThat(onapObligation.getPolicyVersion()).isEqualTo("1.0.0");
+        assertThat(onapObligation.getWeight()).isEqualTo(5);
+        //
+        // The version is carried through the obligation
+        //
+        ObligationExpressionType newObligation = onapObligation.generateObligation();
+        assertThat(newObligation.getAttributeAssignmentExpression()).hasSize(5);
+
+        OnapObligation scanned = new OnapObligation(TestUtilsCommon.createXacmlObligation(
+            ToscaDictionary.ID_OBLIGATION_REST_BODY.stringValue(),
+            Arrays.asList(assignmentPolicyId, assignmentPolicy, TestUtilsCommon.createAttributeAssignment(
+                ToscaDictionary.ID_OBLIGATION_POLICY_VERSION.stringValue(),
+                ToscaDictionary.ID_OBLIGATION_POLICY_VERSION_CATEGORY.stringValue(), "1.0.0"))));
+        assertThat(scanned.getPolicyVersion()).isEqualTo("1.0.0");
+        assertThat(new OnapObligation(obligation).getPolicyVersion()).isNull();
+    }
 }
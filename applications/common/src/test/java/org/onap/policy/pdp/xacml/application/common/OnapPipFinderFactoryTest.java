@@ -0,0 +1,46 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdp.xacml.application.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import com.att.research.xacml.api.pip.PIPException;
+import java.util.Properties;
+import org.junit.jupiter.api.Test;
+import org.onap.policy.pdp.xacml.application.common.std.StdPipResolvingFinder;
+
+class OnapPipFinderFactoryTest {
+
+    @Test
+    void testGetFinder() throws PIPException {
+        var factory = new OnapPipFinderFactory(new Properties());
+        var finder = factory.getFinder();
+        assertThat(finder).isInstanceOf(StdPipResolvingFinder.class);
+        assertThat(finder.getPIPEngines()).isEmpty();
+        assertSame(finder, factory.getFinder());
+
+        var other = factory.getFinder(new Properties());
+        assertThat(other).isInstanceOf(StdPipResolvingFinder.class);
+        assertNotSame(finder, other);
+    }
+}
@@ -25,6 +25,12 @@ package org.onap.policy.pdp.xacml.application.common;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import com.att.research.xacml.api.XACML3;
+import com.att.research.xacml.std.IdentifierImpl;
+import com.att.research.xacml.util.XACMLProperties;
+import com.att.research.xacmlatt.pdp.std.StdPolicyFinder;
+import com.att.research.xacmlatt.pdp.util.ATTPDPProperties;
+import java.io.File;
 import java.io.FileInputStream;
 import java.util.Properties;
 import org.junit.jupiter.api.Test;
@@ -65,4 +71,74 @@ class OnapPolicyFinderFactoryTest {
         assertThat(finder).isNotNull();
     }
 
+    @Test
+    void testFinderReusesPolicies() throws Exception {
+        Properties properties = new Properties();
+        try (FileInputStream is = new FileInputStream("src/test/resources/finder.test.properties")) {
+            properties.load(is);
+        }
+        OnapPolicyFinderFactory finder = new OnapPolicyFinderFactory(properties);
+        //
+        // The file has not changed, so it is not parsed again
+        //
+        var policyDef = finder.loadPolicyFileDef("src/test/resources/finder.xml");
+        assertThat(policyDef).isNotNull();
+        assertThat(new OnapPolicyFinderFactory(properties).loadPolicyFileDef("src/test/resources/finder.xml"))
+            .isSameAs(policyDef);
+        //
+        // Unless it has been evicted
+        //
+        OnapPolicyFinderFactory.evictPolicyDef(new File("src/test/resources/finder.xml").toPath());
+        assertThat(finder.loadPolicyFileDef("src/test/resources/finder.xml")).isNotNull().isNotSameAs(policyDef);
+    }
+
+    @Test
+    void testFinderUsesCompiledPolicies() throws Exception {
+        Properties properties = new Properties();
+        try (FileInputStream is = new FileInputStream("src/test/resources/finder.test.properties")) {
+            properties.load(is);
+        }
+        OnapPolicyFinderFactory finder = new OnapPolicyFinderFactory(properties);
+        //
+        // A compiled policy is used even though its file does not exist
+        //
+        var policyFile = new File("src/test/resources/compiled.xml");
+        var policyDef = XacmlPolicyUtils.compilePolicy(
+            XacmlPolicyUtils.createEmptyPolicy("compiled", XACML3.ID_RULE_DENY_UNLESS_PERMIT));
+        OnapPolicyFinderFactory.registerPolicyDef(policyFile.toPath(), policyDef);
+        assertThat(finder.loadPolicyFileDef("src/test/resources/compiled.xml")).isSameAs(policyDef);
+
+        OnapPolicyFinderFactory.evictPolicyDef(policyFile.toPath());
+        assertThat(finder.loadPolicyFileDef("src/test/resources/compiled.xml")).isNull();
+    }
+
+    @Test
+    void testIndexMatchables() throws Exception {
+        var policy = XacmlPolicyUtils.createEmptyPolicy("indexed", XACML3.ID_RULE_FIRST_APPLICABLE);
+        ToscaPolicyTranslatorUtils.buildAndAppendTarget(policy.getTarget(),
+            ToscaPolicyTranslatorUtils.buildMatchTypeDesignator(XACML3.ID_FUNCTION_STRING_EQUAL, "vFW",
+                XACML3.ID_DATATYPE_STRING, new IdentifierImpl(ToscaDictionary.ID_RESOURCE_MATCHABLE + "services"),
+                XACML3.ID_ATTRIBUTE_CATEGORY_RESOURCE));
+        var policyFile = new File("src/test/resources/indexed.xml").toPath();
+        OnapPolicyFinderFactory.registerPolicyDef(policyFile, XacmlPolicyUtils.compilePolicy(policy));
+
+        Properties properties = new Properties();
+        properties.setProperty(ATTPDPProperties.PROP_POLICYFINDERFACTORY_COMBINEROOTPOLICIES,
+            XACML3.ID_POLICY_PERMIT_OVERRIDES.stringValue());
+        properties.setProperty(XACMLProperties.PROP_ROOTPOLICIES, "indexed");
+        properties.setProperty("indexed" + OnapPolicyFinderFactory.PROP_FILE, policyFile.toString());
+        try {
+            //
+            // Only indexed when the application asks for it
+            //
+            assertThat(new OnapPolicyFinderFactory(properties).getPolicyFinder())
+                .isExactlyInstanceOf(StdPolicyFinder.class);
+
+            properties.setProperty(OnapPolicyFinderFactory.PROP_INDEX_MATCHABLES, "true");
+            assertThat(new OnapPolicyFinderFactory(properties).getPolicyFinder())
+                .isInstanceOf(StdPolicyFinder.class).isNotExactlyInstanceOf(StdPolicyFinder.class);
+        } finally {
+            OnapPolicyFinderFactory.evictPolicyDef(policyFile);
+        }
+    }
 }
@@ -0,0 +1,86 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdp.xacml.application.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class PolicyContentCacheTest {
+    private static final String POLICY_ID = "my-policy";
+    private static final String JSON = "{\"name\":\"my-policy\",\"version\":\"1.0.0\","
+        + "\"properties\":{\"threshold\":10,\"hosts\":[\"a\",\"b\"]}}";
+
+    @AfterEach
+    void tearDown() {
+        PolicyContentCache.clear();
+    }
+
+    @Test
+    void testPutGet() {
+        Map<String, Object> content = PolicyContentCache.put(POLICY_ID, JSON);
+        assertThat(content).containsEntry("name", "my-policy").containsEntry("version", "1.0.0");
+        assertThat(content.get("properties")).isEqualTo(Map.of("threshold", 10, "hosts", List.of("a", "b")));
+
+        // the decoded content is shared by policy id and version
+        assertThat(PolicyContentCache.get(POLICY_ID, "1.0.0", new String(JSON))).isSameAs(content);
+
+        // another version is decoded once and kept
+        String changed = JSON.replace("1.0.0", "2.0.0");
+        Map<String, Object> content2 = PolicyContentCache.get(POLICY_ID, "2.0.0", changed);
+        assertThat(content2).isNotSameAs(content).containsEntry("version", "2.0.0");
+        assertThat(PolicyContentCache.get(POLICY_ID, "2.0.0", changed)).isSameAs(content2);
+
+        // without a version it cannot be shared
+        assertThat(PolicyContentCache.get(POLICY_ID, null, JSON)).isEqualTo(content).isNotSameAs(content);
+
+        assertThat(PolicyContentCache.get(null, "1.0.0", JSON)).isEmpty();
+        assertThat(PolicyContentCache.get(POLICY_ID, "1.0.0", null)).isEmpty();
+    }
+
+    @Test
+    void testImmutable() {
+        Map<String, Object> content = PolicyContentCache.get(POLICY_ID, "1.0.0", JSON);
+        assertThatThrownBy(() -> content.remove("name")).isInstanceOf(UnsupportedOperationException.class);
+
+        @SuppressWarnings("unchecked")
+        Map<String, Object> properties = (Map<String, Object>) content.get("properties");
+        assertThatThrownBy(() -> properties.put("threshold", 0)).isInstanceOf(UnsupportedOperationException.class);
+
+        @SuppressWarnings("unchecked")
+        List<Object> hosts = (List<Object>) properties.get("hosts");
+        assertThatThrownBy(() -> hosts.add("c")).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void testRemove() {
+        Map<String, Object> content = PolicyContentCache.put(POLICY_ID, JSON);
+        PolicyContentCache.remove(POLICY_ID, "2.0.0");
+        assertThat(PolicyContentCache.get(POLICY_ID, "1.0.0", JSON)).isSameAs(content);
+
+        PolicyContentCache.remove(POLICY_ID, "1.0.0");
+        assertThat(PolicyContentCache.get(POLICY_ID, "1.0.0", JSON)).isEqualTo(content).isNotSameAs(content);
+    }
+}
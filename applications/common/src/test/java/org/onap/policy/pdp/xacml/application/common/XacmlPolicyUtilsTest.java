@@ -30,6 +30,9 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.att.research.xacml.api.XACML3;
 import com.att.research.xacml.util.XACMLPolicyWriter;
+import com.att.research.xacmlatt.pdp.policy.Policy;
+import com.att.research.xacmlatt.pdp.policy.PolicyDef;
+import com.att.research.xacmlatt.pdp.policy.PolicySet;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
@@ -215,6 +218,23 @@ class XacmlPolicyUtilsTest {
         );
     }
 
+    @Test
+    void testCompilePolicy() throws ToscaPolicyConversionException {
+        PolicyDef policyDef = XacmlPolicyUtils.compilePolicy(policy1);
+        assertThat(policyDef).isInstanceOf(Policy.class);
+        assertThat(policyDef.getIdentifier().stringValue()).isEqualTo("policy1");
+        assertThat(((Policy) policyDef).getRules()).hasNext();
+
+        policyDef = XacmlPolicyUtils.compilePolicy(policySet5);
+        assertThat(policyDef).isInstanceOf(PolicySet.class);
+        assertThat(policyDef.getIdentifier().stringValue()).isEqualTo("policyset5");
+        assertThat(((PolicySet) policyDef).getChildren()).hasNext();
+
+        assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() ->
+            XacmlPolicyUtils.compilePolicy("not a policy")
+        );
+    }
+
     @Test
     void testUpdatingPolicies() {
         assertThatCode(() -> {
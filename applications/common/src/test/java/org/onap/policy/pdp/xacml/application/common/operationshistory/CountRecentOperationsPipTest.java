@@ -22,6 +22,10 @@ package org.onap.policy.pdp.xacml.application.common.operationshistory;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.when;
 
@@ -53,6 +57,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.onap.policy.guard.OperationsHistory;
+import org.onap.policy.pdp.xacml.application.common.std.StdOnapPip;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -233,6 +238,70 @@ class CountRecentOperationsPipTest {
         assertEquals(1, getCount(newEntry));
     }
 
+    @Test
+    void testGetCountFromLocalCounter() throws Exception {
+        properties.setProperty(CountRecentOperationsPip.ISSUER_NAME + CountRecentOperationsPip.LOCAL_COUNTER_PROPERTY,
+            "true");
+        pipEngine.configure("issuer", properties);
+
+        OperationsHistory newEntry = createEntry();
+        em.getTransaction().begin();
+        em.persist(newEntry);
+        em.getTransaction().commit();
+
+        assertTrue(pipEngine.counter.poll());
+        assertEquals(1, pipEngine.counter.count(newEntry.getActor(), newEntry.getOperation(), newEntry.getTarget(),
+            Instant.now().minusSeconds(3600)));
+        assertEquals(1, getCount(newEntry));
+
+        // the PIP of another engine shares the counter
+        var other = new MyPip();
+        other.configure("other", properties);
+        assertSame(pipEngine.counter, other.counter);
+        other.shutdown();
+
+        pipEngine.shutdown();
+        assertNull(pipEngine.counter);
+    }
+
+    @Test
+    void testGetCountFromBatcher() throws Exception {
+        properties.setProperty(CountRecentOperationsPip.ISSUER_NAME + CountRecentOperationsPip.BATCH_WINDOW_PROPERTY,
+            "1");
+        pipEngine.configure("issuer", properties);
+        assertNotNull(pipEngine.batcher);
+
+        OperationsHistory newEntry = createEntry();
+        em.getTransaction().begin();
+        em.persist(newEntry);
+        em.getTransaction().commit();
+
+        assertEquals(1, getCount(newEntry));
+
+        pipEngine.shutdown();
+        assertNull(pipEngine.batcher);
+    }
+
+    @Test
+    void testGetCountFromCache() throws Exception {
+        properties.setProperty(CountRecentOperationsPip.ISSUER_NAME + StdOnapPip.CACHE_TTL_PROPERTY, "60000");
+        pipEngine.configure("issuer", properties);
+
+        OperationsHistory newEntry = createEntry();
+        assertEquals(0, getCount(newEntry));
+
+        em.getTransaction().begin();
+        em.persist(newEntry);
+        em.getTransaction().commit();
+
+        // still the cached count
+        assertEquals(0, getCount(newEntry));
+
+        // a different window is not cached
+        when(pipRequest.getIssuer()).thenReturn("urn:org:onap:xacml:guard:tw:2:hour");
+        assertEquals(1, getCount(newEntry));
+    }
+
     @Test
     void testStringToChronosUnit() throws PIPException {
         // not configured yet
@@ -0,0 +1,279 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdp.xacml.application.common.operationshistory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Persistence;
+import jakarta.persistence.PersistenceException;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.onap.policy.guard.OperationsHistory;
+import org.onap.policy.pdp.xacml.application.common.std.StdPipEntityManagerPool;
+
+class OperationsHistoryBatcherTest {
+    private static final String OPERATION = "my-operation";
+    private static final String TARGET = "my-target";
+    private static final String TEST_PROPERTIES = "src/test/resources/test.properties";
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    private static EntityManagerFactory emf;
+
+    private String actor;
+    private StdPipEntityManagerPool pool;
+    private ExecutorService executor;
+
+    /**
+     * Connects to the in-memory DB.
+     *
+     * @throws IOException if properties cannot be loaded
+     */
+    @BeforeAll
+    static void setUpBeforeClass() throws IOException {
+        Properties props = new Properties();
+        try (FileInputStream is = new FileInputStream(TEST_PROPERTIES)) {
+            props.load(is);
+        }
+        emf = Persistence.createEntityManagerFactory(
+            props.getProperty(CountRecentOperationsPip.ISSUER_NAME + ".persistenceunit"), props);
+    }
+
+    @AfterAll
+    static void cleanup() {
+        emf.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        actor = UUID.randomUUID().toString();
+        pool = spy(new StdPipEntityManagerPool("batcher-test", emf, 2, 1000));
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void testConstructor() {
+        var window = Duration.ofMillis(1);
+        assertThatIllegalArgumentException()
+            .isThrownBy(() -> new OperationsHistoryBatcher("batcher-test", pool, Duration.ZERO, 10, TIMEOUT));
+        assertThatIllegalArgumentException()
+            .isThrownBy(() -> new OperationsHistoryBatcher("batcher-test", pool, window, 0, TIMEOUT));
+        assertThatIllegalArgumentException()
+            .isThrownBy(() -> new OperationsHistoryBatcher("batcher-test", pool, window, 10, Duration.ZERO));
+    }
+
+    @Test
+    void testCount() throws Exception {
+        var now = Instant.now();
+        insert(TARGET, "Success", now.minusSeconds(30));
+        insert(TARGET, "Success", now.minus(Duration.ofMinutes(30)));
+        insert(TARGET, "Failure_Guard", now.minusSeconds(10));
+        insert("other-target", "Success", now.minusSeconds(10));
+
+        //
+        // A window long enough for all of the counts to join the first
+        //
+        var batcher = new OperationsHistoryBatcher("batcher-test", pool, Duration.ofSeconds(2), 100, TIMEOUT);
+        List<Future<Long>> counts = new ArrayList<>();
+        counts.add(executor.submit(() -> batcher.count(actor, OPERATION, TARGET, 1, ChronoUnit.MINUTES)));
+        counts.add(executor.submit(() -> batcher.count(actor, OPERATION, TARGET, 1, ChronoUnit.HOURS)));
+        counts.add(executor.submit(() -> batcher.count(actor, OPERATION, "other-target", 1, ChronoUnit.HOURS)));
+        counts.add(executor.submit(() -> batcher.count(actor, OPERATION, "no-target", 1, ChronoUnit.HOURS)));
+
+        assertEquals(1, counts.get(0).get());
+        assertEquals(2, counts.get(1).get());
+        assertEquals(1, counts.get(2).get());
+        assertEquals(0, counts.get(3).get());
+        verify(pool, times(1)).execute(any());
+    }
+
+    @Test
+    void testCountPadded() throws Exception {
+        var now = Instant.now();
+        insert(TARGET, "Success", now.minusSeconds(30));
+        insert("other-target", "Success", now.minusSeconds(10));
+
+        //
+        // Three counts are made with the query for four, which is reused by the next batch
+        //
+        var batcher = new OperationsHistoryBatcher("batcher-test", pool, Duration.ofSeconds(2), 100, TIMEOUT);
+        List<Future<Long>> counts = new ArrayList<>();
+        counts.add(executor.submit(() -> batcher.count(actor, OPERATION, TARGET, 1, ChronoUnit.MINUTES)));
+        counts.add(executor.submit(() -> batcher.count(actor, OPERATION, "other-target", 1, ChronoUnit.HOURS)));
+        counts.add(executor.submit(() -> batcher.count(actor, OPERATION, "no-target", 1, ChronoUnit.HOURS)));
+        assertEquals(1, counts.get(0).get());
+        assertEquals(1, counts.get(1).get());
+        assertEquals(0, counts.get(2).get());
+        assertEquals(Set.of(4), batcher.queries.keySet());
+
+        counts.clear();
+        counts.add(executor.submit(() -> batcher.count(actor, OPERATION, "no-target", 1, ChronoUnit.HOURS)));
+        counts.add(executor.submit(() -> batcher.count(actor, OPERATION, TARGET, 10, ChronoUnit.SECONDS)));
+        counts.add(executor.submit(() -> batcher.count(actor, OPERATION, TARGET, 1, ChronoUnit.HOURS)));
+        counts.add(executor.submit(() -> batcher.count(actor, OPERATION, "other-target", 1, ChronoUnit.DAYS)));
+        assertEquals(0, counts.get(0).get());
+        assertEquals(0, counts.get(1).get());
+        assertEquals(1, counts.get(2).get());
+        assertEquals(1, counts.get(3).get());
+        assertEquals(Set.of(4), batcher.queries.keySet());
+    }
+
+    @Test
+    void testCountFull() {
+        insert(TARGET, "Success", Instant.now().minusSeconds(30));
+
+        //
+        // A full batch does not wait out the window
+        //
+        var batcher = new OperationsHistoryBatcher("batcher-test", pool, Duration.ofHours(1), 1, TIMEOUT);
+        assertEquals(1, batcher.count(actor, OPERATION, TARGET, 1, ChronoUnit.MINUTES));
+        assertEquals(0, batcher.count(actor, OPERATION, TARGET, 10, ChronoUnit.SECONDS));
+        verify(pool, times(2)).execute(any());
+        assertEquals(Set.of(1), batcher.queries.keySet());
+    }
+
+    @Test
+    void testCountFailed() {
+        var failingEmf = mock(EntityManagerFactory.class);
+        when(failingEmf.createEntityManager()).thenThrow(new PersistenceException("expected exception"));
+        var failingPool = new StdPipEntityManagerPool("batcher-test", failingEmf, 1, 1000);
+
+        var batcher = new OperationsHistoryBatcher("batcher-test", failingPool, Duration.ofMillis(1), 10, TIMEOUT);
+        assertEquals(-1, batcher.count(actor, OPERATION, TARGET, 1, ChronoUnit.MINUTES));
+    }
+
+    @Test
+    void testCountCase() {
+        insert(TARGET, "Success", Instant.now().minusSeconds(30));
+
+        //
+        // Counts are read back by position, so targets only differing by case are
+        // compared by the database, which is case sensitive here
+        //
+        var batcher = new OperationsHistoryBatcher("batcher-test", pool, Duration.ofHours(1), 2, TIMEOUT);
+        var upper = executor.submit(() -> batcher.count(actor, OPERATION, TARGET.toUpperCase(), 1, ChronoUnit.HOURS));
+        assertEquals(1, batcher.count(actor, OPERATION, TARGET, 1, ChronoUnit.HOURS));
+        assertThat(upper).succeedsWithin(TIMEOUT).isEqualTo(0L);
+    }
+
+    @Test
+    void testCountError() throws Exception {
+        doThrow(new AssertionError("expected error")).when(pool).execute(any());
+
+        //
+        // Whichever count runs the query gets the error, the other count of the batch
+        // is not left waiting
+        //
+        var batcher = new OperationsHistoryBatcher("batcher-test", pool, Duration.ofHours(1), 2, TIMEOUT);
+        var first = executor.submit(() -> batcher.count(actor, OPERATION, TARGET, 1, ChronoUnit.MINUTES));
+        var second = executor.submit(() -> batcher.count(actor, OPERATION, TARGET, 1, ChronoUnit.HOURS));
+        List<Object> outcomes = new ArrayList<>();
+        for (var count : List.of(first, second)) {
+            try {
+                outcomes.add(count.get(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS));
+            } catch (ExecutionException e) {
+                outcomes.add(e.getCause().getMessage());
+            }
+        }
+        assertThat(outcomes).containsExactlyInAnyOrder(-1L, "expected error");
+    }
+
+    @Test
+    void testCountTimeout() throws Exception {
+        insert(TARGET, "Success", Instant.now().minusSeconds(30));
+        var release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            release.await();
+            return invocation.callRealMethod();
+        }).when(pool).execute(any());
+
+        //
+        // The count waiting for the query gives up, the one running it does not
+        //
+        var batcher = new OperationsHistoryBatcher("batcher-test", pool, Duration.ofHours(1), 2,
+            Duration.ofMillis(100));
+        var first = executor.submit(() -> batcher.count(actor, OPERATION, TARGET, 1, ChronoUnit.MINUTES));
+        var second = executor.submit(() -> batcher.count(actor, OPERATION, TARGET, 1, ChronoUnit.HOURS));
+        for (int retries = 0; retries < 100 && !first.isDone() && !second.isDone(); ++retries) {
+            Thread.sleep(100);
+        }
+        assertEquals(-1, (first.isDone() ? first : second).get());
+
+        release.countDown();
+        assertThat(List.of(first.get(), second.get())).containsExactlyInAnyOrder(-1L, 1L);
+    }
+
+    private void insert(String target, String outcome, Instant endtime) {
+        var entry = new OperationsHistory();
+        entry.setClosedLoopName("cl-batcher-test");
+        entry.setRequestId(UUID.randomUUID().toString());
+        entry.setActor(actor);
+        entry.setOperation(OPERATION);
+        entry.setTarget(target);
+        entry.setOutcome(outcome);
+        entry.setStarttime(Date.from(endtime.minusSeconds(1)));
+        entry.setEndtime(Date.from(endtime));
+
+        var em = emf.createEntityManager();
+        try {
+            em.getTransaction().begin();
+            em.persist(entry);
+            em.getTransaction().commit();
+        } finally {
+            em.close();
+        }
+    }
+}
@@ -0,0 +1,227 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdp.xacml.application.common.operationshistory;
+
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Persistence;
+import jakarta.persistence.PersistenceException;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.Properties;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.onap.policy.guard.OperationsHistory;
+import org.onap.policy.pdp.xacml.application.common.std.StdPipEntityManagerPool;
+
+class OperationsHistoryCounterTest {
+    private static final String OPERATION = "my-operation";
+    private static final String TARGET = "my-target";
+    private static final String TEST_PROPERTIES = "src/test/resources/test.properties";
+
+    private static EntityManagerFactory emf;
+    private static StdPipEntityManagerPool pool;
+
+    private String actor;
+    private OperationsHistoryCounter counter;
+
+    /**
+     * Connects to the in-memory DB.
+     *
+     * @throws IOException if properties cannot be loaded
+     */
+    @BeforeAll
+    static void setUpBeforeClass() throws IOException {
+        Properties props = new Properties();
+        try (FileInputStream is = new FileInputStream(TEST_PROPERTIES)) {
+            props.load(is);
+        }
+        emf = Persistence.createEntityManagerFactory(
+            props.getProperty(CountRecentOperationsPip.ISSUER_NAME + ".persistenceunit"), props);
+        pool = new StdPipEntityManagerPool("counter-test", emf, 2, 1000);
+    }
+
+    @AfterAll
+    static void cleanup() {
+        pool.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        actor = UUID.randomUUID().toString();
+        counter = new OperationsHistoryCounter(pool, Duration.ofHours(1), Duration.ofSeconds(1),
+            Duration.ofSeconds(1), Duration.ofMinutes(1), Duration.ofMinutes(1));
+    }
+
+    @Test
+    void testConstructor() {
+        var window = Duration.ofSeconds(1);
+        var bucket = Duration.ofSeconds(2);
+        assertThatIllegalArgumentException().isThrownBy(
+            () -> new OperationsHistoryCounter(pool, window, bucket, window, window, window));
+        assertThatIllegalArgumentException().isThrownBy(
+            () -> new OperationsHistoryCounter(pool, window, Duration.ZERO, window, window, window));
+        var negative = Duration.ofSeconds(-1);
+        assertThatIllegalArgumentException().isThrownBy(
+            () -> new OperationsHistoryCounter(pool, window, window, window, window, negative));
+    }
+
+    @Test
+    void testCount() {
+        var now = Instant.now();
+
+        // not seeded yet
+        assertEquals(-1, counter.count(actor, OPERATION, TARGET, now.minusSeconds(60)));
+
+        insert("Success", now.minusSeconds(30));
+        insert("Failure_Guard", now.minusSeconds(10));
+        insert("Success", now.minus(Duration.ofHours(2)));
+        assertTrue(counter.poll());
+
+        assertEquals(1, counter.count(actor, OPERATION, TARGET, now.minusSeconds(60)));
+        assertEquals(0, counter.count(actor, OPERATION, TARGET, now.minusSeconds(20)));
+        assertEquals(0, counter.count(actor, OPERATION, "other-target", now.minusSeconds(60)));
+
+        // older than the counter covers
+        assertEquals(-1, counter.count(actor, OPERATION, TARGET, now.minus(Duration.ofHours(2))));
+
+        // picks up new operations, without counting again those already counted
+        insert("Success", now.minusSeconds(5));
+        assertTrue(counter.poll());
+        assertEquals(2, counter.count(actor, OPERATION, TARGET, now.minusSeconds(60)));
+        assertTrue(counter.poll());
+        assertEquals(2, counter.count(actor, OPERATION, TARGET, now.minusSeconds(60)));
+    }
+
+    @Test
+    void testCountCommittedOutOfOrder() {
+        var now = Instant.now();
+
+        //
+        // The first operation gets its id, but is committed after the second
+        //
+        var em = emf.createEntityManager();
+        try {
+            em.getTransaction().begin();
+            em.persist(newEntry("Success", now.minusSeconds(20)));
+            em.flush();
+
+            insert("Success", now.minusSeconds(10));
+            assertTrue(counter.poll());
+            assertEquals(1, counter.count(actor, OPERATION, TARGET, now.minusSeconds(60)));
+
+            em.getTransaction().commit();
+        } finally {
+            em.close();
+        }
+
+        assertTrue(counter.poll());
+        assertEquals(2, counter.count(actor, OPERATION, TARGET, now.minusSeconds(60)));
+    }
+
+    @Test
+    void testStale() {
+        var failingEmf = mock(EntityManagerFactory.class);
+        when(failingEmf.createEntityManager()).thenThrow(new PersistenceException("expected exception"));
+        var failingPool = new StdPipEntityManagerPool("counter-test", failingEmf, 1, 1000);
+        counter = new OperationsHistoryCounter(failingPool, Duration.ofHours(1), Duration.ofSeconds(1),
+            Duration.ofSeconds(1), Duration.ofMinutes(1), Duration.ofMinutes(1));
+
+        assertFalse(counter.poll());
+        assertEquals(-1, counter.count(actor, OPERATION, TARGET, Instant.now().minusSeconds(60)));
+    }
+
+    @Test
+    void testStartStop() throws InterruptedException {
+        insert("Success", Instant.now().minusSeconds(5));
+        counter.start("test");
+        counter.start("test");
+
+        // the first poll is immediate
+        long count = -1;
+        for (int retries = 0; retries < 50 && count < 0; ++retries) {
+            Thread.sleep(100);
+            count = counter.count(actor, OPERATION, TARGET, Instant.now().minusSeconds(60));
+        }
+        assertEquals(1, count);
+
+        counter.stop();
+        counter.stop();
+    }
+
+    @Test
+    void testShare() {
+        var window = Duration.ofHours(1);
+        var bucket = Duration.ofSeconds(1);
+        var first = OperationsHistoryCounter.share("test", pool, window, bucket, bucket, window, window);
+        var second = OperationsHistoryCounter.share("test", pool, window, bucket, bucket, window, window);
+        var other = OperationsHistoryCounter.share("test", pool, window, bucket, bucket, window, bucket);
+        assertSame(first, second);
+        assertNotSame(first, other);
+
+        // a counter is created again once every PIP released it
+        first.release();
+        second.release();
+        other.release();
+        var third = OperationsHistoryCounter.share("test", pool, window, bucket, bucket, window, window);
+        assertNotSame(first, third);
+        third.release();
+    }
+
+    private void insert(String outcome, Instant endtime) {
+        var entry = newEntry(outcome, endtime);
+        var em = emf.createEntityManager();
+        try {
+            em.getTransaction().begin();
+            em.persist(entry);
+            em.getTransaction().commit();
+        } finally {
+            em.close();
+        }
+    }
+
+    private OperationsHistory newEntry(String outcome, Instant endtime) {
+        var entry = new OperationsHistory();
+        entry.setClosedLoopName("cl-counter-test");
+        entry.setRequestId(UUID.randomUUID().toString());
+        entry.setActor(actor);
+        entry.setOperation(OPERATION);
+        entry.setTarget(TARGET);
+        entry.setOutcome(outcome);
+        entry.setStarttime(Date.from(endtime.minusSeconds(1)));
+        entry.setEndtime(Date.from(endtime));
+        return entry;
+    }
+}
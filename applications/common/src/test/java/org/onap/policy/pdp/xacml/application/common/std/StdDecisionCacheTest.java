@@ -0,0 +1,169 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdp.xacml.application.common.std;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.att.research.xacml.api.Response;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.onap.policy.models.decisions.concepts.DecisionRequest;
+import org.onap.policy.models.decisions.concepts.DecisionResponse;
+
+@ExtendWith(MockitoExtension.class)
+class StdDecisionCacheTest {
+    private static final String APP_NAME = "cache-test";
+    private static final String KEY = "my-key";
+
+    @Mock
+    private Response xacmlResponse;
+
+    private DecisionResponse decisionResponse;
+
+    private StdDecisionCache cache;
+
+    /**
+     * Initializes the cache and a decision to put in it.
+     */
+    @BeforeEach
+    void setUp() {
+        StdDecisionCache.resetTotals();
+        cache = new StdDecisionCache(APP_NAME, 2, 60);
+
+        Map<String, Object> policy = new HashMap<>();
+        policy.put("name", "my-policy");
+        policy.put("properties", new HashMap<>(Map.of("threshold", 3)));
+        Map<String, Object> policies = new HashMap<>();
+        policies.put("my-policy", policy);
+        decisionResponse = new DecisionResponse();
+        decisionResponse.setPolicies(policies);
+    }
+
+    @Test
+    void testKey() {
+        DecisionRequest request1 = new DecisionRequest();
+        request1.setOnapName("DCAE");
+        request1.setAction("configure");
+        request1.setRequestId("request-1");
+        Map<String, Object> resource1 = new LinkedHashMap<>();
+        resource1.put("policy-id", List.of("a", "b"));
+        resource1.put("policy-type", "onap.policies.Monitoring");
+        request1.setResource(resource1);
+
+        DecisionRequest request2 = new DecisionRequest();
+        request2.setOnapName("DCAE");
+        request2.setAction("configure");
+        request2.setRequestId("request-2");
+        Map<String, Object> resource2 = new LinkedHashMap<>();
+        resource2.put("policy-type", "onap.policies.Monitoring");
+        resource2.put("policy-id", List.of("a", "b"));
+        request2.setResource(resource2);
+
+        // order of the maps and the request id do not matter
+        assertEquals(StdDecisionCache.key(request1, null), StdDecisionCache.key(request2, null));
+
+        // query parameters do
+        assertNotEquals(StdDecisionCache.key(request1, null),
+            StdDecisionCache.key(request1, Map.of("abbrev", new String[] {"true"})));
+        assertEquals(StdDecisionCache.key(request1, Map.of("abbrev", new String[] {"true"})),
+            StdDecisionCache.key(request2, Map.of("abbrev", new String[] {"true"})));
+
+        // as do the values
+        resource2.put("policy-id", List.of("b", "a"));
+        assertNotEquals(StdDecisionCache.key(request1, null), StdDecisionCache.key(request2, null));
+    }
+
+    @Test
+    void testGetPut() {
+        assertNull(cache.get(KEY));
+        cache.put(KEY, cache.getEpoch(), Pair.of(decisionResponse, xacmlResponse));
+
+        Pair<DecisionResponse, Response> decision = cache.get(KEY);
+        assertNotNull(decision);
+        assertEquals(decisionResponse, decision.getKey());
+        assertSame(xacmlResponse, decision.getValue());
+
+        assertEquals(1, StdDecisionCache.getTotalHitCount());
+        assertEquals(1, StdDecisionCache.getTotalMissCount());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testGetReturnsCopy() {
+        cache.put(KEY, cache.getEpoch(), Pair.of(decisionResponse, xacmlResponse));
+
+        // modifying what was put or what was returned must not change the cache
+        ((Map<String, Object>) decisionResponse.getPolicies().get("my-policy")).remove("properties");
+        DecisionResponse response = cache.get(KEY).getKey();
+        Map<String, Object> policy = (Map<String, Object>) response.getPolicies().get("my-policy");
+        assertTrue(policy.containsKey("properties"));
+
+        policy.remove("name");
+        policy = (Map<String, Object>) cache.get(KEY).getKey().getPolicies().get("my-policy");
+        assertTrue(policy.containsKey("name"));
+    }
+
+    @Test
+    void testPut_NotCached() {
+        // errors are not cached
+        cache.put(KEY, cache.getEpoch(), Pair.of(decisionResponse, null));
+        assertNull(cache.get(KEY));
+
+        // nor are decisions made before the epoch changed
+        long epoch = cache.getEpoch();
+        cache.invalidate();
+        cache.put(KEY, epoch, Pair.of(decisionResponse, xacmlResponse));
+        assertNull(cache.get(KEY));
+    }
+
+    @Test
+    void testInvalidate() {
+        cache.put(KEY, cache.getEpoch(), Pair.of(decisionResponse, xacmlResponse));
+        cache.invalidate();
+
+        assertNull(cache.get(KEY));
+        assertEquals(0, cache.size());
+        assertEquals(0, StdDecisionCache.getTotalEvictionCount());
+    }
+
+    @Test
+    void testEviction() {
+        cache.put("key1", cache.getEpoch(), Pair.of(decisionResponse, xacmlResponse));
+        cache.put("key2", cache.getEpoch(), Pair.of(decisionResponse, xacmlResponse));
+        cache.put("key3", cache.getEpoch(), Pair.of(decisionResponse, xacmlResponse));
+
+        assertEquals(2, cache.size());
+        assertEquals(1, StdDecisionCache.getTotalEvictionCount());
+    }
+}
@@ -214,7 +214,7 @@ public class StdMatchableTranslatorTest {
                 List<AttributeAssignment> listAttributes = new ArrayList<>();
                 ObligationExpressionType xacmlObligation = translatedPolicy.getObligationExpressions()
                     .getObligationExpression().get(0);
-                assertThat(xacmlObligation.getAttributeAssignmentExpression()).hasSize(4);
+                assertThat(xacmlObligation.getAttributeAssignmentExpression()).hasSize(5);
                 //
                 // Copy into the list
                 //
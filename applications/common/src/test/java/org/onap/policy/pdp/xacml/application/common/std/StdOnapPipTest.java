@@ -24,6 +24,8 @@ package org.onap.policy.pdp.xacml.application.common.std;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -43,11 +45,15 @@ import com.att.research.xacml.api.pip.PIPRequest;
 import com.att.research.xacml.api.pip.PIPResponse;
 import com.att.research.xacml.std.datatypes.DataTypes;
 import com.att.research.xacml.std.pip.StdMutablePIPResponse;
+import jakarta.persistence.PersistenceException;
+import java.io.FileInputStream;
 import java.math.BigInteger;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.Properties;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -61,6 +67,8 @@ class StdOnapPipTest {
     private static final String MY_ID = "my-id";
     private static final String ISSUER = "my-issuer";
     private static final String STRING_VALUE = "my-value";
+    private static final String POOL_ISSUER = "count-recent-operations";
+    private static final String TEST_PROPERTIES = "src/test/resources/test.properties";
 
     private static final int INT_VALUE = 100;
     private static final long LONG_VALUE = 200L;
@@ -107,6 +115,95 @@ class StdOnapPipTest {
 
         assertEquals(MY_ID, pip.getName());
         assertSame(props, pip.properties);
+        assertNull(pip.pool);
+    }
+
+    @Test
+    void testGetBooleanProperty() throws PIPException {
+        Properties props = new Properties();
+        props.setProperty(POOL_ISSUER + ".enabled", " true ");
+        props.setProperty(POOL_ISSUER + ".disabled", "false");
+        props.setProperty(ISSUER + ".other", "true");
+        pip.issuer = POOL_ISSUER;
+        pip.configure(MY_ID, props);
+
+        assertTrue(pip.getBooleanProperty(".enabled", false));
+        assertFalse(pip.getBooleanProperty(".disabled", true));
+        assertTrue(pip.getBooleanProperty(".missing", true));
+
+        // only properties of the PIP's own issuer are used
+        assertFalse(pip.getBooleanProperty(".other", false));
+    }
+
+    @Test
+    void testConfigurePool() throws Exception {
+        Properties props = new Properties();
+        try (FileInputStream is = new FileInputStream(TEST_PROPERTIES)) {
+            props.load(is);
+        }
+        pip.issuer = POOL_ISSUER;
+        props.setProperty(POOL_ISSUER + StdOnapPip.POOL_SIZE_PROPERTY, "3");
+        props.setProperty(POOL_ISSUER + StdOnapPip.POOL_ACQUIRE_TIMEOUT_PROPERTY, "invalid");
+        pip.configure(MY_ID, props);
+
+        assertEquals(3, pip.pool.getSize());
+        assertNotNull(pip.pool.execute(em -> em.createQuery("select count(e) from OperationsHistory e", Long.class)
+            .getSingleResult()));
+
+        //
+        // The PIP of another engine shares the pool, which stays open until both are shutdown
+        //
+        var other = new MyPip();
+        other.issuer = POOL_ISSUER;
+        other.configure(MY_ID, props);
+        var pool = pip.pool;
+        assertSame(pool, other.pool);
+
+        pip.shutdown();
+        assertNull(pip.pool);
+        assertNotNull(pool.execute(em -> em.createQuery("select count(e) from OperationsHistory e", Long.class)
+            .getSingleResult()));
+
+        other.shutdown();
+        assertThatExceptionOfType(PersistenceException.class).isThrownBy(() -> pool.execute(em -> 1))
+            .withMessageContaining("closed");
+    }
+
+    @Test
+    void testParseIssuer() {
+        var parses = new AtomicInteger();
+        Function<String, String> parser = issuer -> {
+            parses.incrementAndGet();
+            return issuer.toUpperCase();
+        };
+        assertEquals("A:B", pip.parseIssuer("a:b", parser));
+        assertEquals("A:B", pip.parseIssuer("a:b", parser));
+        assertEquals("A:C", pip.parseIssuer("a:c", parser));
+        assertEquals(2, parses.get());
+    }
+
+    @Test
+    void testResultCache() throws PIPException {
+        // disabled without a TTL
+        pip.configure(MY_ID, new Properties());
+        pip.cacheResult(STRING_VALUE, INT_VALUE);
+        assertNull(pip.getCachedResult(STRING_VALUE));
+
+        pip = new MyPip();
+        pip.issuer = POOL_ISSUER;
+        Properties props = new Properties();
+        props.setProperty(POOL_ISSUER + StdOnapPip.CACHE_TTL_PROPERTY, "60000");
+        props.setProperty(POOL_ISSUER + StdOnapPip.CACHE_SIZE_PROPERTY, "1");
+        pip.configure(MY_ID, props);
+
+        assertNull(pip.getCachedResult(STRING_VALUE));
+        pip.cacheResult(STRING_VALUE, INT_VALUE);
+        pip.cacheResult(ISSUER, null);
+        assertEquals(INT_VALUE, pip.getCachedResult(STRING_VALUE));
+        assertNull(pip.getCachedResult(ISSUER));
+
+        pip.shutdown();
+        assertNull(pip.getCachedResult(STRING_VALUE));
     }
 
     @Test
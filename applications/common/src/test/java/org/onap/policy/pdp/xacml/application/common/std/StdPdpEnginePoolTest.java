@@ -0,0 +1,131 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdp.xacml.application.common.std;
+
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.att.research.xacml.api.pdp.PDPEngine;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class StdPdpEnginePoolTest {
+    private static final String APP_NAME = "pool-test";
+
+    @Mock
+    private PDPEngine engine1;
+
+    @Mock
+    private PDPEngine engine2;
+
+    @Test
+    void testConstructor() {
+        List<PDPEngine> engines = Collections.emptyList();
+        assertThatIllegalArgumentException().isThrownBy(() -> new StdPdpEnginePool(APP_NAME, engines, true));
+
+        var pool = new StdPdpEnginePool(APP_NAME, List.of(engine1, engine2), true);
+        assertTrue(pool.isExclusive());
+        assertEquals(2, pool.getSize());
+        assertSame(engine1, pool.getEngine());
+        assertEquals(0, pool.getInUse());
+    }
+
+    @Test
+    void testShared() throws InterruptedException {
+        var pool = new StdPdpEnginePool(APP_NAME, List.of(engine1), false);
+        assertFalse(pool.isExclusive());
+
+        // every decision gets the same engine
+        assertSame(engine1, pool.checkout());
+        assertSame(engine1, pool.checkout());
+        assertEquals(2, pool.getInUse());
+
+        pool.checkin(engine1);
+        pool.checkin(engine1);
+        assertEquals(0, pool.getInUse());
+    }
+
+    @Test
+    void testExclusive() throws Exception {
+        var pool = new StdPdpEnginePool(APP_NAME, List.of(engine1, engine2), true);
+
+        PDPEngine first = pool.checkout();
+        PDPEngine second = pool.checkout();
+        assertNotSame(first, second);
+        assertEquals(2, pool.getInUse());
+
+        // the third decision must wait for an engine to be checked in
+        var executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<PDPEngine> future = executor.submit(pool::checkout);
+            assertFalse(future.isDone());
+
+            pool.checkin(second);
+            assertSame(second, future.get(5, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testRetire() throws InterruptedException {
+        var pool = new StdPdpEnginePool(APP_NAME, List.of(engine1, engine2), true);
+
+        PDPEngine engine = pool.checkout();
+        pool.retire();
+
+        // nothing more is handed out and the engines are still in use
+        assertNull(pool.checkout());
+        verify(engine1, never()).shutdown();
+        verify(engine2, never()).shutdown();
+
+        // last one out shuts them all down
+        pool.checkin(engine);
+        verify(engine1).shutdown();
+        verify(engine2).shutdown();
+    }
+
+    @Test
+    void testRetireIdle() {
+        var pool = new StdPdpEnginePool(APP_NAME, List.of(engine1), false);
+        pool.retire();
+        verify(engine1).shutdown();
+
+        // only shutdown once
+        pool.retire();
+        verify(engine1).shutdown();
+    }
+}
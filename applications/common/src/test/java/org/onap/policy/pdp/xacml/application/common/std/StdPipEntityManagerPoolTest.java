@@ -0,0 +1,108 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdp.xacml.application.common.std;
+
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class StdPipEntityManagerPoolTest {
+    private static final String ISSUER = "pool-test";
+
+    @Mock
+    private EntityManagerFactory emf;
+
+    @Mock
+    private EntityManager em;
+
+    @Test
+    void testConstructor() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new StdPipEntityManagerPool(ISSUER, emf, 0, 10));
+
+        var pool = new StdPipEntityManagerPool(ISSUER, emf, 2, 10);
+        assertEquals(2, pool.getSize());
+        assertEquals(0, pool.getInUse());
+    }
+
+    @Test
+    void testExecute() {
+        when(emf.createEntityManager()).thenReturn(em);
+        var pool = new StdPipEntityManagerPool(ISSUER, emf, 2, 10);
+
+        // each query gets an entity manager that is closed afterwards
+        assertEquals(1, pool.execute(entityManager -> {
+            assertSame(em, entityManager);
+            return pool.getInUse();
+        }));
+        assertEquals(0, pool.getInUse());
+        verify(em).close();
+
+        // also closed when the query fails
+        assertThatThrownBy(() -> pool.execute(entityManager -> {
+            throw new PersistenceException("expected exception");
+        })).isInstanceOf(PersistenceException.class).hasMessage("expected exception");
+        assertEquals(0, pool.getInUse());
+        verify(em, times(2)).close();
+    }
+
+    @Test
+    void testExecuteTimeout() {
+        when(emf.createEntityManager()).thenReturn(em);
+        var pool = new StdPipEntityManagerPool(ISSUER, emf, 1, 10);
+
+        // the only slot is held by the outer query
+        assertThatThrownBy(() -> pool.execute(outer -> pool.execute(inner -> 1)))
+            .isInstanceOf(PersistenceException.class).hasMessageContaining("Timed out");
+        assertEquals(0, pool.getInUse());
+    }
+
+    @Test
+    void testClose() {
+        var pool = new StdPipEntityManagerPool(ISSUER, emf, 1, 10);
+        pool.close();
+        pool.close();
+        verify(emf).close();
+
+        assertThatThrownBy(() -> pool.execute(entityManager -> 1)).isInstanceOf(PersistenceException.class)
+            .hasMessageContaining("closed");
+    }
+
+    @Test
+    void testRelease() {
+        // a pool that is not shared is closed by its only release
+        var pool = new StdPipEntityManagerPool(ISSUER, emf, 1, 10);
+        pool.release();
+        verify(emf).close();
+    }
+}
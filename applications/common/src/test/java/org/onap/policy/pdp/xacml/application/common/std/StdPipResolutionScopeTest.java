@@ -0,0 +1,132 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdp.xacml.application.common.std;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import com.att.research.xacml.api.XACML3;
+import com.att.research.xacml.api.pip.PIPException;
+import com.att.research.xacml.api.pip.PIPRequest;
+import com.att.research.xacml.api.pip.PIPResponse;
+import com.att.research.xacml.std.pip.StdMutablePIPResponse;
+import com.att.research.xacml.std.pip.StdPIPRequest;
+import com.att.research.xacml.std.pip.StdPIPResponse;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.onap.policy.pdp.xacml.application.common.ToscaDictionary;
+
+class StdPipResolutionScopeTest {
+    private static final PIPRequest REQUEST_A = request("issuer-a");
+    private static final PIPRequest REQUEST_B = request("issuer-b");
+    private static final PIPRequest REQUEST_C = request("issuer-c");
+
+    private final Map<String, AtomicInteger> calls = new ConcurrentHashMap<>();
+
+    @AfterEach
+    void tearDown() {
+        while (StdPipResolutionScope.current() != null) {
+            StdPipResolutionScope.current().close();
+        }
+    }
+
+    @Test
+    void testOpenClose() {
+        assertNull(StdPipResolutionScope.current());
+        try (var outer = StdPipResolutionScope.open(List.of())) {
+            assertSame(outer, StdPipResolutionScope.current());
+            try (var inner = StdPipResolutionScope.open(List.of())) {
+                assertSame(inner, StdPipResolutionScope.current());
+            }
+            assertSame(outer, StdPipResolutionScope.current());
+        }
+        assertNull(StdPipResolutionScope.current());
+    }
+
+    @Test
+    void testResolve() throws PIPException {
+        try (var scope = StdPipResolutionScope.open(List.of())) {
+            var response = scope.resolve(REQUEST_A, false, this::lookup);
+            assertSame(response, scope.resolve(request("issuer-a"), false, this::lookup));
+            assertThat(calls.get("issuer-a")).hasValue(1);
+
+            // matching lookups are resolved on their own
+            scope.resolve(REQUEST_A, true, this::lookup);
+            assertThat(calls.get("issuer-a")).hasValue(2);
+
+            scope.resolve(REQUEST_B, false, this::lookup);
+            assertThat(calls.get("issuer-b")).hasValue(1);
+        }
+
+        // a new decision looks it up again
+        try (var scope = StdPipResolutionScope.open(List.of())) {
+            scope.resolve(REQUEST_A, false, this::lookup);
+            assertThat(calls.get("issuer-a")).hasValue(3);
+        }
+    }
+
+    @Test
+    void testResolvePrefetches() throws PIPException {
+        try (var scope = StdPipResolutionScope.open(List.of(REQUEST_B, REQUEST_C))) {
+            scope.resolve(REQUEST_A, false, this::lookup);
+            scope.resolve(REQUEST_B, false, this::lookup);
+            scope.resolve(REQUEST_C, false, this::lookup);
+            scope.resolve(REQUEST_C, false, this::lookup);
+        }
+        assertThat(calls.get("issuer-a")).hasValue(1);
+        assertThat(calls.get("issuer-b")).hasValue(1);
+        assertThat(calls.get("issuer-c")).hasValue(1);
+    }
+
+    @Test
+    void testResolveExceptions() {
+        try (var scope = StdPipResolutionScope.open(List.of())) {
+            var pipException = new PIPException("failed");
+            assertThatThrownBy(() -> scope.resolve(REQUEST_A, false, request -> {
+                throw pipException;
+            })).isSameAs(pipException);
+
+            var runtimeException = new IllegalStateException("failed");
+            assertThatThrownBy(() -> scope.resolve(REQUEST_B, false, request -> {
+                throw runtimeException;
+            })).isSameAs(runtimeException);
+
+            // the failure is remembered for the decision
+            assertThatThrownBy(() -> scope.resolve(REQUEST_A, false, this::lookup)).isSameAs(pipException);
+        }
+    }
+
+    private PIPResponse lookup(PIPRequest pipRequest) {
+        calls.computeIfAbsent(pipRequest.getIssuer(), issuer -> new AtomicInteger()).incrementAndGet();
+        return new StdPIPResponse(new StdMutablePIPResponse());
+    }
+
+    private static PIPRequest request(String issuer) {
+        return new StdPIPRequest(XACML3.ID_ATTRIBUTE_CATEGORY_RESOURCE,
+            ToscaDictionary.ID_RESOURCE_GUARD_OPERATIONCOUNT, XACML3.ID_DATATYPE_INTEGER, issuer);
+    }
+}
@@ -0,0 +1,101 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdp.xacml.application.common.std;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.att.research.xacml.api.XACML3;
+import com.att.research.xacml.api.pip.PIPEngine;
+import com.att.research.xacml.api.pip.PIPException;
+import com.att.research.xacml.api.pip.PIPFinder;
+import com.att.research.xacml.api.pip.PIPRequest;
+import com.att.research.xacml.api.pip.PIPResponse;
+import com.att.research.xacml.std.pip.StdPIPRequest;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.onap.policy.pdp.xacml.application.common.ToscaDictionary;
+
+@ExtendWith(MockitoExtension.class)
+class StdPipResolvingFinderTest {
+    private static final PIPRequest REQUEST = new StdPIPRequest(XACML3.ID_ATTRIBUTE_CATEGORY_RESOURCE,
+        ToscaDictionary.ID_RESOURCE_GUARD_OPERATIONCOUNT, XACML3.ID_DATATYPE_INTEGER, "my-issuer");
+    private static final PIPRequest REQUEST_NO_ISSUER = new StdPIPRequest(XACML3.ID_ATTRIBUTE_CATEGORY_RESOURCE,
+        ToscaDictionary.ID_RESOURCE_GUARD_ACTOR, XACML3.ID_DATATYPE_STRING);
+
+    @Mock
+    private PIPFinder finder;
+
+    @Mock
+    private PIPFinder parent;
+
+    @Mock
+    private PIPEngine engine;
+
+    @Mock
+    private PIPResponse response;
+
+    @Test
+    void testNoScope() throws PIPException {
+        when(finder.getAttributes(REQUEST, engine)).thenReturn(response);
+        when(finder.getAttributes(REQUEST, engine, parent)).thenReturn(response);
+        when(finder.getMatchingAttributes(REQUEST, engine)).thenReturn(response);
+        when(finder.getMatchingAttributes(REQUEST, engine, parent)).thenReturn(response);
+        when(finder.getPIPEngines()).thenReturn(List.of(engine));
+
+        var resolving = new StdPipResolvingFinder(finder);
+        for (var count = 1; count <= 2; ++count) {
+            assertSame(response, resolving.getAttributes(REQUEST, engine));
+            assertSame(response, resolving.getAttributes(REQUEST, engine, parent));
+            assertSame(response, resolving.getMatchingAttributes(REQUEST, engine));
+            assertSame(response, resolving.getMatchingAttributes(REQUEST, engine, parent));
+        }
+        verify(finder, times(2)).getAttributes(REQUEST, engine);
+        verify(finder, times(2)).getAttributes(REQUEST, engine, parent);
+        verify(finder, times(2)).getMatchingAttributes(REQUEST, engine);
+        verify(finder, times(2)).getMatchingAttributes(REQUEST, engine, parent);
+        assertSame(engine, resolving.getPIPEngines().iterator().next());
+    }
+
+    @Test
+    void testScope() throws PIPException {
+        when(finder.getAttributes(any(), any(), any())).thenReturn(response);
+        when(finder.getMatchingAttributes(any(), any(), any())).thenReturn(response);
+
+        var resolving = new StdPipResolvingFinder(finder);
+        try (var scope = StdPipResolutionScope.open(List.of())) {
+            for (var count = 1; count <= 2; ++count) {
+                assertSame(response, resolving.getAttributes(REQUEST, engine, parent));
+                assertSame(response, resolving.getMatchingAttributes(REQUEST, engine, parent));
+                assertSame(response, resolving.getAttributes(REQUEST_NO_ISSUER, engine, parent));
+            }
+        }
+        verify(finder).getAttributes(REQUEST, engine, parent);
+        verify(finder).getMatchingAttributes(REQUEST, engine, parent);
+        verify(finder, times(2)).getAttributes(REQUEST_NO_ISSUER, engine, parent);
+    }
+}
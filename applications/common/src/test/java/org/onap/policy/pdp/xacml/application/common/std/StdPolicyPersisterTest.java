@@ -0,0 +1,172 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdp.xacml.application.common.std;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.att.research.xacml.api.XACML3;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicReference;
+import oasis.names.tc.xacml._3_0.core.schema.wd_17.PolicyType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.onap.policy.models.tosca.authorative.concepts.ToscaPolicy;
+import org.onap.policy.pdp.xacml.application.common.XacmlPolicyUtils;
+
+class StdPolicyPersisterTest {
+    private static final String APP_NAME = "persist-test";
+
+    @TempDir
+    Path folder;
+
+    private PolicyType policy;
+    private Path policyPath;
+    private Path propertiesPath;
+    private StdPolicyPersister persister;
+
+    /**
+     * Creates a policy to persist.
+     */
+    @BeforeEach
+    void setUp() {
+        policy = XacmlPolicyUtils.createEmptyPolicy("my-policy", XACML3.ID_RULE_DENY_UNLESS_PERMIT);
+        policy.setVersion("1.0.0");
+        policyPath = XacmlPolicyUtils.constructUniquePolicyFilename(policy, folder);
+        propertiesPath = XacmlPolicyUtils.getPropertiesPath(folder);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (persister != null) {
+            persister.shutdown();
+        }
+    }
+
+    @Test
+    void testSynchronous() throws IOException {
+        persister = new StdPolicyPersister(APP_NAME, false, false);
+        assertFalse(persister.isWriteBehind());
+
+        persister.writePolicy(policyPath, policy);
+        assertTrue(Files.exists(policyPath));
+
+        persister.storeProperties(properties("my-policy"), propertiesPath);
+        assertEquals("my-policy", XacmlPolicyUtils.loadXacmlProperties(propertiesPath).getProperty("root"));
+
+        persister.deletePolicy(policyPath);
+        assertFalse(Files.exists(policyPath));
+
+        // errors are thrown to the caller
+        assertThatThrownBy(() -> persister.deletePolicy(policyPath)).isInstanceOf(NoSuchFileException.class);
+        assertNoTempFiles();
+    }
+
+    @Test
+    void testWriteBehind() throws IOException {
+        persister = new StdPolicyPersister(APP_NAME, true, true);
+        assertTrue(persister.isWriteBehind());
+        assertTrue(persister.isFsync());
+
+        persister.writePolicy(policyPath, policy);
+        persister.storeProperties(properties("first"), propertiesPath);
+        persister.storeProperties(properties("second"), propertiesPath);
+        persister.flush();
+
+        assertTrue(Files.exists(policyPath));
+        assertEquals("second", XacmlPolicyUtils.loadXacmlProperties(propertiesPath).getProperty("root"));
+
+        // errors are only logged
+        persister.deletePolicy(policyPath);
+        persister.deletePolicy(policyPath);
+        persister.flush();
+        assertFalse(Files.exists(policyPath));
+        assertNoTempFiles();
+    }
+
+    @Test
+    void testWriteBehind_PropertiesCopied() throws IOException {
+        persister = new StdPolicyPersister(APP_NAME, true, false);
+
+        Properties properties = properties("first");
+        persister.storeProperties(properties, propertiesPath);
+        properties.setProperty("root", "changed");
+        persister.flush();
+
+        assertEquals("first", XacmlPolicyUtils.loadXacmlProperties(propertiesPath).getProperty("root"));
+    }
+
+    @Test
+    void testStoreSnapshot() throws IOException {
+        persister = new StdPolicyPersister(APP_NAME, false, false);
+        persister.writePolicy(policyPath, policy);
+
+        //
+        // Even without write-behind, the snapshot is built on another thread
+        //
+        var snapshotPath = folder.resolve(StdPolicySnapshot.SNAPSHOT_FILE);
+        var caller = Thread.currentThread();
+        var builder = new AtomicReference<Thread>();
+        var deployed = new StdPolicySnapshot.Deployed("my-digest", new ToscaPolicy(), policyPath);
+        persister.storeSnapshot(snapshotPath, () -> {
+            builder.set(Thread.currentThread());
+            return StdPolicySnapshot.build(List.of(deployed), StdPolicySnapshot.EMPTY);
+        });
+        persister.flush();
+
+        assertNotSame(caller, builder.get());
+        assertEquals(1, StdPolicySnapshot.load(snapshotPath).size());
+        assertNoTempFiles();
+    }
+
+    @Test
+    void testShutdown() throws IOException {
+        persister = new StdPolicyPersister(APP_NAME, true, false);
+        persister.writePolicy(policyPath, policy);
+        persister.shutdown();
+
+        // queued files are written before it stops
+        assertTrue(Files.exists(policyPath));
+    }
+
+    private Properties properties(String root) {
+        var properties = new Properties();
+        properties.setProperty("root", root);
+        return properties;
+    }
+
+    private void assertNoTempFiles() throws IOException {
+        try (var files = Files.list(folder)) {
+            assertThat(files.map(Path::toString)).noneMatch(name -> name.endsWith(".tmp"));
+        }
+    }
+}
@@ -0,0 +1,158 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdp.xacml.application.common.std;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import com.att.research.xacml.api.XACML3;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import oasis.names.tc.xacml._3_0.core.schema.wd_17.PolicyType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.onap.policy.models.tosca.authorative.concepts.ToscaPolicy;
+import org.onap.policy.pdp.xacml.application.common.ToscaPolicyConversionException;
+import org.onap.policy.pdp.xacml.application.common.XacmlPolicyUtils;
+
+class StdPolicySnapshotTest {
+
+    @TempDir
+    Path folder;
+
+    private ToscaPolicy policy1;
+    private ToscaPolicy policy2;
+    private Path path1;
+    private Path path2;
+
+    /**
+     * Creates two policies and writes their XACML.
+     */
+    @BeforeEach
+    void setUp() {
+        policy1 = newPolicy("policy1");
+        policy2 = newPolicy("policy2");
+        path1 = writePolicy("policy1");
+        path2 = writePolicy("policy2");
+    }
+
+    @Test
+    void testBuild() throws ToscaPolicyConversionException {
+        var snapshot = StdPolicySnapshot.build(List.of(deployed(policy1, path1), deployed(policy2, path2)),
+            StdPolicySnapshot.EMPTY);
+        assertEquals(2, snapshot.size());
+
+        var entry = snapshot.get(StdPolicySnapshot.digest(policy1));
+        assertNotNull(entry);
+        assertEquals(path1.getFileName().toString(), entry.fileName());
+        assertEquals(StdPolicySnapshot.digest(policy1), entry.digest());
+        assertEquals("policy1", entry.compile().getIdentifier().stringValue());
+
+        // a changed policy is not in the snapshot
+        ToscaPolicy changed = newPolicy("policy1");
+        changed.setDescription("changed");
+        assertNull(snapshot.get(StdPolicySnapshot.digest(changed)));
+
+        // entries of the previous snapshot are re-used, missing files are left out
+        var next = StdPolicySnapshot.build(
+            List.of(deployed(policy1, path1), deployed(changed, folder.resolve("missing.xml"))), snapshot);
+        assertEquals(1, next.size());
+        assertSame(entry, next.get(StdPolicySnapshot.digest(policy1)));
+    }
+
+    @Test
+    void testChecksum() {
+        assertEquals(StdPolicySnapshot.checksum(List.of("a", "b")), StdPolicySnapshot.checksum(List.of("b", "a")));
+        assertNotEquals(StdPolicySnapshot.checksum(List.of("a", "b")), StdPolicySnapshot.checksum(List.of("a")));
+
+        var snapshot = StdPolicySnapshot.build(List.of(deployed(policy1, path1)), StdPolicySnapshot.EMPTY);
+        assertEquals(StdPolicySnapshot.checksum(List.of(StdPolicySnapshot.digest(policy1))), snapshot.getChecksum());
+    }
+
+    @Test
+    void testWriteLoad() throws IOException {
+        var snapshot = StdPolicySnapshot.build(List.of(deployed(policy1, path1), deployed(policy2, path2)),
+            StdPolicySnapshot.EMPTY);
+        Path snapshotPath = folder.resolve(StdPolicySnapshot.SNAPSHOT_FILE);
+        try (var outputStream = Files.newOutputStream(snapshotPath)) {
+            snapshot.write(outputStream);
+        }
+
+        var loaded = StdPolicySnapshot.load(snapshotPath);
+        assertEquals(snapshot.getChecksum(), loaded.getChecksum());
+        assertEquals(2, loaded.size());
+        var entry = loaded.get(StdPolicySnapshot.digest(policy2));
+        assertArrayEquals(Files.readAllBytes(path2), entry.content());
+        assertEquals(StdPolicySnapshot.digest(policy2), entry.digest());
+    }
+
+    @Test
+    void testLoad_Invalid() throws IOException {
+        // missing
+        Path snapshotPath = folder.resolve(StdPolicySnapshot.SNAPSHOT_FILE);
+        assertSame(StdPolicySnapshot.EMPTY, StdPolicySnapshot.load(snapshotPath));
+
+        // not a snapshot
+        Files.writeString(snapshotPath, "not a snapshot");
+        assertSame(StdPolicySnapshot.EMPTY, StdPolicySnapshot.load(snapshotPath));
+
+        // truncated
+        var snapshot = StdPolicySnapshot.build(List.of(deployed(policy1, path1)), StdPolicySnapshot.EMPTY);
+        var outputStream = new ByteArrayOutputStream();
+        snapshot.write(outputStream);
+        byte[] bytes = outputStream.toByteArray();
+        Files.write(snapshotPath, Arrays.copyOf(bytes, bytes.length / 2));
+        assertSame(StdPolicySnapshot.EMPTY, StdPolicySnapshot.load(snapshotPath));
+        assertThat(StdPolicySnapshot.EMPTY.size()).isZero();
+    }
+
+    private static StdPolicySnapshot.Deployed deployed(ToscaPolicy policy, Path path) {
+        return new StdPolicySnapshot.Deployed(StdPolicySnapshot.digest(policy), policy, path);
+    }
+
+    private ToscaPolicy newPolicy(String name) {
+        var policy = new ToscaPolicy();
+        policy.setName(name);
+        policy.setVersion("1.0.0");
+        policy.setType("onap.policies.Test");
+        policy.setTypeVersion("1.0.0");
+        policy.setProperties(Map.of("key", name));
+        return policy;
+    }
+
+    private Path writePolicy(String name) {
+        PolicyType policy = XacmlPolicyUtils.createEmptyPolicy(name, XACML3.ID_RULE_DENY_UNLESS_PERMIT);
+        policy.setVersion("1.0.0");
+        return XacmlPolicyUtils.writePolicyFile(XacmlPolicyUtils.constructUniquePolicyFilename(policy, folder),
+            policy);
+    }
+}
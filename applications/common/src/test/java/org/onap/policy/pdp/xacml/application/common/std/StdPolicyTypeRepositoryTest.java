@@ -0,0 +1,129 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdp.xacml.application.common.std;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.onap.policy.common.utils.coder.StandardYamlCoder;
+import org.onap.policy.common.utils.resources.ResourceUtils;
+import org.onap.policy.models.tosca.authorative.concepts.ToscaConceptIdentifier;
+import org.onap.policy.models.tosca.authorative.concepts.ToscaServiceTemplate;
+import org.onap.policy.pdp.xacml.application.common.matchable.MatchablePolicyType;
+
+class StdPolicyTypeRepositoryTest {
+    private static final StandardYamlCoder yamlCoder = new StandardYamlCoder();
+    private static final ToscaConceptIdentifier TEST_TYPE =
+        new ToscaConceptIdentifier("onap.policies.base.middle.Test", "1.0.0");
+    private static final ToscaConceptIdentifier BASE_TYPE = new ToscaConceptIdentifier("onap.policies.Base", "1.0.0");
+
+    @TempDir
+    Path folder;
+
+    private String policyYaml;
+    private StdPolicyTypeRepository repository;
+
+    /**
+     * Creates a repository and reads the test policy type.
+     */
+    @BeforeEach
+    void setUp() {
+        policyYaml = ResourceUtils.getResourceAsString("matchable/onap.policies.Test-1.0.0.yaml");
+        repository = new StdPolicyTypeRepository(10);
+    }
+
+    @Test
+    void testGet() throws Exception {
+        Files.writeString(StdPolicyTypeRepository.constructLocalFilePath(TEST_TYPE, folder), policyYaml);
+
+        ToscaServiceTemplate template = repository.get(TEST_TYPE, folder, null);
+        assertNotNull(template);
+        assertEquals(3, template.getPolicyTypes().size());
+        assertSame(template, repository.get(TEST_TYPE, folder, null));
+
+        //
+        // The pre-parsed form is used once it has been written
+        //
+        assertTrue(Files.exists(StdPolicyTypeRepository.constructCompactFilePath(TEST_TYPE, folder)));
+        Files.delete(StdPolicyTypeRepository.constructLocalFilePath(TEST_TYPE, folder));
+        repository.clear();
+        ToscaServiceTemplate compact = repository.get(TEST_TYPE, folder, null);
+        assertNotNull(compact);
+        assertEquals(template.getPolicyTypes().keySet(), compact.getPolicyTypes().keySet());
+    }
+
+    @Test
+    void testGet_NotFound() {
+        // not on disk, and policy-api cannot be reached
+        assertNull(repository.get(TEST_TYPE, folder, null));
+    }
+
+    @Test
+    void testPrefetch() throws Exception {
+        //
+        // The test policy type derives from a base type that is in another file
+        //
+        ToscaServiceTemplate child = yamlCoder.decode(policyYaml, ToscaServiceTemplate.class);
+        child.getPolicyTypes().remove(BASE_TYPE.getName());
+        yamlCoder.encode(StdPolicyTypeRepository.constructLocalFilePath(TEST_TYPE, folder).toFile(), child);
+        Files.writeString(StdPolicyTypeRepository.constructLocalFilePath(BASE_TYPE, folder), policyYaml);
+
+        repository.prefetch(List.of(TEST_TYPE), folder, null);
+
+        //
+        // Both are in memory now
+        //
+        try (var files = Files.list(folder)) {
+            for (Path file : files.toList()) {
+                Files.delete(file);
+            }
+        }
+        assertNotNull(repository.get(TEST_TYPE, folder, null));
+        assertNotNull(repository.get(BASE_TYPE, folder, null));
+    }
+
+    @Test
+    void testGetMatchable() {
+        var matchable = mock(MatchablePolicyType.class);
+        var created = new AtomicInteger();
+
+        assertSame(matchable, repository.getMatchable(TEST_TYPE, () -> {
+            created.incrementAndGet();
+            return matchable;
+        }));
+        assertSame(matchable, repository.getMatchable(TEST_TYPE, () -> {
+            created.incrementAndGet();
+            return mock(MatchablePolicyType.class);
+        }));
+        assertEquals(1, created.get());
+    }
+}
@@ -26,17 +26,20 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import com.att.research.xacml.api.Request;
 import com.att.research.xacml.api.Response;
+import com.att.research.xacml.api.XACML3;
 import com.att.research.xacml.api.pdp.PDPEngine;
 import com.att.research.xacml.api.pdp.PDPEngineFactory;
 import com.att.research.xacml.api.pdp.PDPException;
@@ -45,10 +48,17 @@ import com.att.research.xacml.util.XACMLProperties;
 import com.google.common.io.Files;
 import java.io.File;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import oasis.names.tc.xacml._3_0.core.schema.wd_17.PolicyType;
 import org.apache.commons.lang3.tuple.Pair;
 import org.junit.jupiter.api.AfterAll;
@@ -95,6 +105,9 @@ class StdXacmlApplicationServiceProviderTest {
     @Mock
     private PDPEngine engine;
 
+    @Mock
+    private PDPEngine engine2;
+
     @Mock
     private Request req;
 
@@ -141,8 +154,7 @@ class StdXacmlApplicationServiceProviderTest {
         policy.setName(POLICY_NAME);
         policy.setVersion(POLICY_VERSION);
 
-        PolicyType internalPolicy = new PolicyType();
-        internalPolicy.setPolicyId(POLICY_NAME);
+        PolicyType internalPolicy = XacmlPolicyUtils.createEmptyPolicy(POLICY_NAME, XACML3.ID_RULE_DENY_UNLESS_PERMIT);
         internalPolicy.setVersion(POLICY_VERSION);
 
         lenient().when(engineFactory.newEngine(any())).thenReturn(engine);
@@ -154,6 +166,7 @@ class StdXacmlApplicationServiceProviderTest {
         prov = new MyProv();
 
         Files.copy(SOURCE_PROP_FILE, PROP_FILE);
+        new File(TEMP_DIR, StdPolicySnapshot.SNAPSHOT_FILE).delete();
     }
 
     @Test
@@ -248,6 +261,182 @@ class StdXacmlApplicationServiceProviderTest {
         assertEquals(set.toString(), set3.toString());
     }
 
+    @Test
+    void testLoadPolicies_testUnloadPolicies() throws Exception {
+        ToscaPolicy policy2 = new ToscaPolicy();
+        policy2.setType(POLICY_TYPE);
+        policy2.setName("my-name2");
+        policy2.setVersion(POLICY_VERSION);
+
+        PolicyType internalPolicy2 = XacmlPolicyUtils.createEmptyPolicy("my-name2", XACML3.ID_RULE_DENY_UNLESS_PERMIT);
+        internalPolicy2.setVersion(POLICY_VERSION);
+        lenient().when(trans.convertPolicy(policy2)).thenReturn(internalPolicy2);
+
+        ToscaPolicy badPolicy = new ToscaPolicy();
+        badPolicy.setType(POLICY_TYPE);
+        badPolicy.setName("my-bad-name");
+        badPolicy.setVersion(POLICY_VERSION);
+        lenient().when(trans.convertPolicy(badPolicy)).thenReturn(null);
+
+        prov.initialize(TEMP_PATH, apiClient);
+        final Set<String> set = XACMLProperties.getRootPolicyIDs(prov.getProperties());
+
+        // only the bad policy fails
+        Map<ToscaPolicy, XacmlApplicationException> failures =
+            prov.loadPolicies(List.of(policy, badPolicy, policy2));
+        assertEquals(Set.of(badPolicy), failures.keySet());
+
+        assertTrue(new File(TEMP_DIR, "my-name_1.2.3.xml").exists());
+        assertTrue(new File(TEMP_DIR, "my-name2_1.2.3.xml").exists());
+        assertEquals(set.size() + 2, XACMLProperties.getRootPolicyIDs(prov.getProperties()).size());
+
+        // should have re-created the engine once
+        verify(engineFactory, times(2)).newEngine(any());
+
+        // unload both, plus one that was never loaded
+        assertEquals(List.of(policy, policy2), prov.unloadPolicies(List.of(policy, badPolicy, policy2)));
+
+        assertFalse(new File(TEMP_DIR, "my-name_1.2.3.xml").exists());
+        assertFalse(new File(TEMP_DIR, "my-name2_1.2.3.xml").exists());
+        assertEquals(set.toString(), XACMLProperties.getRootPolicyIDs(prov.getProperties()).toString());
+
+        // should have re-created the engine once more
+        verify(engineFactory, times(3)).newEngine(any());
+    }
+
+    @Test
+    void testLoadPolicies_PropertiesFailure() throws Exception {
+        prov.initialize(TEMP_PATH, apiClient);
+        final Set<String> set = XACMLProperties.getRootPolicyIDs(prov.getProperties());
+
+        //
+        // The properties cannot replace a directory that is not empty
+        //
+        assertTrue(PROP_FILE.delete());
+        assertTrue(PROP_FILE.mkdir());
+        var blocker = new File(PROP_FILE, "blocker");
+        assertTrue(blocker.createNewFile());
+        try {
+            Map<ToscaPolicy, XacmlApplicationException> failures = prov.loadPolicies(List.of(policy));
+            assertEquals(Set.of(policy), failures.keySet());
+        } finally {
+            assertTrue(blocker.delete());
+            assertTrue(PROP_FILE.delete());
+        }
+
+        // nothing of the policy is left behind
+        assertFalse(new File(TEMP_DIR, "my-name_1.2.3.xml").exists());
+        assertEquals(set.toString(), XACMLProperties.getRootPolicyIDs(prov.getProperties()).toString());
+        verify(engineFactory, times(1)).newEngine(any());
+    }
+
+    @Test
+    void testLoadPolicies_Parallel() throws Exception {
+        List<ToscaPolicy> policies = new ArrayList<>();
+        for (var index = 0; index < 20; ++index) {
+            ToscaPolicy toscaPolicy = new ToscaPolicy();
+            toscaPolicy.setType(POLICY_TYPE);
+            toscaPolicy.setName("my-name-" + index);
+            toscaPolicy.setVersion(POLICY_VERSION);
+            PolicyType internalPolicy = XacmlPolicyUtils.createEmptyPolicy("my-name-" + index,
+                XACML3.ID_RULE_DENY_UNLESS_PERMIT);
+            internalPolicy.setVersion(POLICY_VERSION);
+            lenient().when(trans.convertPolicy(toscaPolicy)).thenReturn(internalPolicy);
+            policies.add(toscaPolicy);
+        }
+
+        prov.initialize(TEMP_PATH, apiClient);
+        final int roots = XACMLProperties.getRootPolicyIDs(prov.getProperties()).size();
+
+        // all of them are translated and loaded with a single engine
+        assertThat(prov.loadPolicies(policies)).isEmpty();
+        assertEquals(roots + 20, XACMLProperties.getRootPolicyIDs(prov.getProperties()).size());
+        for (var index = 0; index < 20; ++index) {
+            assertTrue(new File(TEMP_DIR, "my-name-" + index + "_1.2.3.xml").exists());
+        }
+        verify(engineFactory, times(2)).newEngine(any());
+
+        assertEquals(policies, prov.unloadPolicies(policies));
+    }
+
+    @Test
+    void testLoadPolicy_WriteBehind() throws Exception {
+        prov.setPersistence(true, false);
+        prov.initialize(TEMP_PATH, apiClient);
+
+        prov.loadPolicy(policy);
+        prov.flushPersistence();
+
+        File policyFile = new File(TEMP_DIR, "my-name_1.2.3.xml");
+        assertTrue(policyFile.exists());
+        assertEquals(prov.getProperties(), XacmlPolicyUtils.loadXacmlProperties(PROP_FILE.toPath()));
+
+        assertTrue(prov.unloadPolicy(policy));
+        prov.flushPersistence();
+
+        assertFalse(policyFile.exists());
+        assertEquals(prov.getProperties(), XacmlPolicyUtils.loadXacmlProperties(PROP_FILE.toPath()));
+    }
+
+    @Test
+    void testLoadPolicy_Snapshot() throws Exception {
+        prov.setSnapshot(true);
+        prov.initialize(TEMP_PATH, apiClient);
+        prov.loadPolicy(policy);
+        prov.flushPersistence();
+        assertTrue(new File(TEMP_DIR, StdPolicySnapshot.SNAPSHOT_FILE).exists());
+
+        //
+        // After a restart, the policy is taken from the snapshot rather than translated
+        //
+        lenient().when(trans.convertPolicy(policy)).thenReturn(null);
+        prov = new MyProv();
+        prov.setSnapshot(true);
+        prov.initialize(TEMP_PATH, apiClient);
+        prov.loadPolicy(policy);
+        assertTrue(new File(TEMP_DIR, "my-name_1.2.3.xml").exists());
+        assertTrue(prov.unloadPolicy(policy));
+    }
+
+    @Test
+    void testLoadPolicy_NoSnapshot() throws Exception {
+        prov.initialize(TEMP_PATH, apiClient);
+        prov.loadPolicy(policy);
+        prov.flushPersistence();
+        assertFalse(new File(TEMP_DIR, StdPolicySnapshot.SNAPSHOT_FILE).exists());
+        assertTrue(prov.unloadPolicy(policy));
+    }
+
+    @Test
+    void testRestorePolicies() throws Exception {
+        prov.setSnapshot(true);
+        prov.initialize(TEMP_PATH, apiClient);
+        assertThat(prov.restorePolicies()).isEmpty();
+
+        // the root policy that is not in the snapshot could never be undeployed, so it is dropped
+        assertThat(XACMLProperties.getRootPolicyIDs(prov.getProperties())).doesNotContain("rootstart");
+        assertEquals(prov.getProperties(), XacmlPolicyUtils.loadXacmlProperties(PROP_FILE.toPath()));
+        assertTrue(new File("src/test/resources/root.xml").exists());
+        verify(engineFactory, times(2)).newEngine(any());
+
+        prov.loadPolicy(policy);
+        prov.flushPersistence();
+
+        //
+        // After a restart, the policy is known again without being deployed
+        //
+        prov = new MyProv();
+        prov.setSnapshot(true);
+        prov.initialize(TEMP_PATH, apiClient);
+        List<ToscaPolicy> restored = prov.restorePolicies();
+        assertThat(restored).hasSize(1);
+        assertEquals(policy.getIdentifier(), restored.get(0).getIdentifier());
+        assertThat(XACMLProperties.getRootPolicyIDs(prov.getProperties())).hasSize(1);
+
+        assertTrue(prov.unloadPolicy(restored.get(0)));
+        assertFalse(new File(TEMP_DIR, "my-name_1.2.3.xml").exists());
+    }
+
     @Test
     void testUnloadPolicy_NotDeployed() throws Exception {
         prov.initialize(TEMP_PATH, apiClient);
@@ -276,6 +465,40 @@ class StdXacmlApplicationServiceProviderTest {
         verify(trans).convertResponse(resp);
     }
 
+    @Test
+    void testMakeDecision_Cached() throws ToscaPolicyConversionException {
+        prov.setDecisionCache(10, 60);
+        assertNotNull(prov.getDecisionCache());
+        prov.createEngine(null);
+
+        DecisionRequest decreq = new DecisionRequest();
+        decreq.setAction("action");
+        decreq.setResource(Map.of("policy-id", "my-policy"));
+        lenient().when(trans.convertRequest(decreq)).thenReturn(req);
+
+        DecisionResponse decresp = new DecisionResponse();
+        decresp.setPolicies(Map.of("my-policy", Map.of("name", "my-policy")));
+        lenient().when(trans.convertResponse(resp)).thenReturn(decresp);
+
+        // miss, then hit with a copy of the response
+        Pair<DecisionResponse, Response> result = prov.makeDecision(decreq, null);
+        assertSame(decresp, result.getKey());
+        result = prov.makeDecision(decreq, null);
+        assertEquals(decresp, result.getKey());
+        assertNotSame(decresp, result.getKey());
+        assertSame(resp, result.getValue());
+        verify(trans, times(1)).convertRequest(decreq);
+
+        // new engines invalidate the cache
+        prov.createEngine(null);
+        prov.makeDecision(decreq, null);
+        verify(trans, times(2)).convertRequest(decreq);
+
+        // disable it
+        prov.setDecisionCache(0, 60);
+        assertNull(prov.getDecisionCache());
+    }
+
     @Test
     void testGetTranslator() {
         assertSame(trans, prov.getTranslator());
@@ -298,6 +521,30 @@ class StdXacmlApplicationServiceProviderTest {
         assertSame(engine, prov.getEngine());
     }
 
+    @Test
+    void testCreateEngine_Pool() throws FactoryException {
+        // default is a single shared engine
+        prov.createEngine(null);
+        assertFalse(prov.getEnginePool().isExclusive());
+        assertEquals(1, prov.getEnginePool().getSize());
+
+        prov.setEnginePoolSize(-1);
+        assertEquals(0, prov.getEnginePoolSize());
+
+        prov.setEnginePoolSize(3);
+        prov.createEngine(null);
+        verify(engineFactory, times(4)).newEngine(any());
+        assertTrue(prov.getEnginePool().isExclusive());
+        assertEquals(3, prov.getEnginePool().getSize());
+
+        // partial failure - the previous pool must be kept and the new engines shutdown
+        lenient().when(engineFactory.newEngine(any())).thenReturn(engine2).thenReturn(null);
+        prov.createEngine(null);
+        assertEquals(3, prov.getEnginePool().getSize());
+        assertSame(engine, prov.getEngine());
+        verify(engine2).shutdown();
+    }
+
     @Test
     void testXacmlDecision() throws PDPException {
         prov.createEngine(null);
@@ -310,6 +557,55 @@ class StdXacmlApplicationServiceProviderTest {
         assertNull(prov.xacmlDecision(req));
     }
 
+    @Test
+    void testXacmlDecision_NoEngine() {
+        assertNull(prov.xacmlDecision(req));
+    }
+
+    @Test
+    void testXacmlDecision_EngineSwappedDuringDecision() throws Exception {
+        prov.createEngine(null);
+
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch finish = new CountDownLatch(1);
+        lenient().when(engine.decide(req)).thenAnswer(invocation -> {
+            started.countDown();
+            assertTrue(finish.await(5, TimeUnit.SECONDS));
+            return resp;
+        });
+
+        var executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Response> future = executor.submit(() -> prov.xacmlDecision(req));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+
+            // deploy a new engine while the decision is still running
+            lenient().when(engineFactory.newEngine(any())).thenReturn(engine2);
+            prov.createEngine(null);
+            assertSame(engine2, prov.getEngine());
+
+            // old engine must remain available until the decision completes
+            verify(engine, never()).shutdown();
+
+            finish.countDown();
+            assertSame(resp, future.get(5, TimeUnit.SECONDS));
+            verify(engine).shutdown();
+            verify(engine2, never()).shutdown();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testDestroyEngine() {
+        prov.createEngine(null);
+        prov.destroyEngine();
+
+        assertNull(prov.getEngine());
+        verify(engine).shutdown();
+        assertNull(prov.xacmlDecision(req));
+    }
+
     @Test
     void testGetPdpEngineFactory() throws XacmlApplicationException {
         // use the real engine factory
@@ -23,9 +23,16 @@
 
 package org.onap.policy.xacml.pdp.application.guard;
 
+import com.att.research.xacml.api.Request;
+import com.att.research.xacml.api.Response;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 import org.onap.policy.models.tosca.authorative.concepts.ToscaConceptIdentifier;
+import org.onap.policy.models.tosca.authorative.concepts.ToscaPolicy;
 import org.onap.policy.pdp.xacml.application.common.ToscaPolicyTranslator;
+import org.onap.policy.pdp.xacml.application.common.XacmlApplicationException;
+import org.onap.policy.pdp.xacml.application.common.std.StdPipResolutionScope;
 import org.onap.policy.pdp.xacml.application.common.std.StdXacmlApplicationServiceProvider;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -42,6 +49,7 @@ public class GuardPdpApplication extends StdXacmlApplicationServiceProvider {
 
     private GuardTranslator guardTranslator = new GuardTranslator();
     private CoordinationGuardTranslator coordinationTranslator = new CoordinationGuardTranslator();
+    private GuardPipPrefetcher pipPrefetcher = new GuardPipPrefetcher();
 
     /**
      * Constructor.
@@ -96,4 +104,45 @@ public class GuardPdpApplication extends StdXacmlApplicationServiceProvider {
         }
     }
 
+    @Override
+    public synchronized List<ToscaPolicy> restorePolicies() {
+        var restoredPolicies = super.restorePolicies();
+        restoredPolicies.forEach(pipPrefetcher::add);
+        return restoredPolicies;
+    }
+
+    @Override
+    public synchronized Map<ToscaPolicy, XacmlApplicationException> loadPolicies(List<ToscaPolicy> toscaPolicies) {
+        var failures = super.loadPolicies(toscaPolicies);
+        toscaPolicies.stream().filter(policy -> !failures.containsKey(policy)).forEach(pipPrefetcher::add);
+        return failures;
+    }
+
+    @Override
+    public synchronized List<ToscaPolicy> unloadPolicies(List<ToscaPolicy> toscaPolicies) {
+        var unloadedPolicies = super.unloadPolicies(toscaPolicies);
+        unloadedPolicies.forEach(pipPrefetcher::remove);
+        return unloadedPolicies;
+    }
+
+    @Override
+    protected Response xacmlDecision(Request request) {
+        //
+        // Resolve the PIP lookups of the policies once per decision, and start
+        // the operation counts the matching FrequencyLimiters need together.
+        //
+        try (var scope = StdPipResolutionScope.open(pipPrefetcher.getPrefetches(request))) {
+            return super.xacmlDecision(request);
+        }
+    }
+
+    @Override
+    protected boolean isDecisionCacheable() {
+        //
+        // Guard decisions depend on the time of day and on the
+        // operations history, so the same request can change answer.
+        //
+        return false;
+    }
+
 }
@@ -0,0 +1,147 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.xacml.pdp.application.guard;
+
+import com.att.research.xacml.api.Attribute;
+import com.att.research.xacml.api.AttributeValue;
+import com.att.research.xacml.api.Identifier;
+import com.att.research.xacml.api.Request;
+import com.att.research.xacml.api.RequestAttributes;
+import com.att.research.xacml.api.XACML3;
+import com.att.research.xacml.api.pip.PIPRequest;
+import com.att.research.xacml.std.pip.StdPIPRequest;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.onap.policy.models.tosca.authorative.concepts.ToscaConceptIdentifier;
+import org.onap.policy.models.tosca.authorative.concepts.ToscaPolicy;
+import org.onap.policy.pdp.xacml.application.common.ToscaDictionary;
+import org.onap.policy.pdp.xacml.application.common.ToscaPolicyConversionException;
+import org.onap.policy.pdp.xacml.application.common.ToscaPolicyTranslatorUtils;
+import org.onap.policy.xacml.pdp.application.guard.GuardTranslator.FrequencyDefinition;
+import org.onap.policy.xacml.pdp.application.guard.GuardTranslator.TargetTypeDefinition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Knows the operation count lookups that the deployed FrequencyLimiter policies make,
+ * so that those a guard request will need can be started together before the engine
+ * walks the policies.
+ */
+public class GuardPipPrefetcher {
+    private static final Logger LOGGER = LoggerFactory.getLogger(GuardPipPrefetcher.class);
+
+    private static final String ANY = ".*";
+
+    private final Map<ToscaConceptIdentifier, CountLookup> lookups = new ConcurrentHashMap<>();
+
+    /**
+     * The count lookup of a FrequencyLimiter policy, with the values its target matches.
+     */
+    private record CountLookup(String actor, String operation, String target, String clname,
+            PIPRequest pipRequest) {
+
+        boolean matches(Map<Identifier, String> values) {
+            return matches(actor, values.get(ToscaDictionary.ID_RESOURCE_GUARD_ACTOR))
+                && matches(operation, values.get(ToscaDictionary.ID_RESOURCE_GUARD_RECIPE))
+                && matches(target, values.get(ToscaDictionary.ID_RESOURCE_GUARD_TARGETID))
+                && matches(clname, values.get(ToscaDictionary.ID_RESOURCE_GUARD_CLNAME));
+        }
+
+        private static boolean matches(String expected, String value) {
+            return expected == null || ANY.equals(expected) || expected.equals(value);
+        }
+    }
+
+    /**
+     * Adds the count lookup of a deployed policy, if it is a FrequencyLimiter.
+     *
+     * @param toscaPolicy the policy
+     */
+    public void add(ToscaPolicy toscaPolicy) {
+        if (!GuardTranslator.POLICYTYPE_FREQUENCY.equals(toscaPolicy.getType())
+                || toscaPolicy.getProperties() == null) {
+            return;
+        }
+        try {
+            var targetDef = ToscaPolicyTranslatorUtils.decodeProperties(toscaPolicy.getProperties(),
+                TargetTypeDefinition.class);
+            var frequencyDef = ToscaPolicyTranslatorUtils.decodeProperties(toscaPolicy.getProperties(),
+                FrequencyDefinition.class);
+            if (frequencyDef.getTimeWindow() == null) {
+                return;
+            }
+            var pipRequest = new StdPIPRequest(XACML3.ID_ATTRIBUTE_CATEGORY_RESOURCE,
+                ToscaDictionary.ID_RESOURCE_GUARD_OPERATIONCOUNT, XACML3.ID_DATATYPE_INTEGER,
+                GuardTranslator.generateCountIssuer(frequencyDef.getTimeWindow().toString(),
+                    frequencyDef.getTimeUnits()));
+            lookups.put(toscaPolicy.getIdentifier(), new CountLookup(targetDef.getActor(),
+                targetDef.getOperation(), targetDef.getTarget(), targetDef.getId(), pipRequest));
+        } catch (ToscaPolicyConversionException e) {
+            LOGGER.warn("Not prefetching the operation count of {}", toscaPolicy.getIdentifier(), e);
+        }
+    }
+
+    /**
+     * Removes the count lookup of an undeployed policy.
+     *
+     * @param toscaPolicy the policy
+     */
+    public void remove(ToscaPolicy toscaPolicy) {
+        lookups.remove(toscaPolicy.getIdentifier());
+    }
+
+    /**
+     * Gets the distinct count lookups of the FrequencyLimiter policies whose target
+     * matches a request.
+     *
+     * @param request the guard request
+     * @return the lookups to prefetch
+     */
+    public List<PIPRequest> getPrefetches(Request request) {
+        if (lookups.isEmpty()) {
+            return List.of();
+        }
+        Map<Identifier, String> values = new HashMap<>();
+        for (RequestAttributes attributes : request.getRequestAttributes()) {
+            if (!XACML3.ID_ATTRIBUTE_CATEGORY_RESOURCE.equals(attributes.getCategory())) {
+                continue;
+            }
+            for (Attribute attribute : attributes.getAttributes()) {
+                for (AttributeValue<?> value : attribute.getValues()) {
+                    values.putIfAbsent(attribute.getAttributeId(), String.valueOf(value.getValue()));
+                }
+            }
+        }
+        //
+        // Policies with the same time window make the same lookup
+        //
+        Map<String, PIPRequest> prefetches = new LinkedHashMap<>();
+        for (CountLookup lookup : lookups.values()) {
+            if (lookup.matches(values)) {
+                prefetches.putIfAbsent(lookup.pipRequest().getIssuer(), lookup.pipRequest());
+            }
+        }
+        return List.copyOf(prefetches.values());
+    }
+}
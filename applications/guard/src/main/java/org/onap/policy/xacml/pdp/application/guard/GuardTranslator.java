@@ -449,6 +449,19 @@ public class GuardTranslator implements ToscaPolicyTranslator {
         newPolicyType.getCombinerParametersOrRuleCombinerParametersOrVariableDefinition().add(frequencyRule);
     }
 
+    /**
+     * Generates the issuer of the operation count lookup for a time window.
+     *
+     * @param timeWindow length of the time window
+     * @param timeUnits units of the time window
+     * @return the issuer
+     */
+    public static String generateCountIssuer(String timeWindow, String timeUnits) {
+        return ToscaDictionary.GUARD_ISSUER_PREFIX
+            + CountRecentOperationsPip.ISSUER_NAME
+            + ":tw:" + timeWindow + ":" + timeUnits;
+    }
+
     protected ApplyType generateCountCheck(Integer limit, String timeWindow, String timeUnits) {
         var designator = new AttributeDesignatorType();
         designator.setAttributeId(ToscaDictionary.ID_RESOURCE_GUARD_OPERATIONCOUNT.stringValue());
@@ -458,10 +471,7 @@ public class GuardTranslator implements ToscaPolicyTranslator {
         // Setup issuer - used by the operations PIP to determine
         // how to do the database query.
         //
-        String issuer = ToscaDictionary.GUARD_ISSUER_PREFIX
-            + CountRecentOperationsPip.ISSUER_NAME
-            + ":tw:" + timeWindow + ":" + timeUnits;
-        designator.setIssuer(issuer);
+        designator.setIssuer(generateCountIssuer(timeWindow, timeUnits));
 
         var valueLimit = new AttributeValueType();
         valueLimit.setDataType(XACML3.ID_DATATYPE_INTEGER.stringValue());
@@ -0,0 +1,95 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.xacml.pdp.application.guard;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.att.research.xacml.api.Request;
+import com.att.research.xacml.api.pip.PIPRequest;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.onap.policy.models.decisions.concepts.DecisionRequest;
+import org.onap.policy.models.tosca.authorative.concepts.ToscaPolicy;
+import org.onap.policy.pdp.xacml.application.common.ToscaDictionary;
+
+class GuardPipPrefetcherTest {
+    private static final String ISSUER_10_MINUTE = GuardTranslator.generateCountIssuer("10", "minute");
+    private static final String ISSUER_1_HOUR = GuardTranslator.generateCountIssuer("1", "hour");
+
+    private final GuardPipPrefetcher prefetcher = new GuardPipPrefetcher();
+    private final GuardTranslator translator = new GuardTranslator();
+
+    @Test
+    void testGetPrefetches() throws Exception {
+        var restart = policy("restart", GuardTranslator.POLICYTYPE_FREQUENCY, Map.of("actor", "APPC",
+            "operation", "Restart", "timeWindow", 10, "timeUnits", "minute", "limit", 5));
+        prefetcher.add(restart);
+        prefetcher.add(policy("any-restart", GuardTranslator.POLICYTYPE_FREQUENCY, Map.of("actor", ".*",
+            "operation", "Restart", "timeWindow", 10, "timeUnits", "minute", "limit", 2)));
+        prefetcher.add(policy("loop", GuardTranslator.POLICYTYPE_FREQUENCY, Map.of("id", "loop-1",
+            "timeWindow", 1, "timeUnits", "hour", "limit", 10)));
+
+        // no count lookups
+        prefetcher.add(policy("minmax", GuardTranslator.POLICYTYPE_MINMAX, Map.of("target", "vnf-1", "min", 1)));
+        prefetcher.add(policy("no-window", GuardTranslator.POLICYTYPE_FREQUENCY, Map.of("limit", 1)));
+        prefetcher.add(policy("bad-window", GuardTranslator.POLICYTYPE_FREQUENCY,
+            Map.of("limit", 1, "timeWindow", "i am a bad value")));
+
+        // the same time window is looked up once
+        List<PIPRequest> prefetches = prefetcher.getPrefetches(request("APPC", "Restart", "loop-2"));
+        assertThat(prefetches).hasSize(1);
+        assertThat(prefetches.get(0).getIssuer()).isEqualTo(ISSUER_10_MINUTE);
+        assertThat(prefetches.get(0).getAttributeId()).isEqualTo(ToscaDictionary.ID_RESOURCE_GUARD_OPERATIONCOUNT);
+
+        assertThat(prefetcher.getPrefetches(request("SO", "Restart", "loop-1"))).extracting(PIPRequest::getIssuer)
+            .containsExactlyInAnyOrder(ISSUER_10_MINUTE, ISSUER_1_HOUR);
+        assertThat(prefetcher.getPrefetches(request("SO", "Rebuild", "loop-2"))).isEmpty();
+
+        prefetcher.remove(restart);
+        assertThat(prefetcher.getPrefetches(request("APPC", "Restart", "loop-2"))).extracting(PIPRequest::getIssuer)
+            .containsExactly(ISSUER_10_MINUTE);
+    }
+
+    @Test
+    void testGetPrefetchesNoPolicies() throws Exception {
+        assertThat(prefetcher.getPrefetches(request("APPC", "Restart", "loop-1"))).isEmpty();
+    }
+
+    private static ToscaPolicy policy(String name, String type, Map<String, Object> properties) {
+        var policy = new ToscaPolicy();
+        policy.setName(name);
+        policy.setVersion("1.0.0");
+        policy.setType(type);
+        policy.setTypeVersion("1.0.0");
+        policy.setProperties(new HashMap<>(properties));
+        return policy;
+    }
+
+    private Request request(String actor, String operation, String clname) throws Exception {
+        var decisionRequest = new DecisionRequest();
+        decisionRequest.setAction("guard");
+        decisionRequest.setResource(Map.of("guard", Map.of("actor", actor, "operation", operation,
+            "clname", clname, "target", "vnf-1")));
+        return translator.convertRequest(decisionRequest);
+    }
+}
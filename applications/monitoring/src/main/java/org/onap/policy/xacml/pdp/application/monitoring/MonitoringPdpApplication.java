@@ -25,13 +25,16 @@ package org.onap.policy.xacml.pdp.application.monitoring;
 
 import com.att.research.xacml.api.Response;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 import org.apache.commons.lang3.tuple.Pair;
 import org.onap.policy.models.decisions.concepts.DecisionRequest;
 import org.onap.policy.models.decisions.concepts.DecisionResponse;
 import org.onap.policy.models.tosca.authorative.concepts.ToscaConceptIdentifier;
+import org.onap.policy.pdp.xacml.application.common.RenderedPolicy;
 import org.onap.policy.pdp.xacml.application.common.ToscaPolicyTranslator;
 import org.onap.policy.pdp.xacml.application.common.std.StdCombinedPolicyResultsTranslator;
 import org.onap.policy.pdp.xacml.application.common.std.StdXacmlApplicationServiceProvider;
@@ -55,6 +58,8 @@ public class MonitoringPdpApplication extends StdXacmlApplicationServiceProvider
 
     public static final String VERSION_100 = "1.0.0";
 
+    private static final Set<String> ABBREVIATED_KEYS = Set.of("type_version", "properties", "name", "version");
+
     private final StdCombinedPolicyResultsTranslator translator = new StdCombinedPolicyResultsTranslator();
 
     /**
@@ -96,14 +101,17 @@ public class MonitoringPdpApplication extends StdXacmlApplicationServiceProvider
             LOGGER.info("Abbreviating decision results {}", decisionResponse);
             for (Entry<String, Object> entry : decisionResponse.getPolicies().entrySet()) {
                 //
-                // DecisionResponse policies will always be a map
+                // DecisionResponse policies will always be a map. The policy content is
+                // shared by all decisions, so it is replaced with an abbreviated copy.
                 //
+                if (entry.getValue() instanceof RenderedPolicy renderedPolicy) {
+                    entry.setValue(renderedPolicy.without(ABBREVIATED_KEYS));
+                    continue;
+                }
                 @SuppressWarnings("unchecked")
-                Map<String, Object> policy = (Map<String, Object>) entry.getValue();
-                policy.remove("type_version");
-                policy.remove("properties");
-                policy.remove("name");
-                policy.remove("version");
+                Map<String, Object> policy = new LinkedHashMap<>((Map<String, Object>) entry.getValue());
+                policy.keySet().removeAll(ABBREVIATED_KEYS);
+                entry.setValue(policy);
             }
         }
         return decisionPair;
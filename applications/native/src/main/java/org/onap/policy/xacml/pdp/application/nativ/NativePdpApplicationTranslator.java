@@ -35,6 +35,7 @@ import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Base64;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -93,12 +94,11 @@ public class NativePdpApplicationTranslator implements ToscaPolicyTranslator {
 
     private static final String DOUBLE = "double";
 
-    private Map<String, Identifier> identifierMap;
+    private static final Map<String, Identifier> identifierMap = createIdentifierMap();
 
     @Override
     public Object convertPolicy(ToscaPolicy toscaPolicy) throws ToscaPolicyConversionException {
         if (TOSCA_XACML_POLICY_TYPE.equals(toscaPolicy.getType())) {
-            setIdentifierMap();
             return setPolicySetType(toscaPolicy);
         } else {
             //
@@ -562,8 +562,8 @@ public class NativePdpApplicationTranslator implements ToscaPolicyTranslator {
         return operator;
     }
 
-    private void setIdentifierMap() {
-        identifierMap = new HashMap<>();
+    private static Map<String, Identifier> createIdentifierMap() {
+        Map<String, Identifier> identifierMap = new HashMap<>();
         identifierMap.put("string-equal", XACML3.ID_FUNCTION_STRING_EQUAL);
         identifierMap.put("integer-equal", XACML3.ID_FUNCTION_INTEGER_EQUAL);
         identifierMap.put("string-equal-ignore-case", XACML3.ID_FUNCTION_STRING_EQUAL_IGNORE_CASE);
@@ -868,6 +868,7 @@ public class NativePdpApplicationTranslator implements ToscaPolicyTranslator {
         identifierMap.put("boolean-bag", XACML3.ID_FUNCTION_BOOLEAN_BAG);
         identifierMap.put("integer-bag", XACML3.ID_FUNCTION_INTEGER_BAG);
         identifierMap.put("double-bag", XACML3.ID_FUNCTION_DOUBLE_BAG);
+        return Collections.unmodifiableMap(identifierMap);
     }
 
     private Identifier validateFilterPropertyFunction(String operator) throws ToscaPolicyConversionException {
@@ -21,7 +21,6 @@
 
 package org.onap.policy.pdpx.main;
 
-import java.util.Collections;
 import org.apache.commons.lang3.StringUtils;
 import org.onap.policy.common.utils.network.NetworkUtil;
 import org.onap.policy.models.pdp.concepts.PdpMessage;
@@ -69,7 +68,10 @@ public class XacmlState {
         this.status.setName(PDP_NAME);
         this.status.setPdpType(pdpType);
         this.status.setState(PdpState.PASSIVE);
-        this.status.setPolicies(Collections.emptyList());
+        //
+        // Report any policies restored from the last run, so PAP only sends what changed
+        //
+        this.status.setPolicies(appManager.getToscaPolicyIdentifiers());
         this.status.setPdpGroup(pdpGroupName);
     }
 
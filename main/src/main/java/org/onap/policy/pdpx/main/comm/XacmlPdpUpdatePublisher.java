@@ -21,6 +21,7 @@
 
 package org.onap.policy.pdpx.main.comm;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -68,6 +69,7 @@ public class XacmlPdpUpdatePublisher {
         var stats = XacmlPdpStatisticsManager.getCurrent();
 
         // Undeploy policies
+        List<ToscaPolicy> toBeUndeployedPolicies = new ArrayList<>();
         for (ToscaConceptIdentifier policyId : toBeUndeployedIds) {
             ToscaPolicy policy = deployedPolicies.get(policyId);
             if (policy == null) {
@@ -77,26 +79,33 @@ public class XacmlPdpUpdatePublisher {
                 LOGGER.warn("not undeploying policy, as it also appears in the deployment list: {}", policyId);
                 stats.updateUndeployFailureCount();
             } else {
-                appManager.removeUndeployedPolicy(policy);
-                stats.updateUndeploySuccessCount();
+                toBeUndeployedPolicies.add(policy);
             }
         }
+        if (!toBeUndeployedPolicies.isEmpty()) {
+            appManager.removeUndeployedPolicies(toBeUndeployedPolicies);
+            toBeUndeployedPolicies.forEach(policy -> stats.updateUndeploySuccessCount());
+        }
+
+        // Deploy policies
+        // if deployed policies do not contain the incoming policy load it,
+        // each application loads all of its policies at once
+        List<ToscaPolicy> toBeLoadedPolicies = toBeDeployedPolicies.values().stream()
+            .filter(policy -> !deployedPolicies.containsKey(policy.getIdentifier())).toList();
+        Map<ToscaPolicy, XacmlApplicationException> failures =
+            toBeLoadedPolicies.isEmpty() ? Collections.emptyMap() : appManager.loadDeployedPolicies(toBeLoadedPolicies);
 
         var errorMessage = new StringBuilder();
-        // Deploy a policy
-        // if deployed policies do not contain the incoming policy load it
-        for (ToscaPolicy policy : toBeDeployedPolicies.values()) {
-            if (!deployedPolicies.containsKey(policy.getIdentifier())) {
-                try {
-                    appManager.loadDeployedPolicy(policy);
-                    stats.updateDeploySuccessCount();
-                } catch (XacmlApplicationException e) {
-                    // Failed to load policy, return error(s) to PAP
-                    LOGGER.error("Failed to load policy: {}", policy, e);
-                    errorMessage.append("Failed to load policy: ").append(policy).append(": ").append(e.getMessage())
-                        .append(XacmlPolicyUtils.LINE_SEPARATOR);
-                    stats.updateDeployFailureCount();
-                }
+        for (ToscaPolicy policy : toBeLoadedPolicies) {
+            XacmlApplicationException exception = failures.get(policy);
+            if (exception == null) {
+                stats.updateDeploySuccessCount();
+            } else {
+                // Failed to load policy, return error(s) to PAP
+                LOGGER.error("Failed to load policy: {}", policy, exception);
+                errorMessage.append("Failed to load policy: ").append(policy).append(": ")
+                    .append(exception.getMessage()).append(XacmlPolicyUtils.LINE_SEPARATOR);
+                stats.updateDeployFailureCount();
             }
         }
 
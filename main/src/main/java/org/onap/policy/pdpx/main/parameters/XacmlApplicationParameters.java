@@ -21,6 +21,7 @@
 package org.onap.policy.pdpx.main.parameters;
 
 import java.util.List;
+import java.util.Map;
 import lombok.Getter;
 import lombok.NonNull;
 import org.onap.policy.common.parameters.ParameterGroupImpl;
@@ -36,6 +37,20 @@ public class XacmlApplicationParameters extends ParameterGroupImpl {
 
     private List<String> exclusions;
 
+    private Map<String, Integer> enginePoolSizes;
+
+    private Map<String, Long> decisionCacheSizes;
+
+    private long decisionCacheTtlSeconds = 60;
+
+    private boolean writeBehindPersistence = false;
+
+    private boolean persistenceFsync = false;
+
+    private boolean warmRestart = false;
+
+    private int initializationThreads = 4;
+
     public XacmlApplicationParameters() {
         super(XacmlApplicationParameters.class.getSimpleName());
     }
@@ -54,4 +69,32 @@ public class XacmlApplicationParameters extends ParameterGroupImpl {
         return exclusions.contains(canonicalName);
     }
 
+    /**
+     * Looks for the number of PDP engines configured for an application. By default
+     * an application has a single engine shared by all of its decisions.
+     *
+     * @param applicationName The application name
+     * @return number of engines to pool, zero if not configured
+     */
+    public int getEnginePoolSize(@NonNull String applicationName) {
+        if (enginePoolSizes == null) {
+            return 0;
+        }
+        return enginePoolSizes.getOrDefault(applicationName, 0);
+    }
+
+    /**
+     * Looks for the maximum number of decisions to cache for an application. By default
+     * an application does not cache its decisions.
+     *
+     * @param applicationName The application name
+     * @return maximum number of decisions to cache, zero if not configured
+     */
+    public long getDecisionCacheSize(@NonNull String applicationName) {
+        if (decisionCacheSizes == null) {
+            return 0;
+        }
+        return decisionCacheSizes.getOrDefault(applicationName, 0L);
+    }
+
 }
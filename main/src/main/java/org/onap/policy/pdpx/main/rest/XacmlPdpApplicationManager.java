@@ -21,15 +21,26 @@
 
 package org.onap.policy.pdpx.main.rest;
 
+import io.prometheus.client.Gauge;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.ServiceLoader;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import lombok.Getter;
 import lombok.Setter;
@@ -46,6 +57,12 @@ import org.slf4j.LoggerFactory;
 public class XacmlPdpApplicationManager {
     private static final Logger LOGGER = LoggerFactory.getLogger(XacmlPdpApplicationManager.class);
 
+    protected static final Gauge initTimeGauge =
+        Gauge.build().namespace(XacmlPdpStatisticsManager.PROMETHEUS_NAMESPACE).name("application_init_seconds")
+            .labelNames(XacmlPdpStatisticsManager.APPLICATION)
+            .help("The time it took to initialize an application at startup.")
+            .register();
+
     @Getter
     @Setter
     private static XacmlPdpApplicationManager current;
@@ -70,8 +87,9 @@ public class XacmlPdpApplicationManager {
         //
         applicationLoader = ServiceLoader.load(XacmlApplicationServiceProvider.class);
         //
-        // Iterate through the applications for actions and supported policy types
+        // Configure the applications that are not excluded
         //
+        List<XacmlApplicationServiceProvider> applications = new ArrayList<>();
         for (XacmlApplicationServiceProvider application : applicationLoader) {
             if (LOGGER.isInfoEnabled()) {
                 LOGGER.info("Application {} supports {}", application.applicationName(),
@@ -85,37 +103,60 @@ public class XacmlPdpApplicationManager {
                 continue;
             }
             //
-            // We are not going to make this available unless the application can
-            // install correctly.
+            // Let it know how many engines to keep
             //
-            var applicationInitialized = false;
+            application.setEnginePoolSize(applicationParameters.getEnginePoolSize(application.applicationName()));
             //
-            // Have it initialized at a path
+            // And how many decisions to cache
             //
-            try {
-                initializeApplicationPath(Paths.get(applicationParameters.getApplicationPath()), application,
-                                policyApiClient);
-                //
-                // We are initialized
-                //
-                applicationInitialized = true;
-            } catch (XacmlApplicationException e) {
-                LOGGER.error("Failed to initialize path for {}", application.applicationName(), e);
+            application.setDecisionCache(applicationParameters.getDecisionCacheSize(application.applicationName()),
+                    applicationParameters.getDecisionCacheTtlSeconds());
+            //
+            // And how to write its policies to disk
+            //
+            application.setPersistence(applicationParameters.isWriteBehindPersistence(),
+                    applicationParameters.isPersistenceFsync());
+            //
+            // And whether to keep a snapshot of them, to be restored after a restart
+            //
+            application.setSnapshot(applicationParameters.isWarmRestart());
+            applications.add(application);
+        }
+        //
+        // Have them initialized at a path, they are independent of each other so
+        // this is done concurrently
+        //
+        List<Boolean> initialized = initializeApplications(applications,
+                Paths.get(applicationParameters.getApplicationPath()), policyApiClient,
+                applicationParameters.getInitializationThreads());
+        //
+        // Iterate through the applications for actions and supported policy types, in
+        // the order they were loaded. We are not going to make an application available
+        // unless it installed correctly.
+        //
+        for (var index = 0; index < applications.size(); ++index) {
+            if (!initialized.get(index)) {
+                continue;
             }
-            if (applicationInitialized) {
-                //
-                // Iterate through the actions and save in the providerActionMap
-                //
-                for (String action : application.actionDecisionsSupported()) {
-                    //
-                    // Save the actions that it supports
-                    //
-                    providerActionMap.put(action, application);
-                }
+            XacmlApplicationServiceProvider application = applications.get(index);
+            //
+            // Iterate through the actions and save in the providerActionMap
+            //
+            for (String action : application.actionDecisionsSupported()) {
                 //
-                // Add all the supported policy types
+                // Save the actions that it supports
                 //
-                toscaPolicyTypeIdents.addAll(application.supportedPolicyTypes());
+                providerActionMap.put(action, application);
+            }
+            //
+            // Add all the supported policy types
+            //
+            toscaPolicyTypeIdents.addAll(application.supportedPolicyTypes());
+            //
+            // Pick up the policies it had deployed before we were restarted
+            //
+            if (applicationParameters.isWarmRestart()) {
+                restorePolicies(application);
             }
         }
         //
@@ -214,6 +255,100 @@ public class XacmlPdpApplicationManager {
         throw new XacmlApplicationException("Application not found for policy type" + policy.getTypeIdentifier());
     }
 
+    /**
+     * Finds the applications that own the policies and removes them, each application
+     * removing all of its policies at once.
+     *
+     * @param policies Incoming policies
+     */
+    public void removeUndeployedPolicies(List<ToscaPolicy> policies) {
+        Map<XacmlApplicationServiceProvider, List<ToscaPolicy>> applicationPolicies = new LinkedHashMap<>();
+        for (ToscaPolicy policy : policies) {
+            XacmlApplicationServiceProvider application = mapLoadedPolicies.get(policy);
+            if (application == null) {
+                //
+                // Not one we know of, let the applications decide
+                //
+                removeUndeployedPolicy(policy);
+            } else {
+                applicationPolicies.computeIfAbsent(application, key -> new ArrayList<>()).add(policy);
+            }
+        }
+        for (Entry<XacmlApplicationServiceProvider, List<ToscaPolicy>> entry : applicationPolicies.entrySet()) {
+            XacmlApplicationServiceProvider application = entry.getKey();
+            try {
+                for (ToscaPolicy policy : application.unloadPolicies(entry.getValue())) {
+                    if (LOGGER.isInfoEnabled()) {
+                        LOGGER.info("Unloaded ToscaPolicy {} from application {}", policy.getMetadata(),
+                            application.applicationName());
+                    }
+                    mapLoadedPolicies.remove(policy);
+                }
+            } catch (XacmlApplicationException e) {
+                LOGGER.error("Failed to undeploy the Tosca Policies", e);
+            }
+        }
+    }
+
+    /**
+     * Finds the appropriate applications and loads the policies, each application
+     * loading all of its policies at once.
+     *
+     * @param policies Incoming policies
+     * @return Map of the policies that failed to load to the reason why, empty if all loaded
+     */
+    public Map<ToscaPolicy, XacmlApplicationException> loadDeployedPolicies(List<ToscaPolicy> policies) {
+        Map<ToscaPolicy, XacmlApplicationException> failures = new LinkedHashMap<>();
+        Map<XacmlApplicationServiceProvider, List<ToscaPolicy>> applicationPolicies = new LinkedHashMap<>();
+        for (ToscaPolicy policy : policies) {
+            XacmlApplicationServiceProvider application = findPolicyApplication(policy);
+            if (application == null) {
+                failures.put(policy, new XacmlApplicationException(
+                        "Application not found for policy type" + policy.getTypeIdentifier()));
+            } else {
+                applicationPolicies.computeIfAbsent(application, key -> new ArrayList<>()).add(policy);
+            }
+        }
+        for (Entry<XacmlApplicationServiceProvider, List<ToscaPolicy>> entry : applicationPolicies.entrySet()) {
+            XacmlApplicationServiceProvider application = entry.getKey();
+            Map<ToscaPolicy, XacmlApplicationException> applicationFailures =
+                    application.loadPolicies(entry.getValue());
+            for (ToscaPolicy policy : entry.getValue()) {
+                if (applicationFailures.containsKey(policy)) {
+                    failures.put(policy, applicationFailures.get(policy));
+                    continue;
+                }
+                mapLoadedPolicies.put(policy, application);
+                if (LOGGER.isInfoEnabled()) {
+                    LOGGER.info("Loaded ToscaPolicy {} into application {}", policy.getMetadata(),
+                            application.applicationName());
+                }
+            }
+        }
+        return failures;
+    }
+
+    private XacmlApplicationServiceProvider findPolicyApplication(ToscaPolicy policy) {
+        //
+        // As with loadDeployedPolicy, use the first application found
+        //
+        for (XacmlApplicationServiceProvider application : applicationLoader) {
+            if (application.canSupportPolicyType(policy.getTypeIdentifier())) {
+                return application;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Waits for every application to finish writing its policies to disk.
+     */
+    public void flushPersistence() {
+        for (XacmlApplicationServiceProvider application : applicationLoader) {
+            application.flushPersistence();
+        }
+    }
+
     /**
      * Returns the current count of policy types supported. This could be misleading a bit
      * as some applications can support wildcard of policy types. Eg. onap.Monitoring.* as
@@ -234,6 +369,80 @@ public class XacmlPdpApplicationManager {
         return mapLoadedPolicies.size();
     }
 
+    private List<Boolean> initializeApplications(List<XacmlApplicationServiceProvider> applications,
+                    Path basePath, HttpClient policyApiClient, int threads) {
+        if (threads <= 1 || applications.size() <= 1) {
+            return applications.stream()
+                    .map(application -> initializeApplication(basePath, application, policyApiClient)).toList();
+        }
+        List<Callable<Boolean>> tasks = new ArrayList<>();
+        for (XacmlApplicationServiceProvider application : applications) {
+            tasks.add(() -> initializeApplication(basePath, application, policyApiClient));
+        }
+        var count = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(threads, tasks.size()), runnable -> {
+            var thread = new Thread(runnable, "pdpx-init-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<Boolean> initialized = new ArrayList<>();
+            for (Future<Boolean> future : executor.invokeAll(tasks)) {
+                initialized.add(getResult(future));
+            }
+            return initialized;
+        } catch (InterruptedException e) {
+            LOGGER.error("Interrupted while initializing the applications");
+            Thread.currentThread().interrupt();
+            return Collections.nCopies(tasks.size(), false);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Boolean getResult(Future<Boolean> future) throws InterruptedException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            //
+            // Anything unexpected fails the startup, as it did when run one at a time
+            //
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private boolean initializeApplication(Path basePath, XacmlApplicationServiceProvider application,
+                    HttpClient policyApiClient) {
+        long start = System.nanoTime();
+        try {
+            initializeApplicationPath(basePath, application, policyApiClient);
+            return true;
+        } catch (XacmlApplicationException e) {
+            LOGGER.error("Failed to initialize path for {}", application.applicationName(), e);
+            return false;
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            initTimeGauge.labels(application.applicationName()).set(elapsed / 1.0E9);
+            LOGGER.info("Initialization of {} took {} ms", application.applicationName(),
+                    TimeUnit.NANOSECONDS.toMillis(elapsed));
+        }
+    }
+
+    private void restorePolicies(XacmlApplicationServiceProvider application) {
+        //
+        // These are reported to PAP with the first heartbeat, PAP then sends the
+        // deltas to get us in line with the group
+        //
+        List<ToscaPolicy> policies = application.restorePolicies();
+        for (ToscaPolicy policy : policies) {
+            mapLoadedPolicies.put(policy, application);
+        }
+        LOGGER.info("Restored {} policies into application {}", policies.size(), application.applicationName());
+    }
+
     private void initializeApplicationPath(Path basePath, XacmlApplicationServiceProvider application,
                     HttpClient policyApiClient) throws XacmlApplicationException {
         //
@@ -33,6 +33,7 @@ import jakarta.ws.rs.core.Context;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.Response.ResponseBuilder;
+import java.util.List;
 import java.util.UUID;
 import org.onap.policy.models.decisions.concepts.DecisionException;
 import org.onap.policy.models.decisions.concepts.DecisionRequest;
@@ -47,13 +48,17 @@ import org.slf4j.LoggerFactory;
  *
  */
 @Path("/policy/pdpx/v1")
-@Produces({MediaType.APPLICATION_JSON, XacmlPdpRestController.APPLICATION_YAML})
-@Consumes({MediaType.APPLICATION_JSON, XacmlPdpRestController.APPLICATION_YAML})
-public class XacmlPdpRestController implements HealthcheckApi, StatisticsApi, DecisionApi, XacmlApi {
+@Produces({MediaType.APPLICATION_JSON, XacmlPdpRestController.APPLICATION_YAML,
+    XacmlPdpRestController.APPLICATION_CBOR})
+@Consumes({MediaType.APPLICATION_JSON, XacmlPdpRestController.APPLICATION_YAML,
+    XacmlPdpRestController.APPLICATION_CBOR})
+public class XacmlPdpRestController implements HealthcheckApi, StatisticsApi, DecisionApi, DecisionsApi, XacmlApi {
     private static final Logger LOGGER = LoggerFactory.getLogger(XacmlPdpRestController.class);
     public static final String APPLICATION_YAML = "application/yaml";
     public static final String APPLICATION_XACML_JSON = "application/xacml+json";
     public static final String APPLICATION_XACML_XML = "application/xacml+xml";
+    public static final String APPLICATION_CBOR = "application/cbor";
+    public static final String APPLICATION_XACML_CBOR = "application/xacml+cbor";
     @Context private HttpServletRequest request;
 
     @GET
@@ -103,6 +108,29 @@ public class XacmlPdpRestController implements HealthcheckApi, StatisticsApi, De
         }
     }
 
+    /**
+     * Our batch decision entry point.
+     *
+     * @param body Should be a list of DecisionRequest objects
+     * @param requestId Unique request id
+     * @return list of DecisionResponse or ErrorResponse object
+     */
+    @POST
+    @Path("/decisions")
+    @Override
+    public Response decisions(List<DecisionRequest> body, @HeaderParam("X-ONAP-RequestID") UUID requestId) {
+        try {
+            return addLoggingHeaders(addVersionControlHeaders(Response.status(Response.Status.OK)), requestId)
+                    .entity(new DecisionProvider().fetchDecisions(body, request.getParameterMap())).build();
+        } catch (DecisionException e) {
+            LOGGER.error("Decision exception", e);
+            XacmlPdpStatisticsManager.getCurrent().updateErrorCount();
+            return addLoggingHeaders(
+                    addVersionControlHeaders(Response.status((e.getErrorResponse().getResponseCode()))), requestId)
+                    .entity(e.getErrorResponse()).build();
+        }
+    }
+
     /**
      * Our native decision entry point.
      *
@@ -112,8 +140,10 @@ public class XacmlPdpRestController implements HealthcheckApi, StatisticsApi, De
      */
     @POST
     @Path("/xacml")
-    @Produces({XacmlPdpRestController.APPLICATION_XACML_JSON, XacmlPdpRestController.APPLICATION_XACML_XML})
-    @Consumes({XacmlPdpRestController.APPLICATION_XACML_JSON, XacmlPdpRestController.APPLICATION_XACML_XML})
+    @Produces({XacmlPdpRestController.APPLICATION_XACML_JSON, XacmlPdpRestController.APPLICATION_XACML_XML,
+        XacmlPdpRestController.APPLICATION_XACML_CBOR})
+    @Consumes({XacmlPdpRestController.APPLICATION_XACML_JSON, XacmlPdpRestController.APPLICATION_XACML_XML,
+        XacmlPdpRestController.APPLICATION_XACML_CBOR})
     @Override
     public Response xacml(Request body,
             @HeaderParam("X-ONAP-RequestID") UUID requestId) {
@@ -29,6 +29,7 @@ import lombok.Setter;
 import lombok.Synchronized;
 import org.onap.policy.common.utils.resources.PrometheusUtils;
 import org.onap.policy.models.pdp.enums.PdpResponseStatus;
+import org.onap.policy.pdp.xacml.application.common.std.StdDecisionCache;
 
 /**
  * Class to hold statistical data for xacmlPdp component.
@@ -60,6 +61,12 @@ public class XacmlPdpStatisticsManager {
             .help(POLICY_DECISIONS_HELP)
             .register();
 
+    protected static final Counter coalescedDecisionsCounter =
+        Counter.build().namespace(PROMETHEUS_NAMESPACE).name("coalesced_decisions")
+            .labelNames(APPLICATION)
+            .help("The number of decisions that shared the evaluation of an identical concurrent request.")
+            .register();
+
     private long totalPolicyTypesCount;
     private long totalPoliciesCount;
     private long errorCount;
@@ -71,6 +78,7 @@ public class XacmlPdpStatisticsManager {
     private long undeployFailureCount;
     private long indeterminantDecisionsCount;
     private long notApplicableDecisionsCount;
+    private long coalescedDecisionsCount;
     private final Map<String, Map<String, Integer>> applicationMetrics = new HashMap<>();
 
     /**
@@ -91,14 +99,11 @@ public class XacmlPdpStatisticsManager {
      */
     @Synchronized
     public void updateApplicationMetrics(String appName, String updateMethod) {
-        if (!applicationMetrics.containsKey(appName)) {
-            Map<String, Integer> appMap = new HashMap<>();
-            appMap.put(updateMethod, 1);
-            applicationMetrics.put(appName, appMap);
-        } else {
-            int newTotal = applicationMetrics.get(appName).getOrDefault(updateMethod, 0) + 1;
-            applicationMetrics.get(appName).put(updateMethod, newTotal);
-        }
+        updateApplicationMetrics(appName, updateMethod, 1);
+    }
+
+    private void updateApplicationMetrics(String appName, String updateMethod, int count) {
+        applicationMetrics.computeIfAbsent(appName, key -> new HashMap<>()).merge(updateMethod, count, Integer::sum);
     }
 
     /**
@@ -169,6 +174,49 @@ public class XacmlPdpStatisticsManager {
         ++notApplicableDecisionsCount;
     }
 
+    /**
+     * Method to update the number of decisions that were coalesced with an
+     * identical request already being evaluated.
+     */
+    @Synchronized
+    public void updateCoalescedDecisionsCount(String appName) {
+        coalescedDecisionsCounter.labels(appName).inc();
+        ++coalescedDecisionsCount;
+    }
+
+    /**
+     * Method to update the decision counts of a batch of decisions at once.
+     * The counts are keyed by application name and then by the decision
+     * operation, i.e. one of permit, deny, indeterminant or not_applicable.
+     *
+     * @param decisionCounts - the number of each kind of decision per application
+     * @param errors - the number of decisions in the batch that failed
+     */
+    @Synchronized
+    public void updateDecisionCounts(Map<String, Map<String, Integer>> decisionCounts, int errors) {
+        errorCount += errors;
+        decisionCounts.forEach((appName, counts) -> counts.forEach((operation, count) -> {
+            switch (operation) {
+                case PERMIT_OPERATION:
+                    permitDecisionsCount += count;
+                    break;
+                case DENY_OPERATION:
+                    denyDecisionsCount += count;
+                    break;
+                case INDETERMINANT_OPERATION:
+                    indeterminantDecisionsCount += count;
+                    break;
+                case NOT_APPLICABLE_OPERATION:
+                    notApplicableDecisionsCount += count;
+                    break;
+                default:
+                    return;
+            }
+            decisionsCounter.labels(appName, operation).inc(count);
+            updateApplicationMetrics(appName, operation + "_decisions_count", count);
+        }));
+    }
+
     /**
      * Method to update the number of successful deploys.
      */
@@ -225,6 +273,8 @@ public class XacmlPdpStatisticsManager {
         undeployFailureCount = 0L;
         indeterminantDecisionsCount = 0L;
         notApplicableDecisionsCount = 0L;
+        coalescedDecisionsCount = 0L;
         applicationMetrics.clear();
+        StdDecisionCache.resetTotals();
     }
 }
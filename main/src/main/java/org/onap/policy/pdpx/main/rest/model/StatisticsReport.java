@@ -46,5 +46,9 @@ public class StatisticsReport {
     private long undeployFailureCount;
     private long indeterminantDecisionsCount;
     private long notApplicableDecisionsCount;
+    private long coalescedDecisionsCount;
+    private long decisionCacheHitCount;
+    private long decisionCacheMissCount;
+    private long decisionCacheEvictionCount;
     private Map<String, Map<String, Integer>> applicationMetrics;
 }
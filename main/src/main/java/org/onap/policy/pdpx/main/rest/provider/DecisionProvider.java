@@ -21,15 +21,39 @@
 
 package org.onap.policy.pdpx.main.rest.provider;
 
+import com.att.research.xacml.api.Decision;
+import com.att.research.xacml.api.Identifier;
 import com.att.research.xacml.api.Request;
+import com.att.research.xacml.api.RequestAttributes;
 import com.att.research.xacml.api.Response;
 import com.att.research.xacml.api.Result;
+import com.att.research.xacml.std.StdIndividualDecisionRequestGenerator;
+import com.att.research.xacml.std.StdMutableResponse;
+import com.att.research.xacml.std.StdMutableResult;
+import com.att.research.xacml.std.StdStatus;
+import com.att.research.xacml.std.StdStatusCode;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 import org.apache.commons.lang3.tuple.Pair;
 import org.onap.policy.models.decisions.concepts.DecisionException;
 import org.onap.policy.models.decisions.concepts.DecisionRequest;
 import org.onap.policy.models.decisions.concepts.DecisionResponse;
 import org.onap.policy.pdp.xacml.application.common.XacmlApplicationServiceProvider;
+import org.onap.policy.pdp.xacml.application.common.std.StdDecisionCache;
 import org.onap.policy.pdpx.main.rest.XacmlPdpApplicationManager;
 import org.onap.policy.pdpx.main.rest.XacmlPdpStatisticsManager;
 import org.onap.policy.xacml.pdp.application.nativ.NativePdpApplication;
@@ -40,6 +64,20 @@ import org.slf4j.LoggerFactory;
 public class DecisionProvider {
     private static final Logger LOGGER = LoggerFactory.getLogger(DecisionProvider.class);
 
+    //
+    // Bounded pool shared by all batches. When it is saturated the
+    // calling thread evaluates the decision itself.
+    //
+    private static final int DECISION_THREADS = Runtime.getRuntime().availableProcessors();
+    private static final int DECISION_QUEUE_SIZE = DECISION_THREADS * 64;
+    private static final ExecutorService decisionExecutor = newDecisionExecutor();
+
+    //
+    // Decisions currently being made, keyed by application and canonical request
+    //
+    private static final ConcurrentMap<String, CompletableFuture<Pair<DecisionResponse, Response>>>
+            inFlightDecisions = new ConcurrentHashMap<>();
+
     /**
      * Retrieves the policy decision for the specified parameters.
      *
@@ -54,9 +92,10 @@ public class DecisionProvider {
         //
         XacmlApplicationServiceProvider application = findApplication(request);
         //
-        // Found application for action
+        // Found application for action, identical requests already
+        // being evaluated share their decision with this one.
         //
-        Pair<DecisionResponse, Response> decision = application.makeDecision(request, queryParams);
+        Pair<DecisionResponse, Response> decision = coalescedDecision(application, request, queryParams);
         //
         // Calculate statistics
         //
@@ -67,6 +106,42 @@ public class DecisionProvider {
         return decision.getKey();
     }
 
+    /**
+     * Retrieves the policy decisions for a batch of requests. Each request is routed to
+     * its application and the decisions are made in parallel. A request that fails does
+     * not fail the batch, its DecisionResponse has a status of "error" and a message
+     * explaining why.
+     *
+     * @param requests list of DecisionRequest
+     * @param queryParams Map of parameters, applied to every request
+     * @return list of DecisionResponse in the same order as the requests
+     */
+    public List<DecisionResponse> fetchDecisions(List<DecisionRequest> requests, Map<String, String[]> queryParams) {
+        if (requests == null || requests.isEmpty()) {
+            throw new DecisionException(jakarta.ws.rs.core.Response.Status.BAD_REQUEST,
+                    "No decision requests in batch");
+        }
+        LOGGER.debug("Fetching {} decisions", requests.size());
+        //
+        // Fan out the decisions, then calculate the statistics for the whole batch
+        //
+        List<BatchDecision> decisions = fanOut(requests, request -> batchDecision(request, queryParams));
+        List<DecisionResponse> responses = new ArrayList<>(requests.size());
+        Map<String, Map<String, Integer>> decisionCounts = new HashMap<>();
+        var errors = 0;
+        for (BatchDecision decision : decisions) {
+            if (decision.xacmlResponse == null) {
+                ++errors;
+            } else {
+                this.countStatistic(decision.xacmlResponse,
+                        decisionCounts.computeIfAbsent(decision.applicationName, key -> new HashMap<>()));
+            }
+            responses.add(decision.decisionResponse);
+        }
+        XacmlPdpStatisticsManager.getCurrent().updateDecisionCounts(decisionCounts, errors);
+        return responses;
+    }
+
     /**
      * Retrieves the policy decision for the native xacml request.
      *
@@ -78,11 +153,19 @@ public class DecisionProvider {
         //
         // Assign native request to native application directly
         //
-        XacmlApplicationServiceProvider nativeApp = findNativeApplication();
+        var nativeApp = (NativePdpApplication) findNativeApplication();
         //
-        // Make xacml decision
+        // Make xacml decision, a Multiple Decision Profile request is split into
+        // its individual requests and they are evaluated in parallel.
         //
-        Response decision = ((NativePdpApplication) nativeApp).makeNativeDecision(request);
+        Response decision;
+        List<Request> individualRequests = individualRequests(request);
+        if (individualRequests.size() > 1) {
+            LOGGER.debug("Fetching {} individual decisions", individualRequests.size());
+            decision = mergeResponses(fanOut(individualRequests, nativeApp::makeNativeDecision));
+        } else {
+            decision = nativeApp.makeNativeDecision(request);
+        }
         LOGGER.debug("Xacml decision {}", decision);
         //
         // Calculate statistics
@@ -94,6 +177,124 @@ public class DecisionProvider {
         return decision;
     }
 
+    /**
+     * Makes a decision, unless an identical request is already being evaluated by the
+     * application, in which case its decision is waited for and shared.
+     *
+     * @param application application making the decision
+     * @param request DecisionRequest
+     * @param queryParams Map of parameters
+     * @return the decision
+     */
+    private static Pair<DecisionResponse, Response> coalescedDecision(XacmlApplicationServiceProvider application,
+            DecisionRequest request, Map<String, String[]> queryParams) {
+        String key = application.applicationName() + ":" + StdDecisionCache.key(request, queryParams);
+        var future = new CompletableFuture<Pair<DecisionResponse, Response>>();
+        var inFlight = inFlightDecisions.putIfAbsent(key, future);
+        if (inFlight != null) {
+            LOGGER.debug("Coalescing decision {}", request.getRequestId());
+            XacmlPdpStatisticsManager.getCurrent().updateCoalescedDecisionsCount(application.applicationName());
+            try {
+                //
+                // Each waiter gets its own copy, as the decision cache does
+                //
+                Pair<DecisionResponse, Response> shared = inFlight.join();
+                return Pair.of(shared.getKey() == null ? null : StdDecisionCache.copy(shared.getKey()),
+                        shared.getValue());
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                if (e.getCause() instanceof Error error) {
+                    throw error;
+                }
+                throw e;
+            }
+        }
+        try {
+            Pair<DecisionResponse, Response> decision = application.makeDecision(request, queryParams);
+            future.complete(decision);
+            return decision;
+        } catch (Throwable e) {
+            //
+            // Waiters must never be left blocked, whatever the failure
+            //
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightDecisions.remove(key, future);
+        }
+    }
+
+    /**
+     * Splits a Multiple Decision Profile request into its individual requests. A request
+     * asking for a combined decision is left for the engine to evaluate as a whole.
+     *
+     * @param request the xacml request
+     * @return the individual requests, or the request itself if it is not a multiple request
+     */
+    private static List<Request> individualRequests(Request request) {
+        if (request.getCombinedDecision() || !isMultipleDecisionRequest(request)) {
+            return List.of(request);
+        }
+        List<Request> individualRequests = new ArrayList<>();
+        new StdIndividualDecisionRequestGenerator(request).getIndividualDecisionRequests()
+                .forEachRemaining(individualRequests::add);
+        return individualRequests;
+    }
+
+    private static boolean isMultipleDecisionRequest(Request request) {
+        //
+        // Either it references multiple requests or it repeats an attribute category
+        //
+        if (request.getMultiRequests() != null && !request.getMultiRequests().isEmpty()) {
+            return true;
+        }
+        Set<Identifier> categories = new HashSet<>();
+        for (RequestAttributes attributes : request.getRequestAttributes()) {
+            if (!categories.add(attributes.getCategory())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Response mergeResponses(List<Response> responses) {
+        var merged = new StdMutableResponse();
+        for (Response response : responses) {
+            if (response == null) {
+                merged.add(new StdMutableResult(Decision.INDETERMINATE,
+                        new StdStatus(StdStatusCode.STATUS_CODE_PROCESSING_ERROR, "Failed to make decision")));
+            } else {
+                response.getResults().forEach(merged::add);
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * Applies a function to each item in parallel on the decision executor. The last
+     * item is always handled by the calling thread.
+     *
+     * @param items items to apply the function to
+     * @param function function to apply
+     * @return the results in the same order as the items
+     */
+    private static <T, R> List<R> fanOut(List<T> items, Function<T, R> function) {
+        List<CompletableFuture<R>> futures = new ArrayList<>(items.size());
+        for (var index = 0; index < items.size() - 1; ++index) {
+            T item = items.get(index);
+            futures.add(CompletableFuture.supplyAsync(() -> function.apply(item), decisionExecutor));
+        }
+        futures.add(CompletableFuture.completedFuture(function.apply(items.get(items.size() - 1))));
+
+        List<R> results = new ArrayList<>(items.size());
+        for (CompletableFuture<R> future : futures) {
+            results.add(future.join());
+        }
+        return results;
+    }
+
     private XacmlApplicationServiceProvider findApplication(DecisionRequest request) {
         XacmlApplicationServiceProvider application = XacmlPdpApplicationManager.getCurrent().findApplication(request);
         if (application != null) {
@@ -112,6 +313,48 @@ public class DecisionProvider {
                 "Native PDP application cannot be found");
     }
 
+    private BatchDecision batchDecision(DecisionRequest request, Map<String, String[]> queryParams) {
+        if (request == null) {
+            return BatchDecision.error("Missing decision request");
+        }
+        try {
+            XacmlApplicationServiceProvider application = findApplication(request);
+            Pair<DecisionResponse, Response> decision = application.makeDecision(request, queryParams);
+            return new BatchDecision(application.applicationName(), decision.getKey(), decision.getValue());
+        } catch (DecisionException e) {
+            LOGGER.error("Decision exception for request {}", request.getRequestId(), e);
+            return BatchDecision.error(e.getErrorResponse().getErrorMessage());
+        } catch (RuntimeException e) {
+            LOGGER.error("Failed to make decision for request {}", request.getRequestId(), e);
+            return BatchDecision.error(e.getLocalizedMessage());
+        }
+    }
+
+    private void countStatistic(Response xacmlResponse, Map<String, Integer> counts) {
+        for (Result result : xacmlResponse.getResults()) {
+            switch (result.getDecision()) {
+                case PERMIT:
+                    counts.merge(XacmlPdpStatisticsManager.PERMIT_OPERATION, 1, Integer::sum);
+                    break;
+
+                case DENY:
+                    counts.merge(XacmlPdpStatisticsManager.DENY_OPERATION, 1, Integer::sum);
+                    break;
+
+                case INDETERMINATE, INDETERMINATE_DENY, INDETERMINATE_DENYPERMIT, INDETERMINATE_PERMIT:
+                    counts.merge(XacmlPdpStatisticsManager.INDETERMINANT_OPERATION, 1, Integer::sum);
+                    break;
+
+                case NOTAPPLICABLE:
+                    counts.merge(XacmlPdpStatisticsManager.NOT_APPLICABLE_OPERATION, 1, Integer::sum);
+                    break;
+
+                default:
+                    break;
+            }
+        }
+    }
+
     private void calculateStatistic(Response xacmlResponse, String appName) {
         if (xacmlResponse == null) {
             XacmlPdpStatisticsManager.getCurrent().updateErrorCount();
@@ -140,4 +383,38 @@ public class DecisionProvider {
             }
         }
     }
+
+    private static ExecutorService newDecisionExecutor() {
+        var threadCount = new AtomicInteger();
+        var executor = new ThreadPoolExecutor(DECISION_THREADS, DECISION_THREADS, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(DECISION_QUEUE_SIZE), runnable -> {
+                    var thread = new Thread(runnable, "pdpx-decision-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * The outcome of a single decision in a batch.
+     */
+    private static class BatchDecision {
+        private final String applicationName;
+        private final DecisionResponse decisionResponse;
+        private final Response xacmlResponse;
+
+        private BatchDecision(String applicationName, DecisionResponse decisionResponse, Response xacmlResponse) {
+            this.applicationName = applicationName;
+            this.decisionResponse = decisionResponse;
+            this.xacmlResponse = xacmlResponse;
+        }
+
+        private static BatchDecision error(String message) {
+            var response = new DecisionResponse();
+            response.setStatus("error");
+            response.setMessage(message);
+            return new BatchDecision(null, response, null);
+        }
+    }
 }
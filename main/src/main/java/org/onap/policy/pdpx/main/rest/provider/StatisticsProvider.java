@@ -20,6 +20,7 @@
 
 package org.onap.policy.pdpx.main.rest.provider;
 
+import org.onap.policy.pdp.xacml.application.common.std.StdDecisionCache;
 import org.onap.policy.pdpx.main.rest.XacmlPdpStatisticsManager;
 import org.onap.policy.pdpx.main.rest.model.StatisticsReport;
 import org.onap.policy.pdpx.main.startstop.XacmlPdpActivator;
@@ -51,7 +52,11 @@ public class StatisticsProvider {
         report.setUndeployFailureCount(stats.getUndeployFailureCount());
         report.setIndeterminantDecisionsCount(stats.getIndeterminantDecisionsCount());
         report.setNotApplicableDecisionsCount(stats.getNotApplicableDecisionsCount());
+        report.setCoalescedDecisionsCount(stats.getCoalescedDecisionsCount());
         report.setApplicationMetrics(stats.getApplicationMetrics());
+        report.setDecisionCacheHitCount(StdDecisionCache.getTotalHitCount());
+        report.setDecisionCacheMissCount(StdDecisionCache.getTotalMissCount());
+        report.setDecisionCacheEvictionCount(StdDecisionCache.getTotalEvictionCount());
         return report;
     }
 }
@@ -0,0 +1,95 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdpx.main.rest.serialization;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.ext.MessageBodyReader;
+import jakarta.ws.rs.ext.MessageBodyWriter;
+import jakarta.ws.rs.ext.Provider;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import org.onap.policy.common.gson.MapDoubleAdapterFactory;
+
+/**
+ * Provider that serializes and de-serializes objects as CBOR, with the same structure as
+ * their json. Meant for internal clients that make many decision requests, for which
+ * encoding and parsing json text is a large part of the cost of each request.
+ */
+@Provider
+@Consumes(CborMessageBodyHandler.APPLICATION_CBOR)
+@Produces(CborMessageBodyHandler.APPLICATION_CBOR)
+public class CborMessageBodyHandler implements MessageBodyReader<Object>, MessageBodyWriter<Object> {
+
+    public static final String APPLICATION_CBOR = "application/cbor";
+
+    private static final Gson gson =
+            new GsonBuilder().registerTypeAdapterFactory(new MapDoubleAdapterFactory()).create();
+
+    @Override
+    public boolean isWriteable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+        return canHandle(mediaType);
+    }
+
+    @Override
+    public void writeTo(Object object, Class<?> type, Type genericType, Annotation[] annotations,
+            MediaType mediaType, MultivaluedMap<String, Object> httpHeaders, OutputStream entityStream)
+                    throws IOException {
+
+        var writer = new CborWriter(entityStream);
+        gson.toJson(object, genericType, writer);
+        writer.flush();
+    }
+
+    @Override
+    public boolean isReadable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+        return canHandle(mediaType);
+    }
+
+    @Override
+    public Object readFrom(Class<Object> type, Type genericType, Annotation[] annotations, MediaType mediaType,
+            MultivaluedMap<String, String> httpHeaders, InputStream entityStream) throws IOException {
+
+        try {
+            return gson.fromJson(JsonParser.parseReader(new CborReader(entityStream)), genericType);
+        } catch (JsonParseException | IllegalStateException | NumberFormatException exc) {
+            throw new IOException("failed to decode incoming cbor request", exc);
+        }
+    }
+
+    /**
+     * Determines if this provider can handle the given media type.
+     * @param mediaType the media type of interest
+     * @return {@code true} if this provider handles the given media type, {@code false} otherwise
+     */
+    private boolean canHandle(MediaType mediaType) {
+        return mediaType != null && "cbor".equals(mediaType.getSubtype());
+    }
+}
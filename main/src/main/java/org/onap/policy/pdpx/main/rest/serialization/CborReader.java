@@ -0,0 +1,456 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdpx.main.rest.serialization;
+
+import static org.onap.policy.pdpx.main.rest.serialization.CborWriter.BREAK;
+import static org.onap.policy.pdpx.main.rest.serialization.CborWriter.INDEFINITE;
+import static org.onap.policy.pdpx.main.rest.serialization.CborWriter.MAJOR_ARRAY;
+import static org.onap.policy.pdpx.main.rest.serialization.CborWriter.MAJOR_BYTES;
+import static org.onap.policy.pdpx.main.rest.serialization.CborWriter.MAJOR_MAP;
+import static org.onap.policy.pdpx.main.rest.serialization.CborWriter.MAJOR_NEGATIVE;
+import static org.onap.policy.pdpx.main.rest.serialization.CborWriter.MAJOR_SIMPLE;
+import static org.onap.policy.pdpx.main.rest.serialization.CborWriter.MAJOR_TAG;
+import static org.onap.policy.pdpx.main.rest.serialization.CborWriter.MAJOR_TEXT;
+import static org.onap.policy.pdpx.main.rest.serialization.CborWriter.MAJOR_UNSIGNED;
+import static org.onap.policy.pdpx.main.rest.serialization.CborWriter.TAG_NEGATIVE_BIGNUM;
+import static org.onap.policy.pdpx.main.rest.serialization.CborWriter.TAG_POSITIVE_BIGNUM;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.MalformedJsonException;
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Reads CBOR (RFC 8949) in place of json text, so that anything read through a
+ * {@link JsonReader} can be decoded from CBOR. Only the json data model is supported: text
+ * keys, and no byte strings or tags other than big numbers. Gson reads maps through the
+ * internals of {@link JsonReader}, so objects are decoded by gson from the tree returned by
+ * {@link com.google.gson.JsonParser#parseReader(JsonReader)} rather than from this reader.
+ */
+final class CborReader extends JsonReader {
+    private static final int SIMPLE_FALSE = 20;
+    private static final int SIMPLE_TRUE = 21;
+    private static final int SIMPLE_NULL = 22;
+    private static final int SIMPLE_UNDEFINED = 23;
+    private static final int FLOAT16 = 25;
+    private static final int FLOAT32 = 26;
+    private static final int FLOAT64 = 27;
+    //
+    // Deeper than any xacml request or decision, and bounds the recursion of anything that walks the tree
+    //
+    static final int MAX_DEPTH = 255;
+
+    private final DataInputStream in;
+
+    private static final class Container {
+        private final boolean map;
+        //
+        // Items left, counting names and values separately, or -1 for indefinite lengths
+        //
+        private long remaining;
+        private boolean expectName;
+
+        private Container(boolean map, long length) {
+            this.map = map;
+            this.remaining = length < 0 ? -1 : (map ? 2 * length : length);
+            this.expectName = map;
+        }
+    }
+
+    private final Deque<Container> stack = new ArrayDeque<>();
+
+    //
+    // The next token, with its scalar value or container length, once it has been peeked
+    //
+    private JsonToken peeked;
+    private Object peekedValue;
+    private long peekedLength;
+
+    /**
+     * Constructs the object.
+     *
+     * @param inputStream stream from which the CBOR is read
+     */
+    CborReader(InputStream inputStream) {
+        super(Reader.nullReader());
+        this.in = new DataInputStream(new BufferedInputStream(inputStream));
+    }
+
+    @Override
+    public void beginArray() throws IOException {
+        expect(JsonToken.BEGIN_ARRAY);
+        checkDepth();
+        consumed();
+        stack.push(new Container(false, peekedLength));
+    }
+
+    @Override
+    public void endArray() throws IOException {
+        expect(JsonToken.END_ARRAY);
+        stack.pop();
+        peeked = null;
+    }
+
+    @Override
+    public void beginObject() throws IOException {
+        expect(JsonToken.BEGIN_OBJECT);
+        checkDepth();
+        consumed();
+        stack.push(new Container(true, peekedLength));
+    }
+
+    @Override
+    public void endObject() throws IOException {
+        expect(JsonToken.END_OBJECT);
+        stack.pop();
+        peeked = null;
+    }
+
+    private void checkDepth() throws MalformedJsonException {
+        if (stack.size() >= MAX_DEPTH) {
+            throw new MalformedJsonException("CBOR nested deeper than " + MAX_DEPTH);
+        }
+    }
+
+    @Override
+    public boolean hasNext() throws IOException {
+        var token = peek();
+        return token != JsonToken.END_ARRAY && token != JsonToken.END_OBJECT && token != JsonToken.END_DOCUMENT;
+    }
+
+    @Override
+    public JsonToken peek() throws IOException {
+        if (peeked != null) {
+            return peeked;
+        }
+        var container = stack.peek();
+        if (container != null && container.remaining == 0) {
+            peeked = container.map ? JsonToken.END_OBJECT : JsonToken.END_ARRAY;
+            return peeked;
+        }
+        int head = in.read();
+        if (head < 0) {
+            if (container != null) {
+                throw new EOFException("end of CBOR input inside an array or map");
+            }
+            peeked = JsonToken.END_DOCUMENT;
+            return peeked;
+        }
+        if (head == BREAK) {
+            if (container == null || container.remaining >= 0 || (container.map && !container.expectName)) {
+                throw new MalformedJsonException("unexpected CBOR break");
+            }
+            peeked = container.map ? JsonToken.END_OBJECT : JsonToken.END_ARRAY;
+            return peeked;
+        }
+        peeked = readItem(head);
+        if (container != null && container.map && container.expectName) {
+            if (peeked != JsonToken.STRING) {
+                throw new MalformedJsonException("CBOR map keys must be text");
+            }
+            peeked = JsonToken.NAME;
+        }
+        return peeked;
+    }
+
+    private JsonToken readItem(int head) throws IOException {
+        int major = head >>> 5;
+        int info = head & 0x1f;
+        switch (major) {
+            case MAJOR_UNSIGNED:
+                peekedValue = toUnsigned(readArgument(info));
+                return JsonToken.NUMBER;
+            case MAJOR_NEGATIVE:
+                peekedValue = toUnsigned(readArgument(info)).negate().subtract(BigInteger.ONE);
+                return JsonToken.NUMBER;
+            case MAJOR_TEXT:
+                peekedValue = new String(readChunks(major, info), StandardCharsets.UTF_8);
+                return JsonToken.STRING;
+            case MAJOR_ARRAY:
+                peekedLength = info == INDEFINITE ? -1 : readLength(info);
+                return JsonToken.BEGIN_ARRAY;
+            case MAJOR_MAP:
+                peekedLength = info == INDEFINITE ? -1 : readLength(info);
+                return JsonToken.BEGIN_OBJECT;
+            case MAJOR_TAG:
+                return readTagged(readArgument(info));
+            case MAJOR_SIMPLE:
+                return readSimple(info);
+            default:
+                throw new MalformedJsonException("CBOR byte strings are not supported");
+        }
+    }
+
+    private JsonToken readTagged(long firstTag) throws IOException {
+        long tag = firstTag;
+        int head = in.readUnsignedByte();
+        while (tag != TAG_POSITIVE_BIGNUM && tag != TAG_NEGATIVE_BIGNUM) {
+            //
+            // Other tags only add meaning to the item that follows, which may be tagged again
+            //
+            if (head >>> 5 != MAJOR_TAG) {
+                return readItem(head);
+            }
+            tag = readArgument(head & 0x1f);
+            head = in.readUnsignedByte();
+        }
+        if (head >>> 5 != MAJOR_BYTES) {
+            throw new MalformedJsonException("CBOR big number must be a byte string");
+        }
+        var magnitude = new BigInteger(1, readChunks(MAJOR_BYTES, head & 0x1f));
+        peekedValue = tag == TAG_POSITIVE_BIGNUM ? magnitude : magnitude.negate().subtract(BigInteger.ONE);
+        return JsonToken.NUMBER;
+    }
+
+    private JsonToken readSimple(int info) throws IOException {
+        switch (info) {
+            case SIMPLE_FALSE, SIMPLE_TRUE:
+                peekedValue = info == SIMPLE_TRUE;
+                return JsonToken.BOOLEAN;
+            case SIMPLE_NULL, SIMPLE_UNDEFINED:
+                peekedValue = null;
+                return JsonToken.NULL;
+            case FLOAT16:
+                peekedValue = toDouble(in.readUnsignedShort());
+                return JsonToken.NUMBER;
+            case FLOAT32:
+                peekedValue = (double) Float.intBitsToFloat(in.readInt());
+                return JsonToken.NUMBER;
+            case FLOAT64:
+                peekedValue = Double.longBitsToDouble(in.readLong());
+                return JsonToken.NUMBER;
+            default:
+                throw new MalformedJsonException("unsupported CBOR simple value " + info);
+        }
+    }
+
+    private byte[] readChunks(int major, int info) throws IOException {
+        if (info != INDEFINITE) {
+            return readBytes(readLength(info));
+        }
+        var bytes = new ByteArrayOutputStream();
+        for (int head = in.readUnsignedByte(); head != BREAK; head = in.readUnsignedByte()) {
+            if (head >>> 5 != major || (head & 0x1f) == INDEFINITE) {
+                throw new MalformedJsonException("invalid CBOR string chunk");
+            }
+            bytes.write(readBytes(readLength(head & 0x1f)));
+        }
+        return bytes.toByteArray();
+    }
+
+    private byte[] readBytes(long length) throws IOException {
+        byte[] bytes = in.readNBytes((int) length);
+        if (bytes.length != length) {
+            throw new EOFException("end of CBOR input inside a string");
+        }
+        return bytes;
+    }
+
+    private long readLength(int info) throws IOException {
+        //
+        // Lengths of 2^63 or more read as negative, and no string or container can be that long
+        //
+        long length = readArgument(info);
+        if (length < 0 || length > Integer.MAX_VALUE) {
+            throw new MalformedJsonException("CBOR length too large");
+        }
+        return length;
+    }
+
+    private long readArgument(int info) throws IOException {
+        if (info < 24) {
+            return info;
+        }
+        return switch (info) {
+            case 24 -> in.readUnsignedByte();
+            case 25 -> in.readUnsignedShort();
+            case 26 -> Integer.toUnsignedLong(in.readInt());
+            case 27 -> in.readLong();
+            default -> throw new MalformedJsonException("invalid CBOR argument " + info);
+        };
+    }
+
+    private static double toDouble(int half) {
+        int exponent = (half >>> 10) & 0x1f;
+        int mantissa = half & 0x3ff;
+        double value;
+        if (exponent == 0) {
+            value = Math.scalb((double) mantissa, -24);
+        } else if (exponent == 0x1f) {
+            value = mantissa == 0 ? Double.POSITIVE_INFINITY : Double.NaN;
+        } else {
+            value = Math.scalb((double) (mantissa | 0x400), exponent - 25);
+        }
+        return (half & 0x8000) == 0 ? value : -value;
+    }
+
+    private static BigInteger toUnsigned(long value) {
+        return value >= 0 ? BigInteger.valueOf(value) : new BigInteger(Long.toUnsignedString(value));
+    }
+
+    @Override
+    public String nextName() throws IOException {
+        expect(JsonToken.NAME);
+        consumed();
+        return (String) peekedValue;
+    }
+
+    @Override
+    public String nextString() throws IOException {
+        var token = peek();
+        if (token != JsonToken.STRING && token != JsonToken.NUMBER) {
+            throw unexpected(JsonToken.STRING);
+        }
+        consumed();
+        return peekedValue.toString();
+    }
+
+    @Override
+    public boolean nextBoolean() throws IOException {
+        expect(JsonToken.BOOLEAN);
+        consumed();
+        return (Boolean) peekedValue;
+    }
+
+    @Override
+    public void nextNull() throws IOException {
+        expect(JsonToken.NULL);
+        consumed();
+    }
+
+    @Override
+    public double nextDouble() throws IOException {
+        var token = peek();
+        if (token == JsonToken.STRING) {
+            var value = Double.parseDouble((String) peekedValue);
+            consumed();
+            return value;
+        }
+        expect(JsonToken.NUMBER);
+        consumed();
+        return ((Number) peekedValue).doubleValue();
+    }
+
+    @Override
+    public long nextLong() throws IOException {
+        var token = peek();
+        if (token != JsonToken.STRING && token != JsonToken.NUMBER) {
+            throw unexpected(JsonToken.NUMBER);
+        }
+        long value;
+        try {
+            value = (peekedValue instanceof Double number ? new BigDecimal(number).toBigIntegerExact()
+                : new BigInteger(peekedValue.toString())).longValueExact();
+        } catch (ArithmeticException | NumberFormatException e) {
+            throw new NumberFormatException("expected a long but was " + peekedValue);
+        }
+        consumed();
+        return value;
+    }
+
+    @Override
+    public int nextInt() throws IOException {
+        long value = nextLong();
+        if (value != (int) value) {
+            throw new NumberFormatException("expected an int but was " + value);
+        }
+        return (int) value;
+    }
+
+    @Override
+    public void skipValue() throws IOException {
+        switch (peek()) {
+            case BEGIN_ARRAY:
+                beginArray();
+                while (hasNext()) {
+                    skipValue();
+                }
+                endArray();
+                break;
+            case BEGIN_OBJECT:
+                beginObject();
+                while (hasNext()) {
+                    nextName();
+                    skipValue();
+                }
+                endObject();
+                break;
+            case END_ARRAY, END_OBJECT, END_DOCUMENT:
+                break;
+            default:
+                consumed();
+                break;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    @Override
+    public String getPath() {
+        return "$";
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName();
+    }
+
+    private void expect(JsonToken expected) throws IOException {
+        if (peek() != expected) {
+            throw unexpected(expected);
+        }
+    }
+
+    private IllegalStateException unexpected(JsonToken expected) {
+        return new IllegalStateException("expected " + expected + " but was " + peeked);
+    }
+
+    /**
+     * Marks the peeked item as read, counting it against its array or map.
+     */
+    private void consumed() {
+        peeked = null;
+        var container = stack.peek();
+        if (container == null) {
+            return;
+        }
+        if (container.remaining > 0) {
+            container.remaining--;
+        }
+        if (container.map) {
+            container.expectName = !container.expectName;
+        }
+    }
+}
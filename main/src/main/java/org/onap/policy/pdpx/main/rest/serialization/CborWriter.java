@@ -0,0 +1,262 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdpx.main.rest.serialization;
+
+import com.google.gson.stream.JsonWriter;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes CBOR (RFC 8949) in place of json text, so that anything written through gson, or
+ * through a {@link JsonWriter}, can be encoded as CBOR. Arrays and objects are written with
+ * indefinite lengths, as their sizes are not known in advance.
+ */
+final class CborWriter extends JsonWriter {
+    static final int MAJOR_UNSIGNED = 0;
+    static final int MAJOR_NEGATIVE = 1;
+    static final int MAJOR_BYTES = 2;
+    static final int MAJOR_TEXT = 3;
+    static final int MAJOR_ARRAY = 4;
+    static final int MAJOR_MAP = 5;
+    static final int MAJOR_TAG = 6;
+    static final int MAJOR_SIMPLE = 7;
+
+    static final int FALSE = 0xf4;
+    static final int TRUE = 0xf5;
+    static final int NULL = 0xf6;
+    static final int FLOAT64 = 0xfb;
+    static final int BREAK = 0xff;
+    static final int INDEFINITE = 31;
+
+    static final int TAG_POSITIVE_BIGNUM = 2;
+    static final int TAG_NEGATIVE_BIGNUM = 3;
+
+    private final DataOutputStream out;
+
+    //
+    // Names are held back until their value is written, so that null values can be dropped
+    // along with their names, as they are in json
+    //
+    private String pendingName;
+
+    /**
+     * Constructs the object.
+     *
+     * @param outputStream stream to which the CBOR is written
+     */
+    CborWriter(OutputStream outputStream) {
+        super(Writer.nullWriter());
+        this.out = new DataOutputStream(new BufferedOutputStream(outputStream));
+    }
+
+    @Override
+    public JsonWriter beginArray() throws IOException {
+        writePendingName();
+        out.writeByte((MAJOR_ARRAY << 5) | INDEFINITE);
+        return this;
+    }
+
+    @Override
+    public JsonWriter endArray() throws IOException {
+        out.writeByte(BREAK);
+        return this;
+    }
+
+    @Override
+    public JsonWriter beginObject() throws IOException {
+        writePendingName();
+        out.writeByte((MAJOR_MAP << 5) | INDEFINITE);
+        return this;
+    }
+
+    @Override
+    public JsonWriter endObject() throws IOException {
+        out.writeByte(BREAK);
+        return this;
+    }
+
+    @Override
+    public JsonWriter name(String name) throws IOException {
+        if (name == null) {
+            throw new NullPointerException("name == null");
+        }
+        if (pendingName != null) {
+            throw new IllegalStateException("name " + pendingName + " has no value");
+        }
+        pendingName = name;
+        return this;
+    }
+
+    @Override
+    public JsonWriter value(String value) throws IOException {
+        if (value == null) {
+            return nullValue();
+        }
+        writePendingName();
+        writeText(value);
+        return this;
+    }
+
+    @Override
+    public JsonWriter jsonValue(String value) throws IOException {
+        throw new UnsupportedOperationException("json text cannot be written as CBOR");
+    }
+
+    @Override
+    public JsonWriter nullValue() throws IOException {
+        if (pendingName != null && !getSerializeNulls()) {
+            pendingName = null;
+            return this;
+        }
+        writePendingName();
+        out.writeByte(NULL);
+        return this;
+    }
+
+    @Override
+    public JsonWriter value(boolean value) throws IOException {
+        writePendingName();
+        out.writeByte(value ? TRUE : FALSE);
+        return this;
+    }
+
+    @Override
+    public JsonWriter value(Boolean value) throws IOException {
+        return value == null ? nullValue() : value(value.booleanValue());
+    }
+
+    @Override
+    public JsonWriter value(float value) throws IOException {
+        return value((double) value);
+    }
+
+    @Override
+    public JsonWriter value(double value) throws IOException {
+        writePendingName();
+        out.writeByte(FLOAT64);
+        out.writeDouble(value);
+        return this;
+    }
+
+    @Override
+    public JsonWriter value(long value) throws IOException {
+        writePendingName();
+        if (value >= 0) {
+            writeHead(MAJOR_UNSIGNED, value);
+        } else {
+            writeHead(MAJOR_NEGATIVE, -1 - value);
+        }
+        return this;
+    }
+
+    @Override
+    public JsonWriter value(Number value) throws IOException {
+        if (value == null) {
+            return nullValue();
+        }
+        if (value instanceof Double || value instanceof Float || value instanceof BigDecimal) {
+            return value(value.doubleValue());
+        }
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return value(value.longValue());
+        }
+        if (value instanceof BigInteger bigInteger) {
+            return value(bigInteger);
+        }
+        //
+        // Lazily parsed numbers and the like
+        //
+        String text = value.toString();
+        try {
+            return value(new BigInteger(text));
+        } catch (NumberFormatException e) {
+            return value(Double.parseDouble(text));
+        }
+    }
+
+    private JsonWriter value(BigInteger value) throws IOException {
+        if (value.bitLength() < Long.SIZE) {
+            return value(value.longValue());
+        }
+        writePendingName();
+        var negative = value.signum() < 0;
+        byte[] magnitude = (negative ? BigInteger.ONE.negate().subtract(value) : value).toByteArray();
+        writeHead(MAJOR_TAG, negative ? TAG_NEGATIVE_BIGNUM : TAG_POSITIVE_BIGNUM);
+        writeHead(MAJOR_BYTES, magnitude.length);
+        out.write(magnitude);
+        return this;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+
+    private void writePendingName() throws IOException {
+        if (pendingName != null) {
+            writeText(pendingName);
+            pendingName = null;
+        }
+    }
+
+    private void writeText(String text) throws IOException {
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        writeHead(MAJOR_TEXT, bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Writes the head of a data item, with its argument in the fewest bytes.
+     *
+     * @param major the major type
+     * @param argument the argument, treated as unsigned
+     * @throws IOException if the head cannot be written
+     */
+    private void writeHead(int major, long argument) throws IOException {
+        int type = major << 5;
+        if (argument >= 0 && argument < 24) {
+            out.writeByte(type | (int) argument);
+        } else if (argument >= 0 && argument <= 0xff) {
+            out.writeByte(type | 24);
+            out.writeByte((int) argument);
+        } else if (argument >= 0 && argument <= 0xffff) {
+            out.writeByte(type | 25);
+            out.writeShort((int) argument);
+        } else if (argument >= 0 && argument <= 0xffffffffL) {
+            out.writeByte(type | 26);
+            out.writeInt((int) argument);
+        } else {
+            out.writeByte(type | 27);
+            out.writeLong(argument);
+        }
+    }
+}
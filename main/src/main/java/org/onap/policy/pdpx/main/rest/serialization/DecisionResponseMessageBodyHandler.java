@@ -0,0 +1,109 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdpx.main.rest.serialization;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.ext.MessageBodyWriter;
+import jakarta.ws.rs.ext.Provider;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Map.Entry;
+import org.onap.policy.common.gson.MapDoubleAdapterFactory;
+import org.onap.policy.models.decisions.concepts.DecisionResponse;
+import org.onap.policy.pdp.xacml.application.common.RenderedPolicy;
+
+/**
+ * Provider that writes decision responses as json. The policies of the response that were
+ * rendered when they were deployed are copied to the output as is, everything else is
+ * encoded as it would be by the standard json provider.
+ */
+@Provider
+@Produces(MediaType.APPLICATION_JSON)
+public class DecisionResponseMessageBodyHandler implements MessageBodyWriter<DecisionResponse> {
+
+    private static final String POLICIES = "policies";
+
+    private static final Gson gson =
+            new GsonBuilder().registerTypeAdapterFactory(new MapDoubleAdapterFactory()).create();
+
+    @Override
+    public boolean isWriteable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+        return mediaType != null && "json".equals(mediaType.getSubtype())
+            && DecisionResponse.class.isAssignableFrom(type);
+    }
+
+    @Override
+    public void writeTo(DecisionResponse response, Class<?> type, Type genericType, Annotation[] annotations,
+            MediaType mediaType, MultivaluedMap<String, Object> httpHeaders, OutputStream entityStream)
+                    throws IOException {
+        //
+        // Encode everything but the policies
+        //
+        var envelope = new DecisionResponse();
+        envelope.setStatus(response.getStatus());
+        envelope.setMessage(response.getMessage());
+        envelope.setAdvice(response.getAdvice());
+        envelope.setObligations(response.getObligations());
+        envelope.setAttributes(response.getAttributes());
+        envelope.setPolicies(null);
+        String json = gson.toJson(envelope);
+        Map<String, Object> policies = response.getPolicies();
+        if (policies == null) {
+            write(entityStream, json);
+            return;
+        }
+        //
+        // Then append the policies before the closing brace
+        //
+        String head = json.substring(0, json.lastIndexOf('}')).trim();
+        write(entityStream, head);
+        if (!"{".equals(head)) {
+            write(entityStream, ",");
+        }
+        write(entityStream, gson.toJson(POLICIES) + ":{");
+        var first = true;
+        for (Entry<String, Object> entry : policies.entrySet()) {
+            if (!first) {
+                write(entityStream, ",");
+            }
+            first = false;
+            write(entityStream, gson.toJson(entry.getKey()) + ":");
+            if (entry.getValue() instanceof RenderedPolicy renderedPolicy) {
+                renderedPolicy.writeTo(entityStream);
+            } else {
+                write(entityStream, gson.toJson(entry.getValue()));
+            }
+        }
+        write(entityStream, "}}");
+    }
+
+    private static void write(OutputStream outputStream, String text) throws IOException {
+        outputStream.write(text.getBytes(StandardCharsets.UTF_8));
+    }
+}
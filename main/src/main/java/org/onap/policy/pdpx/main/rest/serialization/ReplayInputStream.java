@@ -0,0 +1,109 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdpx.main.rest.serialization;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+
+/**
+ * Stream that keeps a copy of what has been read of a request, so that a request the
+ * streaming readers give up on can be read again by the standard translators. The streaming
+ * readers give up on the first element they do not handle, so usually only the start of a
+ * request is kept; the rest is read from the request itself when it is replayed.
+ */
+class ReplayInputStream extends FilterInputStream {
+    private final Consumed consumed = new Consumed();
+
+    /**
+     * The bytes read so far, replayed without copying them again.
+     */
+    private static class Consumed extends ByteArrayOutputStream {
+        InputStream toInputStream() {
+            return new ByteArrayInputStream(buf, 0, count);
+        }
+    }
+
+    /**
+     * Constructs the object.
+     *
+     * @param in the request
+     */
+    ReplayInputStream(InputStream in) {
+        super(in);
+    }
+
+    @Override
+    public int read() throws IOException {
+        int value = super.read();
+        if (value >= 0) {
+            consumed.write(value);
+        }
+        return value;
+    }
+
+    @Override
+    public int read(byte[] bytes, int offset, int length) throws IOException {
+        int count = super.read(bytes, offset, length);
+        if (count > 0) {
+            consumed.write(bytes, offset, count);
+        }
+        return count;
+    }
+
+    @Override
+    public long skip(long length) throws IOException {
+        //
+        // Skipped bytes are read, so that they are replayed too
+        //
+        var bytes = new byte[(int) Math.min(length, 8192)];
+        int count = read(bytes, 0, bytes.length);
+        return Math.max(count, 0);
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    @Override
+    public synchronized void mark(int readlimit) {
+        // not supported
+    }
+
+    @Override
+    public synchronized void reset() throws IOException {
+        throw new IOException("mark/reset not supported");
+    }
+
+    /**
+     * Gets the request from its start: the bytes read so far followed by the rest of the
+     * request. This stream must no longer be read afterwards.
+     *
+     * @return the whole request
+     */
+    InputStream replay() {
+        return new SequenceInputStream(consumed.toInputStream(), in);
+    }
+}
@@ -0,0 +1,128 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdpx.main.rest.serialization;
+
+import com.att.research.xacml.api.Request;
+import com.att.research.xacml.api.Response;
+import com.att.research.xacml.std.json.JsonRequestTranslator;
+import com.att.research.xacml.std.json.JsonResponseTranslator;
+import com.google.gson.Gson;
+import com.google.gson.JsonParser;
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.ext.MessageBodyReader;
+import jakarta.ws.rs.ext.MessageBodyWriter;
+import jakarta.ws.rs.ext.Provider;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Provider that serializes and de-serializes xacml requests and responses as CBOR, with the
+ * structure of the json profile of xacml.
+ */
+@Provider
+@Consumes(XacmlCborMessageBodyHandler.APPLICATION_XACML_CBOR)
+@Produces(XacmlCborMessageBodyHandler.APPLICATION_XACML_CBOR)
+public class XacmlCborMessageBodyHandler implements MessageBodyReader<Request>, MessageBodyWriter<Response> {
+
+    public static final String APPLICATION_XACML_CBOR = "application/xacml+cbor";
+
+    private static final Gson gson = new Gson();
+
+    @Override
+    public boolean isWriteable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+        return canHandle(mediaType, type);
+    }
+
+    @Override
+    public void writeTo(Response response, Class<?> type, Type genericType, Annotation[] annotations,
+            MediaType mediaType, MultivaluedMap<String, Object> httpHeaders, OutputStream entityStream)
+                    throws IOException {
+
+        var writer = new CborWriter(entityStream);
+        try {
+            if (XacmlJsonStreaming.canWrite(response)) {
+                XacmlJsonStreaming.writeResponse(response, writer);
+            } else {
+                gson.toJson(JsonParser.parseString(JsonResponseTranslator.toString(response, false)), writer);
+                writer.flush();
+            }
+        } catch (Exception exc) {
+            throw new IOException("failed to write a cbor response", exc);
+        }
+    }
+
+    @Override
+    public boolean isReadable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+        return canHandle(mediaType, type);
+    }
+
+    @Override
+    public Request readFrom(Class<Request> type, Type genericType, Annotation[] annotations, MediaType mediaType,
+            MultivaluedMap<String, String> httpHeaders, InputStream entityStream) throws IOException {
+
+        var stream = new ReplayInputStream(entityStream);
+        Request request = readStreaming(stream);
+        if (request != null) {
+            return request;
+        }
+
+        //
+        // Let the standard translator handle the rest of the json profile, and report errors
+        //
+        try {
+            String json = JsonParser.parseReader(new CborReader(stream.replay())).toString();
+            return JsonRequestTranslator.load(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+        } catch (Exception exc) {
+            throw new IOException("failed to decode incoming request to a cbor request", exc);
+        }
+    }
+
+    private static Request readStreaming(InputStream stream) {
+        try {
+            return XacmlJsonStreaming.readRequest(new CborReader(stream));
+        } catch (Exception exc) {
+            return null;
+        }
+    }
+
+    /**
+     * Determines if this provider can handle the given media type.
+     * @param mediaType the media type of interest
+     * @param type the class type of the object to read/write
+     * @return {@code true} if this provider handles the given media type and class type
+     *         {@code false} otherwise
+     */
+    private boolean canHandle(MediaType mediaType, Class<?> type) {
+        if (mediaType == null) {
+            return false;
+        }
+        return ("xacml+cbor".equals(mediaType.getSubtype()))
+                && (Request.class.isAssignableFrom(type) || Response.class.isAssignableFrom(type));
+    }
+}
@@ -0,0 +1,159 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdpx.main.rest.serialization;
+
+import com.att.research.xacml.api.Attribute;
+import com.att.research.xacml.api.AttributeAssignment;
+import com.att.research.xacml.api.AttributeCategory;
+import com.att.research.xacml.api.AttributeValue;
+import com.att.research.xacml.api.DataType;
+import com.att.research.xacml.api.DataTypeException;
+import com.att.research.xacml.api.DataTypeFactory;
+import com.att.research.xacml.api.Decision;
+import com.att.research.xacml.api.Identifier;
+import com.att.research.xacml.api.Response;
+import com.att.research.xacml.api.Result;
+import com.att.research.xacml.api.XACML3;
+import com.att.research.xacml.util.FactoryException;
+import java.util.Collection;
+import java.util.stream.Stream;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Data type support shared by the streaming xml and json translators.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class XacmlDataTypes {
+    private static final Logger LOGGER = LoggerFactory.getLogger(XacmlDataTypes.class);
+
+    private static final DataTypeFactory dataTypeFactory = newDataTypeFactory();
+
+    private static DataTypeFactory newDataTypeFactory() {
+        try {
+            return DataTypeFactory.newInstance();
+        } catch (FactoryException e) {
+            LOGGER.error("Cannot create data type factory, streaming translation is disabled", e);
+            return null;
+        }
+    }
+
+    /**
+     * Gets a data type.
+     *
+     * @param dataTypeId the data type id
+     * @return the data type, or {@code null} if it is unknown
+     */
+    static DataType<?> getDataType(Identifier dataTypeId) {
+        return dataTypeFactory == null ? null : dataTypeFactory.getDataType(dataTypeId);
+    }
+
+    /**
+     * Determines if a data type is the xpath expression type, whose values depend on the
+     * surrounding document.
+     *
+     * @param dataTypeId the data type id
+     * @return {@code true} if the data type is the xpath expression type
+     */
+    static boolean isXPathExpression(Identifier dataTypeId) {
+        return XACML3.ID_DATATYPE_XPATHEXPRESSION.equals(dataTypeId);
+    }
+
+    /**
+     * Converts an attribute value to its string form.
+     *
+     * @param value the value
+     * @return the string form of the value
+     * @throws DataTypeException if the value cannot be converted
+     */
+    @SuppressWarnings("unchecked")
+    static String toStringValue(AttributeValue<?> value) throws DataTypeException {
+        var dataType = (DataType<Object>) getDataType(value.getDataTypeId());
+        return dataType == null ? String.valueOf(value.getValue()) : dataType.toStringValue(value.getValue());
+    }
+
+    /**
+     * Gets the text of a decision. The extended indeterminate decisions are reported as
+     * indeterminate, as in the xacml schema.
+     *
+     * @param decision the decision
+     * @return the text of the decision
+     */
+    static String toDecision(Decision decision) {
+        return switch (decision) {
+            case PERMIT -> "Permit";
+            case DENY -> "Deny";
+            case NOTAPPLICABLE -> "NotApplicable";
+            default -> "Indeterminate";
+        };
+    }
+
+    /**
+     * Determines if a response can be written by the streaming translators, which do not
+     * handle status details or xpath expressions.
+     *
+     * @param response the response
+     * @return {@code true} if the response can be written
+     */
+    static boolean canWrite(Response response) {
+        if (dataTypeFactory == null) {
+            return false;
+        }
+        for (Result result : response.getResults()) {
+            if (result.getStatus() != null && result.getStatus().getStatusDetail() != null) {
+                return false;
+            }
+            if (!canWriteAssignments(result.getObligations().stream()
+                    .flatMap(obligation -> obligation.getAttributeAssignments().stream()))
+                || !canWriteAssignments(result.getAssociatedAdvice().stream()
+                    .flatMap(advice -> advice.getAttributeAssignments().stream()))
+                || !canWriteAttributes(result.getAttributes())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean canWriteAssignments(Stream<AttributeAssignment> assignments) {
+        return assignments.map(AttributeAssignment::getAttributeValue)
+            .noneMatch(value -> isXPathExpression(value.getDataTypeId()));
+    }
+
+    private static boolean canWriteAttributes(Collection<AttributeCategory> categories) {
+        if (categories == null) {
+            return true;
+        }
+        for (AttributeCategory category : categories) {
+            for (Attribute attribute : category.getAttributes()) {
+                //
+                // The json profile has a single data type for all of the values of an attribute
+                //
+                var dataTypeIds = attribute.getValues().stream().map(AttributeValue::getDataTypeId).distinct().toList();
+                if (dataTypeIds.size() > 1 || dataTypeIds.stream().anyMatch(XacmlDataTypes::isXPathExpression)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+}
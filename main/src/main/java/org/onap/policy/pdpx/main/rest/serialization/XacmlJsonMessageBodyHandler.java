@@ -62,8 +62,17 @@ public class XacmlJsonMessageBodyHandler implements MessageBodyReader<Request>,
             MediaType mediaType, MultivaluedMap<String, Object> httpHeaders, OutputStream entityStream)
                     throws IOException {
 
+        if (XacmlJsonStreaming.canWrite(response)) {
+            try {
+                XacmlJsonStreaming.writeResponse(response, entityStream);
+            } catch (Exception exc) {
+                throw new IOException("failed to write a json response", exc);
+            }
+            return;
+        }
+
         try (var writer = new OutputStreamWriter(entityStream, StandardCharsets.UTF_8)) {
-            writer.write(JsonResponseTranslator.toString(response, true));
+            writer.write(JsonResponseTranslator.toString(response, false));
         } catch (Exception exc) {
             throw new IOException("failed to convert a json response to a string");
         }
@@ -78,15 +87,31 @@ public class XacmlJsonMessageBodyHandler implements MessageBodyReader<Request>,
     public Request readFrom(Class<Request> type, Type genericType, Annotation[] annotations, MediaType mediaType,
             MultivaluedMap<String, String> httpHeaders, InputStream entityStream) throws IOException {
 
-        Request jsonRequest = null;
+        var stream = new ReplayInputStream(entityStream);
+        Request jsonRequest = readStreaming(stream);
+        if (jsonRequest != null) {
+            return jsonRequest;
+        }
+
         try {
-            jsonRequest = JsonRequestTranslator.load(entityStream);
+            jsonRequest = JsonRequestTranslator.load(stream.replay());
         } catch (Exception exc) {
             throw new IOException("failed to decode incoming request string to a json request");
         }
         return jsonRequest;
     }
 
+    private static Request readStreaming(InputStream stream) {
+        try {
+            return XacmlJsonStreaming.readRequest(stream);
+        } catch (Exception exc) {
+            //
+            // Let the standard translator report the error
+            //
+            return null;
+        }
+    }
+
     /**
      * Determines if this provider can handle the given media type.
      * @param mediaType the media type of interest
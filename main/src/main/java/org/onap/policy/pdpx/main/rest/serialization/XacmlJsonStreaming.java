@@ -0,0 +1,499 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdpx.main.rest.serialization;
+
+import com.att.research.xacml.api.Attribute;
+import com.att.research.xacml.api.AttributeAssignment;
+import com.att.research.xacml.api.AttributeCategory;
+import com.att.research.xacml.api.AttributeValue;
+import com.att.research.xacml.api.DataTypeException;
+import com.att.research.xacml.api.IdReference;
+import com.att.research.xacml.api.Identifier;
+import com.att.research.xacml.api.Request;
+import com.att.research.xacml.api.Response;
+import com.att.research.xacml.api.Result;
+import com.att.research.xacml.api.StatusCode;
+import com.att.research.xacml.api.XACML3;
+import com.att.research.xacml.std.IdentifierImpl;
+import com.att.research.xacml.std.StdMutableAttribute;
+import com.att.research.xacml.std.StdMutableRequest;
+import com.att.research.xacml.std.StdMutableRequestAttributes;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * Reads xacml requests from, and writes xacml responses to, json streams, following the json
+ * profile of xacml, without building a document tree. Only the parts of the profile used by
+ * ordinary requests and responses are handled, the callers fall back to the standard json
+ * translators for anything else.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class XacmlJsonStreaming {
+    private static final String VALUE = "Value";
+
+    //
+    // Shorthand category and data type names from the json profile
+    //
+    private static final Map<String, Identifier> CATEGORIES = Map.of(
+        "AccessSubject", XACML3.ID_SUBJECT_CATEGORY_ACCESS_SUBJECT,
+        "Action", XACML3.ID_ATTRIBUTE_CATEGORY_ACTION,
+        "Resource", XACML3.ID_ATTRIBUTE_CATEGORY_RESOURCE,
+        "Environment", XACML3.ID_ATTRIBUTE_CATEGORY_ENVIRONMENT,
+        "RecipientSubject", new IdentifierImpl("urn:oasis:names:tc:xacml:1.0:subject-category:recipient-subject"),
+        "IntermediarySubject",
+            new IdentifierImpl("urn:oasis:names:tc:xacml:1.0:subject-category:intermediary-subject"),
+        "Codebase", new IdentifierImpl("urn:oasis:names:tc:xacml:1.0:subject-category:codebase"),
+        "RequestingMachine", new IdentifierImpl("urn:oasis:names:tc:xacml:1.0:subject-category:requesting-machine"));
+
+    private static final Map<String, Identifier> DATA_TYPES = Map.ofEntries(
+        Map.entry("string", XACML3.ID_DATATYPE_STRING),
+        Map.entry("boolean", XACML3.ID_DATATYPE_BOOLEAN),
+        Map.entry("integer", XACML3.ID_DATATYPE_INTEGER),
+        Map.entry("double", XACML3.ID_DATATYPE_DOUBLE),
+        Map.entry("time", XACML3.ID_DATATYPE_TIME),
+        Map.entry("date", XACML3.ID_DATATYPE_DATE),
+        Map.entry("dateTime", XACML3.ID_DATATYPE_DATETIME),
+        Map.entry("dayTimeDuration", XACML3.ID_DATATYPE_DAYTIMEDURATION),
+        Map.entry("yearMonthDuration", XACML3.ID_DATATYPE_YEARMONTHDURATION),
+        Map.entry("anyURI", XACML3.ID_DATATYPE_ANYURI),
+        Map.entry("hexBinary", XACML3.ID_DATATYPE_HEXBINARY),
+        Map.entry("base64Binary", XACML3.ID_DATATYPE_BASE64BINARY),
+        Map.entry("rfc822Name", XACML3.ID_DATATYPE_RFC822NAME),
+        Map.entry("x500Name", XACML3.ID_DATATYPE_X500NAME),
+        Map.entry("ipAddress", XACML3.ID_DATATYPE_IPADDRESS),
+        Map.entry("dnsName", XACML3.ID_DATATYPE_DNSNAME));
+
+    private record JsonValue(JsonToken token, String text) {
+        Identifier inferDataType() {
+            if (token == JsonToken.BOOLEAN) {
+                return XACML3.ID_DATATYPE_BOOLEAN;
+            }
+            if (token == JsonToken.NUMBER) {
+                return text.contains(".") || text.contains("e") || text.contains("E") ? XACML3.ID_DATATYPE_DOUBLE
+                    : XACML3.ID_DATATYPE_INTEGER;
+            }
+            return XACML3.ID_DATATYPE_STRING;
+        }
+    }
+
+    /**
+     * Reads a request.
+     *
+     * @param inputStream stream containing the request
+     * @return the request, or {@code null} if it uses parts of the profile that are not handled
+     * @throws IOException if the request is not well formed
+     * @throws DataTypeException if an attribute value does not match its data type
+     */
+    static Request readRequest(InputStream inputStream) throws IOException, DataTypeException {
+        return readRequest(new JsonReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Reads a request.
+     *
+     * @param reader reader positioned at the start of the request
+     * @return the request, or {@code null} if it uses parts of the profile that are not handled
+     * @throws IOException if the request is not well formed
+     * @throws DataTypeException if an attribute value does not match its data type
+     */
+    static Request readRequest(JsonReader reader) throws IOException, DataTypeException {
+        reader.beginObject();
+        if (!reader.hasNext() || !"Request".equals(reader.nextName())) {
+            return null;
+        }
+        var request = new StdMutableRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+            if ("ReturnPolicyIdList".equals(name)) {
+                request.setReturnPolicyIdList(reader.nextBoolean());
+            } else if ("CombinedDecision".equals(name)) {
+                request.setCombinedDecision(reader.nextBoolean());
+            } else if ("Category".equals(name) || CATEGORIES.containsKey(name)) {
+                if (!readCategories(reader, CATEGORIES.get(name), request)) {
+                    return null;
+                }
+            } else {
+                //
+                // MultiRequests, XPathVersion and anything unknown
+                //
+                return null;
+            }
+        }
+        reader.endObject();
+        if (reader.hasNext()) {
+            return null;
+        }
+        reader.endObject();
+        return request;
+    }
+
+    private static boolean readCategories(JsonReader reader, Identifier category, StdMutableRequest request)
+        throws IOException, DataTypeException {
+        //
+        // Either a single category object or an array of them
+        //
+        if (reader.peek() != JsonToken.BEGIN_ARRAY) {
+            var requestAttributes = readCategory(reader, category);
+            if (requestAttributes == null) {
+                return false;
+            }
+            request.add(requestAttributes);
+            return true;
+        }
+        reader.beginArray();
+        while (reader.hasNext()) {
+            var requestAttributes = readCategory(reader, category);
+            if (requestAttributes == null) {
+                return false;
+            }
+            request.add(requestAttributes);
+        }
+        reader.endArray();
+        return true;
+    }
+
+    private static StdMutableRequestAttributes readCategory(JsonReader reader, Identifier category)
+        throws IOException, DataTypeException {
+        var requestAttributes = new StdMutableRequestAttributes();
+        requestAttributes.setCategory(category);
+        var attributes = new ArrayList<StdMutableAttribute>();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+            if ("CategoryId".equals(name)) {
+                requestAttributes.setCategory(toIdentifier(reader.nextString(), CATEGORIES));
+            } else if ("Id".equals(name)) {
+                requestAttributes.setXmlId(reader.nextString());
+            } else if ("Attribute".equals(name)) {
+                if (!readAttributes(reader, attributes)) {
+                    return null;
+                }
+            } else {
+                //
+                // Content is xml, which is left to the standard translator
+                //
+                return null;
+            }
+        }
+        reader.endObject();
+        if (requestAttributes.getCategory() == null) {
+            return null;
+        }
+        for (StdMutableAttribute attribute : attributes) {
+            attribute.setCategory(requestAttributes.getCategory());
+            requestAttributes.add(attribute);
+        }
+        return requestAttributes;
+    }
+
+    private static boolean readAttributes(JsonReader reader, List<StdMutableAttribute> attributes)
+        throws IOException, DataTypeException {
+        if (reader.peek() != JsonToken.BEGIN_ARRAY) {
+            var attribute = readAttribute(reader);
+            return attribute != null && attributes.add(attribute);
+        }
+        reader.beginArray();
+        while (reader.hasNext()) {
+            var attribute = readAttribute(reader);
+            if (attribute == null) {
+                return false;
+            }
+            attributes.add(attribute);
+        }
+        reader.endArray();
+        return true;
+    }
+
+    private static StdMutableAttribute readAttribute(JsonReader reader) throws IOException, DataTypeException {
+        var attribute = new StdMutableAttribute();
+        List<JsonValue> values = null;
+        Identifier dataTypeId = null;
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+            switch (name) {
+                case "AttributeId" -> attribute.setAttributeId(new IdentifierImpl(reader.nextString()));
+                case "Issuer" -> attribute.setIssuer(reader.nextString());
+                case "IncludeInResult" -> attribute.setIncludeInResults(reader.nextBoolean());
+                case "DataType" -> dataTypeId = toIdentifier(reader.nextString(), DATA_TYPES);
+                case VALUE -> values = readValues(reader);
+                default -> {
+                    return null;
+                }
+            }
+        }
+        reader.endObject();
+        //
+        // Short attribute ids are left to the standard translator, as are values that are
+        // objects or of mixed json types
+        //
+        if (attribute.getAttributeId() == null || !attribute.getAttributeId().stringValue().contains(":")
+            || values == null || values.isEmpty() || values.stream().map(JsonValue::token).distinct().count() > 1) {
+            return null;
+        }
+        if (dataTypeId == null) {
+            dataTypeId = values.get(0).inferDataType();
+        }
+        var dataType = XacmlDataTypes.getDataType(dataTypeId);
+        if (dataType == null || XacmlDataTypes.isXPathExpression(dataTypeId)) {
+            return null;
+        }
+        for (JsonValue value : values) {
+            attribute.addValue(dataType.createAttributeValue(value.text()));
+        }
+        return attribute;
+    }
+
+    private static List<JsonValue> readValues(JsonReader reader) throws IOException {
+        List<JsonValue> values = new ArrayList<>();
+        if (reader.peek() != JsonToken.BEGIN_ARRAY) {
+            var value = readValue(reader);
+            return value == null ? null : List.of(value);
+        }
+        reader.beginArray();
+        while (reader.hasNext()) {
+            var value = readValue(reader);
+            if (value == null) {
+                return null;
+            }
+            values.add(value);
+        }
+        reader.endArray();
+        return values;
+    }
+
+    private static JsonValue readValue(JsonReader reader) throws IOException {
+        var token = reader.peek();
+        return switch (token) {
+            case STRING, NUMBER -> new JsonValue(token, reader.nextString());
+            case BOOLEAN -> new JsonValue(token, String.valueOf(reader.nextBoolean()));
+            default -> null;
+        };
+    }
+
+    private static Identifier toIdentifier(String value, Map<String, Identifier> shorthand) {
+        var identifier = shorthand.get(value);
+        return identifier != null ? identifier : new IdentifierImpl(value);
+    }
+
+    /**
+     * Determines if a response can be written by {@link #writeResponse(Response, OutputStream)}.
+     *
+     * @param response the response
+     * @return {@code true} if the response can be written
+     */
+    static boolean canWrite(Response response) {
+        return XacmlDataTypes.canWrite(response);
+    }
+
+    /**
+     * Writes a response.
+     *
+     * @param response the response
+     * @param outputStream stream to write to
+     * @throws IOException if the response cannot be written
+     * @throws DataTypeException if an attribute value cannot be converted to a string
+     */
+    static void writeResponse(Response response, OutputStream outputStream) throws IOException, DataTypeException {
+        writeResponse(response, new JsonWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Writes a response.
+     *
+     * @param response the response
+     * @param writer writer to which the response is written, and then flushed
+     * @throws IOException if the response cannot be written
+     * @throws DataTypeException if an attribute value cannot be converted to a string
+     */
+    static void writeResponse(Response response, JsonWriter writer) throws IOException, DataTypeException {
+        writer.beginObject().name("Response").beginArray();
+        for (Result result : response.getResults()) {
+            writer.beginObject();
+            writeResult(writer, result);
+            writer.endObject();
+        }
+        writer.endArray().endObject();
+        writer.flush();
+    }
+
+    private static void writeResult(JsonWriter writer, Result result) throws IOException, DataTypeException {
+        if (result.getDecision() != null) {
+            writer.name("Decision").value(XacmlDataTypes.toDecision(result.getDecision()));
+        }
+        if (result.getStatus() != null) {
+            writer.name("Status").beginObject();
+            if (result.getStatus().getStatusCode() != null) {
+                writer.name("StatusCode");
+                writeStatusCode(writer, result.getStatus().getStatusCode());
+            }
+            if (result.getStatus().getStatusMessage() != null) {
+                writer.name("StatusMessage").value(result.getStatus().getStatusMessage());
+            }
+            writer.endObject();
+        }
+        if (result.getObligations() != null && !result.getObligations().isEmpty()) {
+            writer.name("Obligations").beginArray();
+            for (var obligation : result.getObligations()) {
+                writer.beginObject().name("Id").value(obligation.getId().stringValue());
+                writeAssignments(writer, obligation.getAttributeAssignments());
+                writer.endObject();
+            }
+            writer.endArray();
+        }
+        if (result.getAssociatedAdvice() != null && !result.getAssociatedAdvice().isEmpty()) {
+            writer.name("AssociatedAdvice").beginArray();
+            for (var advice : result.getAssociatedAdvice()) {
+                writer.beginObject().name("Id").value(advice.getId().stringValue());
+                writeAssignments(writer, advice.getAttributeAssignments());
+                writer.endObject();
+            }
+            writer.endArray();
+        }
+        if (result.getAttributes() != null && !result.getAttributes().isEmpty()) {
+            writer.name("Category").beginArray();
+            for (AttributeCategory category : result.getAttributes()) {
+                writer.beginObject().name("CategoryId").value(category.getCategory().stringValue());
+                writer.name("Attribute").beginArray();
+                for (Attribute attribute : category.getAttributes()) {
+                    writeAttribute(writer, attribute);
+                }
+                writer.endArray().endObject();
+            }
+            writer.endArray();
+        }
+        writePolicyIdentifiers(writer, result.getPolicyIdentifiers(), result.getPolicySetIdentifiers());
+    }
+
+    private static void writeStatusCode(JsonWriter writer, StatusCode statusCode) throws IOException {
+        writer.beginObject().name(VALUE).value(statusCode.getStatusCodeValue().stringValue());
+        if (statusCode.getChild() != null) {
+            writer.name("StatusCode");
+            writeStatusCode(writer, statusCode.getChild());
+        }
+        writer.endObject();
+    }
+
+    private static void writeAssignments(JsonWriter writer, Collection<AttributeAssignment> assignments)
+        throws IOException, DataTypeException {
+        if (assignments == null || assignments.isEmpty()) {
+            return;
+        }
+        writer.name("AttributeAssignment").beginArray();
+        for (AttributeAssignment assignment : assignments) {
+            writer.beginObject().name("AttributeId").value(assignment.getAttributeId().stringValue());
+            if (assignment.getCategory() != null) {
+                writer.name("Category").value(assignment.getCategory().stringValue());
+            }
+            if (assignment.getIssuer() != null) {
+                writer.name("Issuer").value(assignment.getIssuer());
+            }
+            writer.name("DataType").value(assignment.getAttributeValue().getDataTypeId().stringValue());
+            writer.name(VALUE);
+            writeValue(writer, assignment.getAttributeValue());
+            writer.endObject();
+        }
+        writer.endArray();
+    }
+
+    private static void writeAttribute(JsonWriter writer, Attribute attribute) throws IOException, DataTypeException {
+        writer.beginObject().name("AttributeId").value(attribute.getAttributeId().stringValue());
+        writer.name("IncludeInResult").value(attribute.getIncludeInResults());
+        if (attribute.getIssuer() != null) {
+            writer.name("Issuer").value(attribute.getIssuer());
+        }
+        Collection<AttributeValue<?>> values = attribute.getValues();
+        if (!values.isEmpty()) {
+            writer.name("DataType").value(values.iterator().next().getDataTypeId().stringValue());
+            writer.name(VALUE);
+            if (values.size() == 1) {
+                writeValue(writer, values.iterator().next());
+            } else {
+                writer.beginArray();
+                for (AttributeValue<?> value : values) {
+                    writeValue(writer, value);
+                }
+                writer.endArray();
+            }
+        }
+        writer.endObject();
+    }
+
+    private static void writeValue(JsonWriter writer, AttributeValue<?> value) throws IOException, DataTypeException {
+        String text = XacmlDataTypes.toStringValue(value);
+        var dataTypeId = value.getDataTypeId();
+        if (XACML3.ID_DATATYPE_BOOLEAN.equals(dataTypeId)) {
+            writer.value(Boolean.parseBoolean(text));
+        } else if (XACML3.ID_DATATYPE_INTEGER.equals(dataTypeId) && value.getValue() instanceof BigInteger number) {
+            writer.value(number);
+        } else if (XACML3.ID_DATATYPE_DOUBLE.equals(dataTypeId) && value.getValue() instanceof Double number
+            && Double.isFinite(number)) {
+            writer.value(number.doubleValue());
+        } else {
+            writer.value(text);
+        }
+    }
+
+    private static void writePolicyIdentifiers(JsonWriter writer, Collection<IdReference> policies,
+        Collection<IdReference> policySets) throws IOException {
+        var hasPolicies = policies != null && !policies.isEmpty();
+        var hasPolicySets = policySets != null && !policySets.isEmpty();
+        if (!hasPolicies && !hasPolicySets) {
+            return;
+        }
+        writer.name("PolicyIdentifierList").beginObject();
+        if (hasPolicies) {
+            writeIdReferences(writer, "PolicyIdReference", policies);
+        }
+        if (hasPolicySets) {
+            writeIdReferences(writer, "PolicySetIdReference", policySets);
+        }
+        writer.endObject();
+    }
+
+    private static void writeIdReferences(JsonWriter writer, String name, Collection<IdReference> references)
+        throws IOException {
+        writer.name(name).beginArray();
+        for (IdReference reference : references) {
+            writer.beginObject().name("Id").value(reference.getId().stringValue());
+            if (reference.getVersion() != null) {
+                writer.name("Version").value(reference.getVersion().stringValue());
+            }
+            writer.endObject();
+        }
+        writer.endArray();
+    }
+}
@@ -63,8 +63,17 @@ public class XacmlXmlMessageBodyHandler implements MessageBodyReader<Request>, M
             MediaType mediaType, MultivaluedMap<String, Object> httpHeaders, OutputStream entityStream)
                     throws IOException {
 
+        if (XacmlXmlStreaming.canWrite(response)) {
+            try {
+                XacmlXmlStreaming.writeResponse(response, entityStream);
+            } catch (Exception exc) {
+                throw new IOException("failed to write an xml response", exc);
+            }
+            return;
+        }
+
         try (var writer = new OutputStreamWriter(entityStream, StandardCharsets.UTF_8)) {
-            writer.write(DOMResponse.toString(response, true));
+            writer.write(DOMResponse.toString(response, false));
         } catch (Exception exc) {
             throw new IOException("failed to convert a dom response to a string");
         }
@@ -79,13 +88,30 @@ public class XacmlXmlMessageBodyHandler implements MessageBodyReader<Request>, M
     public Request readFrom(Class<Request> type, Type genericType, Annotation[] annotations, MediaType mediaType,
             MultivaluedMap<String, String> httpHeaders, InputStream entityStream) throws IOException {
 
+        var stream = new ReplayInputStream(entityStream);
+        Request request = readStreaming(stream);
+        if (request != null) {
+            return request;
+        }
+
         try {
-            return DOMRequest.load(entityStream);
+            return DOMRequest.load(stream.replay());
         } catch (DOMStructureException e) {
             throw new IOException("failed to decode incoming request string to a dom request");
         }
     }
 
+    private static Request readStreaming(InputStream stream) {
+        try {
+            return XacmlXmlStreaming.readRequest(stream);
+        } catch (Exception exc) {
+            //
+            // Let the DOM translator report the error
+            //
+            return null;
+        }
+    }
+
     /**
      * Determines if this provider can handle the given media type.
      * @param mediaType the media type of interest
@@ -0,0 +1,333 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdpx.main.rest.serialization;
+
+import com.att.research.xacml.api.Advice;
+import com.att.research.xacml.api.Attribute;
+import com.att.research.xacml.api.AttributeAssignment;
+import com.att.research.xacml.api.AttributeCategory;
+import com.att.research.xacml.api.AttributeValue;
+import com.att.research.xacml.api.DataTypeException;
+import com.att.research.xacml.api.IdReference;
+import com.att.research.xacml.api.Obligation;
+import com.att.research.xacml.api.Request;
+import com.att.research.xacml.api.Response;
+import com.att.research.xacml.api.Result;
+import com.att.research.xacml.api.StatusCode;
+import com.att.research.xacml.std.IdentifierImpl;
+import com.att.research.xacml.std.StdMutableAttribute;
+import com.att.research.xacml.std.StdMutableRequest;
+import com.att.research.xacml.std.StdMutableRequestAttributes;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import javax.xml.XMLConstants;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * Reads xacml requests from, and writes xacml responses to, xml streams without building a
+ * DOM. Only the parts of the xacml schema used by ordinary requests and responses are
+ * handled, the callers fall back to the DOM translators for anything else.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class XacmlXmlStreaming {
+    static final String XACML3_NAMESPACE = "urn:oasis:names:tc:xacml:3.0:core:schema:wd-17";
+
+    private static final XMLInputFactory inputFactory = XMLInputFactory.newFactory();
+    private static final XMLOutputFactory outputFactory = XMLOutputFactory.newFactory();
+
+    static {
+        inputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        inputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        inputFactory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, true);
+    }
+
+    /**
+     * Reads a request.
+     *
+     * @param inputStream stream containing the request
+     * @return the request, or {@code null} if it uses parts of the schema that are not handled
+     * @throws XMLStreamException if the request is not well formed
+     * @throws DataTypeException if an attribute value does not match its data type
+     */
+    static Request readRequest(InputStream inputStream) throws XMLStreamException, DataTypeException {
+        XMLStreamReader reader = inputFactory.createXMLStreamReader(inputStream);
+        try {
+            reader.nextTag();
+            if (!isXacml(reader, "Request")) {
+                return null;
+            }
+            var request = new StdMutableRequest();
+            String returnPolicyIdList = reader.getAttributeValue(null, "ReturnPolicyIdList");
+            String combinedDecision = reader.getAttributeValue(null, "CombinedDecision");
+            if (returnPolicyIdList == null || combinedDecision == null) {
+                return null;
+            }
+            request.setReturnPolicyIdList(Boolean.parseBoolean(returnPolicyIdList));
+            request.setCombinedDecision(Boolean.parseBoolean(combinedDecision));
+            while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+                if (!isXacml(reader, "Attributes")) {
+                    return null;
+                }
+                var requestAttributes = readAttributes(reader);
+                if (requestAttributes == null) {
+                    return null;
+                }
+                request.add(requestAttributes);
+            }
+            return request;
+        } finally {
+            reader.close();
+        }
+    }
+
+    private static StdMutableRequestAttributes readAttributes(XMLStreamReader reader)
+        throws XMLStreamException, DataTypeException {
+        String category = reader.getAttributeValue(null, "Category");
+        if (category == null) {
+            return null;
+        }
+        var requestAttributes = new StdMutableRequestAttributes();
+        requestAttributes.setCategory(new IdentifierImpl(category));
+        requestAttributes.setXmlId(reader.getAttributeValue(XMLConstants.XML_NS_URI, "id"));
+        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            //
+            // Content holds arbitrary xml, which is left to the DOM translator
+            //
+            if (!isXacml(reader, "Attribute")) {
+                return null;
+            }
+            String attributeId = reader.getAttributeValue(null, "AttributeId");
+            String includeInResult = reader.getAttributeValue(null, "IncludeInResult");
+            if (attributeId == null || includeInResult == null) {
+                return null;
+            }
+            var attribute = new StdMutableAttribute();
+            attribute.setCategory(requestAttributes.getCategory());
+            attribute.setAttributeId(new IdentifierImpl(attributeId));
+            attribute.setIssuer(reader.getAttributeValue(null, "Issuer"));
+            attribute.setIncludeInResults(Boolean.parseBoolean(includeInResult));
+            while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+                var value = readAttributeValue(reader);
+                if (value == null) {
+                    return null;
+                }
+                attribute.addValue(value);
+            }
+            requestAttributes.add(attribute);
+        }
+        return requestAttributes;
+    }
+
+    private static AttributeValue<?> readAttributeValue(XMLStreamReader reader)
+        throws XMLStreamException, DataTypeException {
+        if (!isXacml(reader, "AttributeValue")) {
+            return null;
+        }
+        String dataTypeId = reader.getAttributeValue(null, "DataType");
+        var dataType = dataTypeId == null ? null : XacmlDataTypes.getDataType(new IdentifierImpl(dataTypeId));
+        if (dataType == null || XacmlDataTypes.isXPathExpression(dataType.getId())) {
+            return null;
+        }
+        //
+        // Fails on any nested elements, which are left to the DOM translator
+        //
+        return dataType.createAttributeValue(reader.getElementText());
+    }
+
+    private static boolean isXacml(XMLStreamReader reader, String localName) {
+        return XACML3_NAMESPACE.equals(reader.getNamespaceURI()) && localName.equals(reader.getLocalName());
+    }
+
+    /**
+     * Determines if a response can be written by {@link #writeResponse(Response, OutputStream)}.
+     *
+     * @param response the response
+     * @return {@code true} if the response can be written
+     */
+    static boolean canWrite(Response response) {
+        return XacmlDataTypes.canWrite(response);
+    }
+
+    /**
+     * Writes a response.
+     *
+     * @param response the response
+     * @param outputStream stream to write to
+     * @throws XMLStreamException if the response cannot be written
+     * @throws DataTypeException if an attribute value cannot be converted to a string
+     */
+    static void writeResponse(Response response, OutputStream outputStream)
+        throws XMLStreamException, DataTypeException {
+        XMLStreamWriter writer = outputFactory.createXMLStreamWriter(outputStream, StandardCharsets.UTF_8.name());
+        writer.writeStartDocument(StandardCharsets.UTF_8.name(), "1.0");
+        writer.setDefaultNamespace(XACML3_NAMESPACE);
+        writer.writeStartElement(XACML3_NAMESPACE, "Response");
+        writer.writeDefaultNamespace(XACML3_NAMESPACE);
+        for (Result result : response.getResults()) {
+            writer.writeStartElement(XACML3_NAMESPACE, "Result");
+            writeResult(writer, result);
+            writer.writeEndElement();
+        }
+        writer.writeEndElement();
+        writer.writeEndDocument();
+        writer.flush();
+        writer.close();
+    }
+
+    private static void writeResult(XMLStreamWriter writer, Result result)
+        throws XMLStreamException, DataTypeException {
+        if (result.getDecision() != null) {
+            writeText(writer, "Decision", XacmlDataTypes.toDecision(result.getDecision()));
+        }
+        if (result.getStatus() != null) {
+            writer.writeStartElement(XACML3_NAMESPACE, "Status");
+            writeStatusCode(writer, result.getStatus().getStatusCode());
+            if (result.getStatus().getStatusMessage() != null) {
+                writeText(writer, "StatusMessage", result.getStatus().getStatusMessage());
+            }
+            writer.writeEndElement();
+        }
+        Collection<Obligation> obligations = result.getObligations();
+        if (obligations != null && !obligations.isEmpty()) {
+            writer.writeStartElement(XACML3_NAMESPACE, "Obligations");
+            for (Obligation obligation : obligations) {
+                writer.writeStartElement(XACML3_NAMESPACE, "Obligation");
+                writer.writeAttribute("ObligationId", obligation.getId().stringValue());
+                writeAssignments(writer, obligation.getAttributeAssignments());
+                writer.writeEndElement();
+            }
+            writer.writeEndElement();
+        }
+        Collection<Advice> associatedAdvice = result.getAssociatedAdvice();
+        if (associatedAdvice != null && !associatedAdvice.isEmpty()) {
+            writer.writeStartElement(XACML3_NAMESPACE, "AssociatedAdvice");
+            for (Advice advice : associatedAdvice) {
+                writer.writeStartElement(XACML3_NAMESPACE, "Advice");
+                writer.writeAttribute("AdviceId", advice.getId().stringValue());
+                writeAssignments(writer, advice.getAttributeAssignments());
+                writer.writeEndElement();
+            }
+            writer.writeEndElement();
+        }
+        if (result.getAttributes() != null) {
+            for (AttributeCategory category : result.getAttributes()) {
+                writer.writeStartElement(XACML3_NAMESPACE, "Attributes");
+                writer.writeAttribute("Category", category.getCategory().stringValue());
+                for (Attribute attribute : category.getAttributes()) {
+                    writeAttribute(writer, attribute);
+                }
+                writer.writeEndElement();
+            }
+        }
+        writePolicyIdentifiers(writer, result.getPolicyIdentifiers(), result.getPolicySetIdentifiers());
+    }
+
+    private static void writeStatusCode(XMLStreamWriter writer, StatusCode statusCode) throws XMLStreamException {
+        if (statusCode == null) {
+            return;
+        }
+        writer.writeStartElement(XACML3_NAMESPACE, "StatusCode");
+        writer.writeAttribute("Value", statusCode.getStatusCodeValue().stringValue());
+        writeStatusCode(writer, statusCode.getChild());
+        writer.writeEndElement();
+    }
+
+    private static void writeAssignments(XMLStreamWriter writer, Collection<AttributeAssignment> assignments)
+        throws XMLStreamException, DataTypeException {
+        if (assignments == null) {
+            return;
+        }
+        for (AttributeAssignment assignment : assignments) {
+            writer.writeStartElement(XACML3_NAMESPACE, "AttributeAssignment");
+            writer.writeAttribute("AttributeId", assignment.getAttributeId().stringValue());
+            if (assignment.getCategory() != null) {
+                writer.writeAttribute("Category", assignment.getCategory().stringValue());
+            }
+            if (assignment.getIssuer() != null) {
+                writer.writeAttribute("Issuer", assignment.getIssuer());
+            }
+            writer.writeAttribute("DataType", assignment.getAttributeValue().getDataTypeId().stringValue());
+            writer.writeCharacters(XacmlDataTypes.toStringValue(assignment.getAttributeValue()));
+            writer.writeEndElement();
+        }
+    }
+
+    private static void writeAttribute(XMLStreamWriter writer, Attribute attribute)
+        throws XMLStreamException, DataTypeException {
+        writer.writeStartElement(XACML3_NAMESPACE, "Attribute");
+        writer.writeAttribute("AttributeId", attribute.getAttributeId().stringValue());
+        writer.writeAttribute("IncludeInResult", String.valueOf(attribute.getIncludeInResults()));
+        if (attribute.getIssuer() != null) {
+            writer.writeAttribute("Issuer", attribute.getIssuer());
+        }
+        for (AttributeValue<?> value : attribute.getValues()) {
+            writer.writeStartElement(XACML3_NAMESPACE, "AttributeValue");
+            writer.writeAttribute("DataType", value.getDataTypeId().stringValue());
+            writer.writeCharacters(XacmlDataTypes.toStringValue(value));
+            writer.writeEndElement();
+        }
+        writer.writeEndElement();
+    }
+
+    private static void writePolicyIdentifiers(XMLStreamWriter writer, Collection<IdReference> policies,
+        Collection<IdReference> policySets) throws XMLStreamException {
+        var hasPolicies = policies != null && !policies.isEmpty();
+        var hasPolicySets = policySets != null && !policySets.isEmpty();
+        if (!hasPolicies && !hasPolicySets) {
+            return;
+        }
+        writer.writeStartElement(XACML3_NAMESPACE, "PolicyIdentifierList");
+        if (hasPolicies) {
+            writeIdReferences(writer, "PolicyIdReference", policies);
+        }
+        if (hasPolicySets) {
+            writeIdReferences(writer, "PolicySetIdReference", policySets);
+        }
+        writer.writeEndElement();
+    }
+
+    private static void writeIdReferences(XMLStreamWriter writer, String element, Collection<IdReference> references)
+        throws XMLStreamException {
+        for (IdReference reference : references) {
+            writer.writeStartElement(XACML3_NAMESPACE, element);
+            if (reference.getVersion() != null) {
+                writer.writeAttribute("Version", reference.getVersion().stringValue());
+            }
+            writer.writeCharacters(reference.getId().stringValue());
+            writer.writeEndElement();
+        }
+    }
+
+    private static void writeText(XMLStreamWriter writer, String element, String text) throws XMLStreamException {
+        writer.writeStartElement(XACML3_NAMESPACE, element);
+        writer.writeCharacters(text);
+        writer.writeEndElement();
+    }
+}
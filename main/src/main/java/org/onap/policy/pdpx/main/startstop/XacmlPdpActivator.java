@@ -95,12 +95,13 @@ public class XacmlPdpActivator extends ServiceManagerContainer {
         final XacmlPdpHearbeatPublisher heartbeat;
         final TopicSinkClient sinkClient;
         final XacmlState state;
+        final XacmlPdpApplicationManager appmgr;
 
         XacmlPdpRestServer restServer;
         try {
             HttpClient apiClient = HttpClientFactoryInstance.getClientFactory().build(apiClientParams);
 
-            var appmgr = new XacmlPdpApplicationManager(xacmlPdpParameterGroup.getApplicationParameters(),
+            appmgr = new XacmlPdpApplicationManager(xacmlPdpParameterGroup.getApplicationParameters(),
                 apiClient);
             XacmlPdpApplicationManager.setCurrent(appmgr);
 
@@ -145,6 +146,10 @@ public class XacmlPdpActivator extends ServiceManagerContainer {
             () -> ParameterService.register(xacmlPdpParameterGroup),
             () -> ParameterService.deregister(xacmlPdpParameterGroup.getName()));
 
+        addAction("Policy persistence",
+            () -> { },
+            appmgr::flushPersistence);
+
         addAction("Message Dispatcher",
             this::registerMsgDispatcher,
             this::unregisterMsgDispatcher);
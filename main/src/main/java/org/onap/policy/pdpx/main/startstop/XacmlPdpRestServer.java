@@ -31,6 +31,9 @@ import org.onap.policy.common.endpoints.http.server.YamlMessageBodyHandler;
 import org.onap.policy.common.endpoints.properties.PolicyEndPointProperties;
 import org.onap.policy.common.gson.GsonMessageBodyHandler;
 import org.onap.policy.common.parameters.rest.RestServerParameters;
+import org.onap.policy.pdpx.main.rest.serialization.CborMessageBodyHandler;
+import org.onap.policy.pdpx.main.rest.serialization.DecisionResponseMessageBodyHandler;
+import org.onap.policy.pdpx.main.rest.serialization.XacmlCborMessageBodyHandler;
 import org.onap.policy.pdpx.main.rest.serialization.XacmlJsonExceptionMapper;
 import org.onap.policy.pdpx.main.rest.serialization.XacmlJsonMessageBodyHandler;
 import org.onap.policy.pdpx.main.rest.serialization.XacmlXmlExceptionMapper;
@@ -64,10 +67,13 @@ public class XacmlPdpRestServer extends RestServer {
                         PolicyEndPointProperties.PROPERTY_HTTP_SERVER_SERVICES + "." + restServerParameters.getName();
 
         props.setProperty(svcpfx + PolicyEndPointProperties.PROPERTY_HTTP_SERIALIZATION_PROVIDER,
-                String.join(",", GsonMessageBodyHandler.class.getName(), YamlMessageBodyHandler.class.getName(),
+                String.join(",", DecisionResponseMessageBodyHandler.class.getName(),
+                                GsonMessageBodyHandler.class.getName(), YamlMessageBodyHandler.class.getName(),
+                                CborMessageBodyHandler.class.getName(),
                                 JsonExceptionMapper.class.getName(), YamlExceptionMapper.class.getName(),
                                 XacmlJsonMessageBodyHandler.class.getName(), XacmlJsonExceptionMapper.class.getName(),
-                                XacmlXmlMessageBodyHandler.class.getName(), XacmlXmlExceptionMapper.class.getName()));
+                                XacmlXmlMessageBodyHandler.class.getName(), XacmlXmlExceptionMapper.class.getName(),
+                                XacmlCborMessageBodyHandler.class.getName()));
         return props;
     }
 }
@@ -30,6 +30,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.List;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -43,6 +44,7 @@ import org.onap.policy.models.pdp.concepts.PdpUpdate;
 import org.onap.policy.models.pdp.enums.PdpHealthStatus;
 import org.onap.policy.models.pdp.enums.PdpResponseStatus;
 import org.onap.policy.models.pdp.enums.PdpState;
+import org.onap.policy.models.tosca.authorative.concepts.ToscaConceptIdentifier;
 import org.onap.policy.pdpx.main.rest.XacmlPdpApplicationManager;
 import org.onap.policy.pdpx.main.startstop.XacmlPdpActivator;
 
@@ -99,6 +101,12 @@ class XacmlStateTest {
         assertEquals(PdpState.PASSIVE, status.getState());
         assertTrue(status.getPolicies().isEmpty());
 
+        // restored policies are reported from the start
+        List<ToscaConceptIdentifier> restored = List.of(new ToscaConceptIdentifier("restored", "1.0.0"));
+        when(appmgr.getToscaPolicyIdentifiers()).thenReturn(restored);
+        status = new XacmlState(appmgr, GROUP, PDP_TYPE).genHeartbeat();
+        assertEquals(restored, status.getPolicies());
+
         // healthy
         when(act.isAlive()).thenReturn(true);
 
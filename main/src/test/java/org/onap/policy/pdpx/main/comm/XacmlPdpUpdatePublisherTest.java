@@ -23,6 +23,7 @@ package org.onap.policy.pdpx.main.comm;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.startsWith;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
@@ -31,6 +32,7 @@ import static org.mockito.Mockito.verify;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -161,23 +163,19 @@ class XacmlPdpUpdatePublisherTest {
     void testHandlePdpUpdate() throws XacmlApplicationException {
         publisher.handlePdpUpdate(update);
 
-        // two removed
-        verify(appmgr).removeUndeployedPolicy(deployed1);
-        verify(appmgr).removeUndeployedPolicy(deployed4);
+        // two removed, three untouched
+        verify(appmgr).removeUndeployedPolicies(policies(deployed1, deployed4));
 
-        // two added
-        verify(appmgr).loadDeployedPolicy(added1);
-        verify(appmgr).loadDeployedPolicy(added2);
+        // two added, three untouched
+        verify(appmgr).loadDeployedPolicies(policies(added1, added2));
 
-        // three untouched
-        verify(appmgr, never()).removeUndeployedPolicy(deployed2);
-        verify(appmgr, never()).removeUndeployedPolicy(deployed3);
-        verify(appmgr, never()).removeUndeployedPolicy(deployed5);
-        verify(appmgr, never()).loadDeployedPolicy(deployed2);
-        verify(appmgr, never()).loadDeployedPolicy(deployed3);
-        verify(appmgr, never()).loadDeployedPolicy(deployed5);
+        // all at once
+        verify(appmgr, never()).removeUndeployedPolicy(any());
+        verify(appmgr, never()).loadDeployedPolicy(any());
 
         assertEquals(NEW_COUNT, statmgr.getTotalPoliciesCount());
+        assertEquals(2, statmgr.getUndeploySuccessCount());
+        assertEquals(2, statmgr.getDeploySuccessCount());
 
         verify(client).send(status);
     }
@@ -189,16 +187,10 @@ class XacmlPdpUpdatePublisherTest {
         publisher.handlePdpUpdate(update);
 
         // none removed
-        verify(appmgr, never()).removeUndeployedPolicy(any());
+        verify(appmgr, never()).removeUndeployedPolicies(any());
 
-        // two added
-        verify(appmgr).loadDeployedPolicy(added1);
-        verify(appmgr).loadDeployedPolicy(added2);
-
-        // three untouched
-        verify(appmgr, never()).loadDeployedPolicy(deployed2);
-        verify(appmgr, never()).loadDeployedPolicy(deployed3);
-        verify(appmgr, never()).loadDeployedPolicy(deployed5);
+        // two added, three untouched
+        verify(appmgr).loadDeployedPolicies(policies(added1, added2));
     }
 
     @Test
@@ -207,36 +199,32 @@ class XacmlPdpUpdatePublisherTest {
 
         publisher.handlePdpUpdate(update);
 
-        // three removed
-        verify(appmgr).removeUndeployedPolicy(deployed1);
-        verify(appmgr).removeUndeployedPolicy(deployed4);
-        verify(appmgr).removeUndeployedPolicy(deployed5);
+        // three removed, two untouched
+        verify(appmgr).removeUndeployedPolicies(policies(deployed1, deployed4, deployed5));
 
         // none added
-        verify(appmgr, never()).loadDeployedPolicy(any());
-
-        // two untouched
-        verify(appmgr, never()).removeUndeployedPolicy(deployed2);
-        verify(appmgr, never()).removeUndeployedPolicy(deployed3);
+        verify(appmgr, never()).loadDeployedPolicies(any());
     }
 
     @Test
     void testHandlePdpUpdate_LoadPolicyFailed() throws XacmlApplicationException {
         // Set loadPolicy to fail
-        lenient().doThrow(new XacmlApplicationException()).when(appmgr).loadDeployedPolicy(failPolicy1);
-        lenient().doThrow(new XacmlApplicationException()).when(appmgr).loadDeployedPolicy(failPolicy2);
+        lenient().when(appmgr.loadDeployedPolicies(any())).thenReturn(Map.of(
+            failPolicy1, new XacmlApplicationException("failed 1"),
+            failPolicy2, new XacmlApplicationException("failed 2")));
 
         publisher.handlePdpUpdate(failurePdpUpdate);
 
-        // two removed
-        verify(appmgr).removeUndeployedPolicy(deployed1);
-        verify(appmgr).removeUndeployedPolicy(deployed4);
+        // two removed, one untouched
+        verify(appmgr).removeUndeployedPolicies(policies(deployed1, deployed4));
 
-        // one untouched
-        verify(appmgr, never()).removeUndeployedPolicy(deployed5);
+        verify(appmgr).loadDeployedPolicies(policies(added1, failPolicy1, failPolicy2));
 
         verify(state).updateInternalState(any(), startsWith("Failed to load policy"));
         verify(client).send(status);
+
+        assertEquals(1, statmgr.getDeploySuccessCount());
+        assertEquals(2, statmgr.getDeployFailureCount());
     }
 
     @Test
@@ -247,10 +235,10 @@ class XacmlPdpUpdatePublisherTest {
         publisher.handlePdpUpdate(update);
 
         // none removed
-        verify(appmgr, never()).removeUndeployedPolicy(any());
+        verify(appmgr, never()).removeUndeployedPolicies(any());
 
         // none added
-        verify(appmgr, never()).loadDeployedPolicy(any());
+        verify(appmgr, never()).loadDeployedPolicies(any());
 
         verify(client).send(status);
     }
@@ -265,4 +253,8 @@ class XacmlPdpUpdatePublisherTest {
         verify(client).send(status);
     }
 
+    private static List<ToscaPolicy> policies(ToscaPolicy... policies) {
+        return argThat(list -> list != null && list.size() == policies.length
+            && Set.copyOf(list).equals(Set.of(policies)));
+    }
 }
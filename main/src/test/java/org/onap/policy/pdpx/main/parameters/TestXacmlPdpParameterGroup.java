@@ -30,6 +30,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.File;
 import java.nio.file.Path;
+import java.util.Map;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -239,4 +240,60 @@ class TestXacmlPdpParameterGroup {
         assertFalse(validationResult.isValid());
         assertThat(validationResult.getResult()).contains("\"XacmlApplicationParameters\"");
     }
+
+    @Test
+    void testXacmlApplicationParameters_EnginePoolSizes() {
+        var params = testData.toObject(testData.getXacmlapplicationParametersMap(false,
+            applicationPath.getAbsolutePath()), XacmlApplicationParameters.class);
+        assertEquals(0, params.getEnginePoolSize("guard"));
+
+        Map<String, Object> map = testData.getXacmlapplicationParametersMap(false,
+            applicationPath.getAbsolutePath());
+        map.put("enginePoolSizes", Map.of("guard", 4));
+        params = testData.toObject(map, XacmlApplicationParameters.class);
+        assertEquals(4, params.getEnginePoolSize("guard"));
+        assertEquals(0, params.getEnginePoolSize("monitoring"));
+    }
+
+    @Test
+    void testXacmlApplicationParameters_Persistence() {
+        var params = testData.toObject(testData.getXacmlapplicationParametersMap(false,
+            applicationPath.getAbsolutePath()), XacmlApplicationParameters.class);
+        assertFalse(params.isWriteBehindPersistence());
+        assertFalse(params.isPersistenceFsync());
+
+        Map<String, Object> map = testData.getXacmlapplicationParametersMap(false,
+            applicationPath.getAbsolutePath());
+        map.put("writeBehindPersistence", true);
+        map.put("persistenceFsync", true);
+        params = testData.toObject(map, XacmlApplicationParameters.class);
+        assertTrue(params.isWriteBehindPersistence());
+        assertTrue(params.isPersistenceFsync());
+    }
+
+    @Test
+    void testXacmlApplicationParameters_WarmRestart() {
+        var params = testData.toObject(testData.getXacmlapplicationParametersMap(false,
+            applicationPath.getAbsolutePath()), XacmlApplicationParameters.class);
+        assertFalse(params.isWarmRestart());
+
+        Map<String, Object> map = testData.getXacmlapplicationParametersMap(false,
+            applicationPath.getAbsolutePath());
+        map.put("warmRestart", true);
+        params = testData.toObject(map, XacmlApplicationParameters.class);
+        assertTrue(params.isWarmRestart());
+    }
+
+    @Test
+    void testXacmlApplicationParameters_InitializationThreads() {
+        var params = testData.toObject(testData.getXacmlapplicationParametersMap(false,
+            applicationPath.getAbsolutePath()), XacmlApplicationParameters.class);
+        assertEquals(4, params.getInitializationThreads());
+
+        Map<String, Object> map = testData.getXacmlapplicationParametersMap(false,
+            applicationPath.getAbsolutePath());
+        map.put("initializationThreads", 1);
+        params = testData.toObject(map, XacmlApplicationParameters.class);
+        assertEquals(1, params.getInitializationThreads());
+    }
 }
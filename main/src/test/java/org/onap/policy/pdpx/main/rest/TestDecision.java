@@ -38,8 +38,10 @@ import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.stream.Stream;
+import org.apache.commons.lang3.StringUtils;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
@@ -182,6 +184,46 @@ class TestDecision {
         assertThat(response.getStatus()).isEqualTo("Permit");
     }
 
+    @Test
+    void testDecisions_Batch() {
+        LOGGER.info("Running test testDecisions_Batch");
+
+        DecisionRequest guardRequest = new DecisionRequest();
+        guardRequest.setOnapName("DROOLS");
+        guardRequest.setAction("guard");
+        Map<String, Object> guard = new HashMap<String, Object>();
+        guard.put("actor", "foo");
+        guard.put("recipe", "bar");
+        guard.put("target", "somevnf");
+        guard.put("clname", "phoneyloop");
+        guardRequest.setResource(guard);
+
+        DecisionRequest unsupportedRequest = new DecisionRequest();
+        unsupportedRequest.setOnapName("DROOLS");
+        unsupportedRequest.setAction("foo");
+        unsupportedRequest.setResource(guard);
+
+        List<DecisionRequest> requests = List.of(guardRequest, unsupportedRequest, guardRequest);
+        Entity<List<DecisionRequest>> entityRequest = Entity.entity(requests, MediaType.APPLICATION_JSON);
+        Response response = client.post("/decisions", entityRequest, Collections.emptyMap());
+        assertEquals(200, response.getStatus());
+
+        DecisionResponse[] responses = HttpClient.getBody(response, DecisionResponse[].class);
+        LOGGER.info("Responses {}", (Object) responses);
+        assertThat(responses).hasSize(3);
+        assertThat(responses[0].getStatus()).isEqualTo("Permit");
+        assertThat(responses[1].getStatus()).isEqualTo("error");
+        assertThat(responses[1].getMessage()).isEqualToIgnoringCase("No application for action foo");
+        assertThat(responses[2].getStatus()).isEqualTo("Permit");
+
+        //
+        // An empty batch is a bad request
+        //
+        response = client.post("/decisions", Entity.entity(List.of(), MediaType.APPLICATION_JSON),
+            Collections.emptyMap());
+        assertEquals(400, response.getStatus());
+    }
+
     @Test
     void testDecision_Native() throws IOException {
         LOGGER.info("Running test testDecision_Native");
@@ -207,6 +249,40 @@ class TestDecision {
         assertThat(responseFromJsonRequest).contains("\"Response\":").contains("NotApplicable");
     }
 
+    @Test
+    void testDecision_NativeMultiple() throws IOException {
+        LOGGER.info("Running test testDecision_NativeMultiple");
+
+        String xmlRequestAsString = ResourceUtils.getResourceAsString(
+            "src/test/resources/decisions/decision.native.multi.request.xml");
+        if (xmlRequestAsString == null) {
+            throw new IOException("failed to read the xml request");
+        }
+
+        String jsonRequestAsString = ResourceUtils.getResourceAsString(
+            "src/test/resources/decisions/decision.native.multi.request.json");
+        if (jsonRequestAsString == null) {
+            throw new IOException("failed to read the json request");
+        }
+
+        //
+        // One result for each of the resources, in request order
+        //
+        String responseFromXmlRequest = getNativeDecision(xmlRequestAsString, APPLICATION_XACML_XML);
+        LOGGER.info("Response from xml request {}", responseFromXmlRequest);
+        assertThat(responseFromXmlRequest).contains("<Response xmlns=");
+        assertThat(StringUtils.countMatches(responseFromXmlRequest, "NotApplicable")).isEqualTo(2);
+        assertThat(responseFromXmlRequest.indexOf("BartSimpson"))
+            .isLessThan(responseFromXmlRequest.indexOf("LisaSimpson"));
+
+        String responseFromJsonRequest = getNativeDecision(jsonRequestAsString, APPLICATION_XACML_JSON);
+        LOGGER.info("Response from json request {}", responseFromJsonRequest);
+        assertThat(responseFromJsonRequest).contains("\"Response\":");
+        assertThat(StringUtils.countMatches(responseFromJsonRequest, "NotApplicable")).isEqualTo(2);
+        assertThat(responseFromJsonRequest.indexOf("BartSimpson"))
+            .isLessThan(responseFromJsonRequest.indexOf("LisaSimpson"));
+    }
+
     private static Main startXacmlPdpService(File params) throws PolicyXacmlPdpException {
         final String[] xacmlPdpConfigParameters = {"-c", params.getAbsolutePath()};
         return new Main(xacmlPdpConfigParameters);
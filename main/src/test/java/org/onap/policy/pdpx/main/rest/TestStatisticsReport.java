@@ -61,12 +61,18 @@ class TestStatisticsReport {
         report.setUndeployFailureCount(8888);
         report.setUndeploySuccessCount(9999);
         report.setTotalPolicyTypesCount(9898);
+        report.setCoalescedDecisionsCount(1111);
+        report.setDecisionCacheHitCount(1212);
+        report.setDecisionCacheMissCount(1313);
+        report.setDecisionCacheEvictionCount(1414);
 
         assertThat(report.toString()).contains("code=123", "totalPolicyTypesCount=9898",
             "totalPoliciesCount=7777", "totalErrorCount=6666", "permitDecisionsCount=3333",
             "denyDecisionsCount=123456", "deploySuccessCount=2222", "deployFailureCount=1111",
             "undeploySuccessCount=9999", "undeployFailureCount=8888",
             "indeterminantDecisionsCount=4444", "notApplicableDecisionsCount=5555",
+            "coalescedDecisionsCount=1111", "decisionCacheHitCount=1212", "decisionCacheMissCount=1313",
+            "decisionCacheEvictionCount=1414",
             "applicationMetrics=null");
     }
 }
@@ -59,6 +59,28 @@ class TestXacmlPdpStatistics extends CommonRest {
         validateReport(report, 0, 500, new HashMap<>());
     }
 
+    @Test
+    void testXacmlPdpStatistics_Batch() {
+        LOGGER.info("**************************** Running testXacmlPdpStatistics_Batch ****************************");
+        XacmlPdpStatisticsManager stats = new XacmlPdpStatisticsManager();
+        stats.updatePermitDecisionsCount("testApp1");
+        stats.updateDecisionCounts(Map.of(
+            "testApp1", Map.of(XacmlPdpStatisticsManager.PERMIT_OPERATION, 2,
+                XacmlPdpStatisticsManager.DENY_OPERATION, 1),
+            "testApp2", Map.of(XacmlPdpStatisticsManager.INDETERMINANT_OPERATION, 1,
+                XacmlPdpStatisticsManager.NOT_APPLICABLE_OPERATION, 3, "unknown", 5)), 2);
+
+        assertEquals(2, stats.getErrorCount());
+        assertEquals(3, stats.getPermitDecisionsCount());
+        assertEquals(1, stats.getDenyDecisionsCount());
+        assertEquals(1, stats.getIndeterminantDecisionsCount());
+        assertEquals(3, stats.getNotApplicableDecisionsCount());
+        assertEquals(Map.of(
+            "testApp1", Map.of("permit_decisions_count", 3, "deny_decisions_count", 1),
+            "testApp2", Map.of("indeterminant_decisions_count", 1, "not_applicable_decisions_count", 3)),
+            stats.getApplicationMetrics());
+    }
+
     private Map<String, Map<String, Integer>> returnStatisticsMap() {
         Map<String, Integer> testAppMetrics1 = new HashMap<>();
         Map<String, Integer> testAppMetrics2 = new HashMap<>();
@@ -197,6 +197,31 @@ class XacmlPdpApplicationManagerTest {
         });
     }
 
+    @Test
+    void testXacmlPdpApplicationManagerSequential() {
+        final String[] exclusions = {"org.onap.policy.xacml.pdp.application.guard.GuardPdpApplication",
+            "org.onap.policy.xacml.pdp.application.match.MatchPdpApplication"};
+        Map<String, Object> map = testData.getXacmlapplicationParametersMap(false, appsDirectory.toString(),
+            exclusions);
+        map.put("initializationThreads", 1);
+        XacmlPdpApplicationManager sequential = new XacmlPdpApplicationManager(
+            testData.toObject(map, XacmlApplicationParameters.class), null);
+        map.put("initializationThreads", 8);
+        XacmlPdpApplicationManager concurrent = new XacmlPdpApplicationManager(
+            testData.toObject(map, XacmlApplicationParameters.class), null);
+        //
+        // Both end up with the same applications, in the same order
+        //
+        assertThat(concurrent.getToscaPolicyTypeIdents()).isEqualTo(sequential.getToscaPolicyTypeIdents());
+        DecisionRequest request = new DecisionRequest();
+        request.setAction("guard");
+        assertThat(concurrent.findApplication(request)).isInstanceOf(TestGuardOverrideApplication.class);
+        //
+        // The time each application took is recorded
+        //
+        assertThat(XacmlPdpApplicationManager.initTimeGauge.labels("native").get()).isPositive();
+    }
+
     private static void copy(Path source, Path dest) {
         try {
             Files.copy(source, dest, StandardCopyOption.REPLACE_EXISTING);
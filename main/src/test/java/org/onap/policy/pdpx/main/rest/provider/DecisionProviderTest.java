@@ -0,0 +1,199 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdpx.main.rest.provider;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.att.research.xacml.api.Response;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.onap.policy.models.decisions.concepts.DecisionRequest;
+import org.onap.policy.models.decisions.concepts.DecisionResponse;
+import org.onap.policy.pdp.xacml.application.common.XacmlApplicationServiceProvider;
+import org.onap.policy.pdpx.main.rest.XacmlPdpApplicationManager;
+import org.onap.policy.pdpx.main.rest.XacmlPdpStatisticsManager;
+
+@ExtendWith(MockitoExtension.class)
+class DecisionProviderTest {
+    private static final String APP_NAME = "my-app";
+
+    @Mock
+    private XacmlPdpApplicationManager appmgr;
+
+    @Mock
+    private XacmlApplicationServiceProvider application;
+
+    @Mock
+    private Response xacmlResponse;
+
+    private DecisionRequest request;
+    private DecisionResponse response;
+    private XacmlPdpStatisticsManager statmgr;
+
+    /**
+     * Sets up the managers and a request for the application.
+     */
+    @BeforeEach
+    void setUp() {
+        request = new DecisionRequest();
+        request.setAction("my-action");
+        request.setResource(Map.of("policy-id", "my-policy"));
+        response = new DecisionResponse();
+        response.setStatus("my-status");
+
+        lenient().when(appmgr.findApplication(any())).thenReturn(application);
+        lenient().when(application.applicationName()).thenReturn(APP_NAME);
+        lenient().when(xacmlResponse.getResults()).thenReturn(Collections.emptyList());
+
+        XacmlPdpApplicationManager.setCurrent(appmgr);
+        statmgr = new XacmlPdpStatisticsManager();
+        XacmlPdpStatisticsManager.setCurrent(statmgr);
+    }
+
+    @AfterEach
+    void tearDown() {
+        XacmlPdpApplicationManager.setCurrent(null);
+        XacmlPdpStatisticsManager.setCurrent(null);
+    }
+
+    @Test
+    void testFetchDecision() {
+        lenient().when(application.makeDecision(any(), any())).thenReturn(Pair.of(response, xacmlResponse));
+
+        assertSame(response, new DecisionProvider().fetchDecision(request, Collections.emptyMap()));
+        assertSame(response, new DecisionProvider().fetchDecision(request, Collections.emptyMap()));
+
+        // not concurrent, so nothing is coalesced
+        verify(application, times(2)).makeDecision(any(), any());
+        assertEquals(0, statmgr.getCoalescedDecisionsCount());
+    }
+
+    @Test
+    void testFetchDecision_Coalesced() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch finish = new CountDownLatch(1);
+        lenient().when(application.makeDecision(any(), any())).thenAnswer(invocation -> {
+            started.countDown();
+            assertTrue(finish.await(5, TimeUnit.SECONDS));
+            return Pair.of(response, xacmlResponse);
+        });
+
+        var executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<DecisionResponse> first =
+                executor.submit(() -> new DecisionProvider().fetchDecision(request, Collections.emptyMap()));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+
+            // an identical request arrives while the first is still being evaluated
+            DecisionRequest identical = new DecisionRequest(request);
+            identical.setRequestId("another-request");
+            Future<DecisionResponse> second =
+                executor.submit(() -> new DecisionProvider().fetchDecision(identical, Collections.emptyMap()));
+            for (var count = 0; count < 500 && statmgr.getCoalescedDecisionsCount() == 0; ++count) {
+                Thread.sleep(10);
+            }
+
+            finish.countDown();
+            assertSame(response, first.get(5, TimeUnit.SECONDS));
+
+            // the waiter gets its own copy of the response
+            DecisionResponse coalesced = second.get(5, TimeUnit.SECONDS);
+            assertNotSame(response, coalesced);
+            assertEquals(response, coalesced);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        verify(application, times(1)).makeDecision(any(), any());
+        assertEquals(1, statmgr.getCoalescedDecisionsCount());
+    }
+
+    @Test
+    void testFetchDecision_CoalescedError() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch finish = new CountDownLatch(1);
+        lenient().when(application.makeDecision(any(), any())).thenAnswer(invocation -> {
+            started.countDown();
+            assertTrue(finish.await(5, TimeUnit.SECONDS));
+            throw new StackOverflowError("expected");
+        });
+
+        var executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<DecisionResponse> first =
+                executor.submit(() -> new DecisionProvider().fetchDecision(request, Collections.emptyMap()));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            Future<DecisionResponse> second =
+                executor.submit(() -> new DecisionProvider().fetchDecision(request, Collections.emptyMap()));
+            for (var count = 0; count < 500 && statmgr.getCoalescedDecisionsCount() == 0; ++count) {
+                Thread.sleep(10);
+            }
+
+            // an error is passed on to the waiters rather than leaving them blocked
+            finish.countDown();
+            assertThatThrownBy(() -> first.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(StackOverflowError.class);
+            assertThatThrownBy(() -> second.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(StackOverflowError.class);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testFetchDecision_Exception() {
+        lenient().when(application.makeDecision(any(), any())).thenThrow(new IllegalStateException("expected"));
+        assertThatThrownBy(() -> new DecisionProvider().fetchDecision(request, Collections.emptyMap()))
+            .isInstanceOf(IllegalStateException.class).hasMessage("expected");
+
+        // a failure is not left behind for later requests
+        doReturn(Pair.of(response, xacmlResponse)).when(application).makeDecision(any(), any());
+        assertSame(response, new DecisionProvider().fetchDecision(request, Collections.emptyMap()));
+    }
+
+    @Test
+    void testFetchDecisions() {
+        lenient().when(application.makeDecision(any(), any())).thenReturn(Pair.of(response, xacmlResponse));
+
+        List<DecisionResponse> responses =
+            new DecisionProvider().fetchDecisions(List.of(request, request, request), Collections.emptyMap());
+        assertEquals(List.of(response, response, response), responses);
+    }
+}
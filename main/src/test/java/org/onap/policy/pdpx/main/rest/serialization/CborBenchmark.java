@@ -0,0 +1,124 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdpx.main.rest.serialization;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParser;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.onap.policy.common.gson.MapDoubleAdapterFactory;
+import org.onap.policy.common.utils.resources.ResourceUtils;
+import org.onap.policy.models.decisions.concepts.DecisionRequest;
+import org.onap.policy.models.decisions.concepts.DecisionResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares decoding decision requests and encoding decision responses as json text, the way
+ * the json provider does, with doing so as CBOR through {@link CborMessageBodyHandler}. Not
+ * run with the tests; run it from the main module with:
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=org.onap.policy.pdpx.main.rest.serialization.CborBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CborBenchmark {
+    private static final Gson gson =
+            new GsonBuilder().registerTypeAdapterFactory(new MapDoubleAdapterFactory()).create();
+
+    private final CborMessageBodyHandler handler = new CborMessageBodyHandler();
+
+    private byte[] requestJson;
+    private byte[] requestCbor;
+    private DecisionResponse response;
+
+    /**
+     * Loads a request in both encodings, and a response.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        requestJson = ResourceUtils.getResourceAsString("src/test/resources/decisions/decision.single.input.json")
+            .getBytes(StandardCharsets.UTF_8);
+        var request = gson.fromJson(new String(requestJson, StandardCharsets.UTF_8), DecisionRequest.class);
+        var stream = new ByteArrayOutputStream();
+        handler.writeTo(request, DecisionRequest.class, DecisionRequest.class, null, null, null, stream);
+        requestCbor = stream.toByteArray();
+
+        response = gson.fromJson(
+            ResourceUtils.getResourceAsString("src/test/resources/decisions/decision.single.output.json"),
+            DecisionResponse.class);
+    }
+
+    @Benchmark
+    public DecisionRequest decodeRequestJson() {
+        return gson.fromJson(new InputStreamReader(new ByteArrayInputStream(requestJson), StandardCharsets.UTF_8),
+            DecisionRequest.class);
+    }
+
+    @Benchmark
+    public DecisionRequest decodeRequestCbor() {
+        return gson.fromJson(JsonParser.parseReader(new CborReader(new ByteArrayInputStream(requestCbor))),
+            DecisionRequest.class);
+    }
+
+    @Benchmark
+    public byte[] encodeResponseJson() throws IOException {
+        var stream = new ByteArrayOutputStream();
+        try (var writer = new OutputStreamWriter(stream, StandardCharsets.UTF_8)) {
+            gson.toJson(response, DecisionResponse.class, writer);
+        }
+        return stream.toByteArray();
+    }
+
+    @Benchmark
+    public byte[] encodeResponseCbor() throws IOException {
+        var stream = new ByteArrayOutputStream();
+        handler.writeTo(response, DecisionResponse.class, DecisionResponse.class, null, null, null, stream);
+        return stream.toByteArray();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(CborBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,111 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdpx.main.rest.serialization;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import jakarta.ws.rs.core.MediaType;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.onap.policy.common.utils.coder.StandardCoder;
+import org.onap.policy.models.decisions.concepts.DecisionRequest;
+import org.onap.policy.models.decisions.concepts.DecisionResponse;
+import org.onap.policy.pdp.xacml.application.common.PolicyContentCache;
+
+class TestCborMessageBodyHandler {
+    private static final MediaType CBOR = MediaType.valueOf(CborMessageBodyHandler.APPLICATION_CBOR);
+
+    private CborMessageBodyHandler hdlr;
+
+    @BeforeEach
+    void setUp() {
+        hdlr = new CborMessageBodyHandler();
+    }
+
+    @AfterEach
+    void tearDown() {
+        PolicyContentCache.clear();
+    }
+
+    @Test
+    void testIsWriteableOrReadable() {
+        assertTrue(hdlr.isWriteable(DecisionResponse.class, null, null, CBOR));
+        assertTrue(hdlr.isReadable(DecisionRequest.class, null, null, CBOR));
+        assertFalse(hdlr.isWriteable(DecisionResponse.class, null, null, null));
+        assertFalse(hdlr.isReadable(DecisionRequest.class, null, null, MediaType.APPLICATION_JSON_TYPE));
+    }
+
+    @Test
+    void testDecisionRequest() throws IOException {
+        var request = new DecisionRequest();
+        request.setOnapName("DCAE");
+        request.setOnapComponent("PolicyHandler");
+        request.setAction("configure");
+        request.setResource(Map.of("policy-type", List.of("onap.policies.monitoring.tcagen2"),
+            "filter", Map.of("enabled", true)));
+
+        assertEquals(request, roundTrip(request, DecisionRequest.class));
+    }
+
+    @Test
+    void testDecisionResponse() throws Exception {
+        var policy = PolicyContentCache.put("my-policy", "{\"name\":\"my-policy\",\"version\":\"1.0.0\","
+            + "\"properties\":{\"threshold\":10,\"hosts\":[\"a\",\"b\"]}}");
+        var response = new DecisionResponse();
+        response.setStatus("Permit");
+        response.setPolicies(Map.of("my-policy", policy, "abbreviated", policy.without(Set.of("properties"))));
+
+        //
+        // Decodes to the same response as the json
+        //
+        var coder = new StandardCoder();
+        assertEquals(coder.decode(coder.encode(response), DecisionResponse.class),
+            roundTrip(response, DecisionResponse.class));
+    }
+
+    @Test
+    void testReadFromInvalid() {
+        var stream = new ByteArrayInputStream(new byte[] {(byte) 0xa1, 0x01, 0x02});
+        assertThatThrownBy(() -> read(DecisionRequest.class, stream)).isInstanceOf(IOException.class);
+    }
+
+    private <T> T roundTrip(T object, Class<T> clazz) throws IOException {
+        var stream = new ByteArrayOutputStream();
+        hdlr.writeTo(object, clazz, clazz, null, CBOR, null, stream);
+        return read(clazz, new ByteArrayInputStream(stream.toByteArray()));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T read(Class<T> clazz, ByteArrayInputStream stream) throws IOException {
+        return (T) hdlr.readFrom((Class<Object>) (Class<?>) clazz, (Type) clazz, null, CBOR, null, stream);
+    }
+}
@@ -0,0 +1,122 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdpx.main.rest.serialization;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.MalformedJsonException;
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.HexFormat;
+import org.junit.jupiter.api.Test;
+
+class TestCborReader {
+
+    //
+    // Encodings are from appendix A of RFC 8949
+    //
+    @Test
+    void testScalars() throws IOException {
+        assertEquals(1000, reader("1903e8").nextInt());
+        assertEquals(1000000000000L, reader("1b000000e8d4a51000").nextLong());
+        assertEquals(-1000, reader("3903e7").nextLong());
+        assertEquals("18446744073709551615", reader("1bffffffffffffffff").nextString());
+        assertEquals("18446744073709551616", reader("c249010000000000000000").nextString());
+        assertEquals("-18446744073709551617", reader("c349010000000000000000").nextString());
+        assertEquals(1.1, reader("fb3ff199999999999a").nextDouble());
+        assertEquals(100000.0, reader("fa47c35000").nextDouble());
+        assertEquals(65504.0, reader("f97bff").nextDouble());
+        assertEquals(-4.0, reader("f9c400").nextDouble());
+        assertEquals(5.960464477539063e-8, reader("f90001").nextDouble());
+        assertEquals(1, reader("f93c00").nextInt());
+        assertFalse(reader("f4").nextBoolean());
+        assertEquals(JsonToken.NULL, reader("f6").peek());
+        assertEquals("IETF", reader("6449455446").nextString());
+        assertEquals("streaming", reader("7f657374726561646d696e67ff").nextString());
+
+        // tagged date time string
+        assertEquals("2013-03-21T20:04:00Z", reader("c074323031332d30332d32315432303a30343a30305a").nextString());
+
+        assertThatThrownBy(() -> reader("4401020304").peek()).isInstanceOf(MalformedJsonException.class);
+        assertThatThrownBy(() -> reader("fb3ff199999999999a").nextLong()).isInstanceOf(NumberFormatException.class);
+    }
+
+    @Test
+    void testContainers() throws IOException {
+        assertEquals("{\"a\":1,\"b\":[2,3]}", parse("a26161016162820203"));
+        assertEquals("{\"a\":1,\"b\":[2,3]}", parse("bf61610161629f0203ffff"));
+        assertEquals("[\"a\",{\"b\":\"c\"}]", parse("826161a161626163"));
+        assertEquals("[1,[2,3],[4,5]]", parse("9f01820203820405ff"));
+        assertEquals("[]", parse("80"));
+
+        var reader = reader("a2616101616282f502");
+        reader.beginObject();
+        assertEquals("a", reader.nextName());
+        reader.skipValue();
+        assertEquals("b", reader.nextName());
+        reader.skipValue();
+        assertFalse(reader.hasNext());
+        reader.endObject();
+        assertEquals(JsonToken.END_DOCUMENT, reader.peek());
+
+        // keys that are not text
+        var numberKeys = reader("a201020304");
+        numberKeys.beginObject();
+        assertThatThrownBy(numberKeys::peek).isInstanceOf(MalformedJsonException.class);
+
+        // truncated
+        var truncated = reader("8201");
+        truncated.beginArray();
+        assertEquals(1, truncated.nextInt());
+        assertThatThrownBy(truncated::peek).isInstanceOf(EOFException.class);
+        assertThatThrownBy(() -> reader("ff").peek()).isInstanceOf(MalformedJsonException.class);
+    }
+
+    @Test
+    void testLimits() throws IOException {
+        // a long chain of tags is read without recursing
+        assertEquals("a", reader("c0".repeat(100000) + "6161").nextString());
+
+        // lengths of 2^63 and more must not be taken for indefinite lengths
+        assertThatThrownBy(() -> reader("9b8000000000000000").peek()).isInstanceOf(MalformedJsonException.class);
+        assertThatThrownBy(() -> reader("bbffffffffffffffff").peek()).isInstanceOf(MalformedJsonException.class);
+        assertThatThrownBy(() -> reader("7b8000000000000000").peek()).isInstanceOf(MalformedJsonException.class);
+        assertThatThrownBy(() -> reader("9a80000000").peek()).isInstanceOf(MalformedJsonException.class);
+
+        // nesting
+        reader("81".repeat(CborReader.MAX_DEPTH) + "01").skipValue();
+        assertThatThrownBy(() -> reader("81".repeat(CborReader.MAX_DEPTH + 1) + "01").skipValue())
+            .isInstanceOf(MalformedJsonException.class);
+    }
+
+    private static String parse(String hex) {
+        return JsonParser.parseReader(reader(hex)).toString();
+    }
+
+    private static CborReader reader(String hex) {
+        return new CborReader(new ByteArrayInputStream(HexFormat.of().parseHex(hex)));
+    }
+}
@@ -0,0 +1,101 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdpx.main.rest.serialization;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.google.gson.stream.JsonWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.HexFormat;
+import org.junit.jupiter.api.Test;
+
+class TestCborWriter {
+
+    //
+    // Expected encodings are from appendix A of RFC 8949
+    //
+    @Test
+    void testNumbers() throws IOException {
+        assertEquals("00", write(writer -> writer.value(0)));
+        assertEquals("17", write(writer -> writer.value(23)));
+        assertEquals("1818", write(writer -> writer.value(24)));
+        assertEquals("1903e8", write(writer -> writer.value(1000)));
+        assertEquals("1a000f4240", write(writer -> writer.value(1000000)));
+        assertEquals("1b000000e8d4a51000", write(writer -> writer.value(1000000000000L)));
+        assertEquals("20", write(writer -> writer.value(-1)));
+        assertEquals("3903e7", write(writer -> writer.value(-1000)));
+        assertEquals("fb3ff199999999999a", write(writer -> writer.value(1.1)));
+        assertEquals("fb3ff199999999999a", write(writer -> writer.value(Double.valueOf(1.1))));
+        assertEquals("1864", write(writer -> writer.value(Integer.valueOf(100))));
+        assertEquals("c249010000000000000000",
+            write(writer -> writer.value(new BigInteger("18446744073709551616"))));
+        assertEquals("c349010000000000000000",
+            write(writer -> writer.value(new BigInteger("-18446744073709551617"))));
+    }
+
+    @Test
+    void testValues() throws IOException {
+        assertEquals("f4", write(writer -> writer.value(false)));
+        assertEquals("f5", write(writer -> writer.value(Boolean.TRUE)));
+        assertEquals("f6", write(JsonWriter::nullValue));
+        assertEquals("6449455446", write(writer -> writer.value("IETF")));
+        assertEquals("62c3bc", write(writer -> writer.value("\u00fc")));
+        assertThatThrownBy(() -> write(writer -> writer.jsonValue("1")))
+            .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void testContainers() throws IOException {
+        assertEquals("9f019f0203ff9f0405ffff", write(writer -> {
+            writer.beginArray().value(1);
+            writer.beginArray().value(2).value(3).endArray();
+            writer.beginArray().value(4).value(5).endArray();
+            writer.endArray();
+        }));
+
+        // names with null values are dropped, unless nulls are serialized
+        assertEquals("bf61610161629f02ffff", write(writer -> {
+            writer.beginObject().name("a").value(1).name("c").nullValue();
+            writer.name("b").beginArray().value(2).endArray().endObject();
+        }));
+        assertEquals("bf6161f6ff", write(writer -> {
+            writer.setSerializeNulls(true);
+            writer.beginObject().name("a").nullValue().endObject();
+        }));
+    }
+
+    @FunctionalInterface
+    private interface Writes {
+        void write(JsonWriter writer) throws IOException;
+    }
+
+    private static String write(Writes writes) throws IOException {
+        var stream = new ByteArrayOutputStream();
+        var writer = new CborWriter(stream);
+        writer.setSerializeNulls(false);
+        writes.write(writer);
+        writer.flush();
+        return HexFormat.of().formatHex(stream.toByteArray());
+    }
+}
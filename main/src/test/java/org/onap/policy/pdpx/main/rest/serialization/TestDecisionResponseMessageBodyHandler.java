@@ -0,0 +1,95 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdpx.main.rest.serialization;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import jakarta.ws.rs.core.MediaType;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.onap.policy.common.utils.coder.CoderException;
+import org.onap.policy.common.utils.coder.StandardCoder;
+import org.onap.policy.models.decisions.concepts.DecisionResponse;
+import org.onap.policy.pdp.xacml.application.common.PolicyContentCache;
+import org.onap.policy.pdp.xacml.application.common.RenderedPolicy;
+
+class TestDecisionResponseMessageBodyHandler {
+    private static final String POLICY = "{\"name\":\"my-policy\",\"version\":\"1.0.0\","
+        + "\"properties\":{\"threshold\":10,\"hosts\":[\"a\",\"b\"]}}";
+
+    private final StandardCoder coder = new StandardCoder();
+    private DecisionResponseMessageBodyHandler hdlr;
+
+    @BeforeEach
+    void setUp() {
+        hdlr = new DecisionResponseMessageBodyHandler();
+    }
+
+    @AfterEach
+    void tearDown() {
+        PolicyContentCache.clear();
+    }
+
+    @Test
+    void testIsWriteable() {
+        assertTrue(hdlr.isWriteable(DecisionResponse.class, null, null, MediaType.APPLICATION_JSON_TYPE));
+        assertFalse(hdlr.isWriteable(DecisionResponse.class, null, null, null));
+        assertFalse(hdlr.isWriteable(DecisionResponse.class, null, null, MediaType.APPLICATION_XML_TYPE));
+        assertFalse(hdlr.isWriteable(Map.class, null, null, MediaType.APPLICATION_JSON_TYPE));
+    }
+
+    @Test
+    void testWriteTo() throws IOException, CoderException {
+        RenderedPolicy policy = PolicyContentCache.put("my-policy", POLICY);
+        Map<String, Object> policies = new LinkedHashMap<>();
+        policies.put("my-policy", policy);
+        policies.put("abbreviated", policy.without(Set.of("properties", "name")));
+        policies.put("other", Map.of("name", "other"));
+
+        var response = new DecisionResponse();
+        response.setStatus("Permit");
+        response.setPolicies(policies);
+        assertEquals(response, coder.decode(write(response), DecisionResponse.class));
+
+        // only the policies
+        response.setStatus(null);
+        assertEquals(response, coder.decode(write(response), DecisionResponse.class));
+
+        // no policies
+        response.setPolicies(null);
+        assertEquals(response, coder.decode(write(response), DecisionResponse.class));
+    }
+
+    private String write(DecisionResponse response) throws IOException {
+        var stream = new ByteArrayOutputStream();
+        hdlr.writeTo(response, DecisionResponse.class, DecisionResponse.class, null, MediaType.APPLICATION_JSON_TYPE,
+            null, stream);
+        return stream.toString();
+    }
+}
@@ -0,0 +1,58 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdpx.main.rest.serialization;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+
+class TestReplayInputStream {
+    private static final byte[] DATA = "0123456789".getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    void testReplay() throws IOException {
+        var stream = new ReplayInputStream(new ByteArrayInputStream(DATA));
+        assertThat(stream.read()).isEqualTo('0');
+        assertThat(stream.readNBytes(3)).isEqualTo("123".getBytes(StandardCharsets.UTF_8));
+        assertThat(stream.skip(2)).isEqualTo(2);
+        assertThat(stream.replay().readAllBytes()).isEqualTo(DATA);
+    }
+
+    @Test
+    void testReplay_AllRead() throws IOException {
+        var stream = new ReplayInputStream(new ByteArrayInputStream(DATA));
+        stream.readAllBytes();
+        assertThat(stream.read()).isEqualTo(-1);
+        assertThat(stream.replay().readAllBytes()).isEqualTo(DATA);
+    }
+
+    @Test
+    void testMark() {
+        var stream = new ReplayInputStream(new ByteArrayInputStream(DATA));
+        assertThat(stream.markSupported()).isFalse();
+        stream.mark(4);
+        assertThatThrownBy(stream::reset).isInstanceOf(IOException.class);
+    }
+}
@@ -0,0 +1,111 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdpx.main.rest.serialization;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.att.research.xacml.api.Request;
+import com.att.research.xacml.api.RequestAttributes;
+import com.att.research.xacml.api.Response;
+import com.att.research.xacml.std.dom.DOMResponse;
+import com.att.research.xacml.std.json.JsonResponseTranslator;
+import com.google.gson.Gson;
+import com.google.gson.JsonParser;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.onap.policy.common.utils.resources.ResourceUtils;
+
+class TestXacmlCborMessageBodyHandler {
+
+    private static final String PRIMARY_TYPE = "application";
+    private static final String SUB_TYPE = "xacml+cbor";
+
+    @SuppressWarnings("rawtypes")
+    private static final Class REQUEST_CLASS = Request.class;
+    @SuppressWarnings("rawtypes")
+    private static final Class RESPONSE_CLASS = Response.class;
+
+    private XacmlCborMessageBodyHandler hdlr;
+
+    @BeforeEach
+    void setUp() {
+        hdlr = new XacmlCborMessageBodyHandler();
+    }
+
+    @Test
+    void testIsWriteable() {
+        CommonSerialization.testIsWritableOrReadable(PRIMARY_TYPE, SUB_TYPE, hdlr::isWriteable);
+    }
+
+    @Test
+    void testIsReadable() {
+        CommonSerialization.testIsWritableOrReadable(PRIMARY_TYPE, SUB_TYPE, hdlr::isReadable);
+    }
+
+    @Test
+    void testWriteTo() throws Exception {
+        var stream = new ByteArrayOutputStream();
+        Response resp = DOMResponse.load(ResourceUtils.getResourceAsString(
+            "src/test/resources/decisions/decision.native.full.response.xml"));
+        hdlr.writeTo(resp, RESPONSE_CLASS, RESPONSE_CLASS, null, null, null, stream);
+
+        String json = JsonParser.parseReader(new CborReader(new ByteArrayInputStream(stream.toByteArray())))
+            .toString();
+        var jsonStream = new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+        assertEquals(resp, JsonResponseTranslator.load(jsonStream));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testReadFrom() throws IOException {
+        // streamed
+        Request req = hdlr.readFrom(REQUEST_CLASS, REQUEST_CLASS, null, null, null, toCbor("""
+            {"Request": {"ReturnPolicyIdList": true, "CombinedDecision": false,
+                "Resource": {"Attribute": {"AttributeId": "urn:oasis:names:tc:xacml:1.0:resource:resource-id",
+                    "Value": "onap.restart.tca"}}}}"""));
+        assertTrue(req.getReturnPolicyIdList());
+        assertEquals("onap.restart.tca", req.getRequestAttributes().iterator().next().getAttributes().iterator()
+            .next().getValues().iterator().next().getValue());
+
+        // left to the standard translator
+        req = hdlr.readFrom(REQUEST_CLASS, REQUEST_CLASS, null, null, null, toCbor(ResourceUtils.getResourceAsString(
+            "src/test/resources/decisions/decision.native.request.json")));
+        List<RequestAttributes> attributes = new ArrayList<>(req.getRequestAttributes());
+        assertEquals(3, attributes.size());
+        assertEquals("read", attributes.get(2).getAttributes().iterator().next().getValues().iterator().next()
+            .getValue().toString());
+    }
+
+    private static ByteArrayInputStream toCbor(String json) throws IOException {
+        var stream = new ByteArrayOutputStream();
+        var writer = new CborWriter(stream);
+        new Gson().toJson(JsonParser.parseString(json), writer);
+        writer.flush();
+        return new ByteArrayInputStream(stream.toByteArray());
+    }
+}
@@ -34,6 +34,7 @@ import com.att.research.xacml.std.json.JsonResponseTranslator;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.Iterator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -100,4 +101,22 @@ class TestXacmlJsonMessageBodyHandler {
         assertEquals("read", thirdRequestAttributes.getAttributes().iterator().next()
             .getValues().iterator().next().getValue().toString());
     }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testReadFrom_LargeMultiRequests() throws IOException {
+        //
+        // The streaming reader only gives up at the end, after more than a megabyte
+        //
+        String value = "a".repeat(2 * 1024 * 1024);
+        String request = "{\"Request\":{\"Category\":[{\"CategoryId\":"
+            + "\"urn:oasis:names:tc:xacml:1.0:subject-category:access-subject\",\"Id\":\"s1\","
+            + "\"Attribute\":[{\"AttributeId\":\"urn:a\",\"Value\":\"" + value + "\"}]}],"
+            + "\"MultiRequests\":{\"RequestReference\":[{\"ReferenceId\":[\"s1\"]}]}}}";
+        Request req = hdlr.readFrom(REQUEST_CLASS, REQUEST_CLASS, null, null, null,
+            new ByteArrayInputStream(request.getBytes(StandardCharsets.UTF_8)));
+        assertEquals(1, req.getMultiRequests().size());
+        assertEquals(value, req.getRequestAttributes().iterator().next().getAttributes().iterator().next()
+            .getValues().iterator().next().getValue().toString());
+    }
 }
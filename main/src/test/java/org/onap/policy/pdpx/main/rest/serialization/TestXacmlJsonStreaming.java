@@ -0,0 +1,123 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdpx.main.rest.serialization;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.att.research.xacml.api.Attribute;
+import com.att.research.xacml.api.Request;
+import com.att.research.xacml.api.RequestAttributes;
+import com.att.research.xacml.api.Response;
+import com.att.research.xacml.api.XACML3;
+import com.att.research.xacml.std.dom.DOMResponse;
+import com.att.research.xacml.std.json.JsonResponseTranslator;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.onap.policy.common.utils.resources.ResourceUtils;
+
+class TestXacmlJsonStreaming {
+
+    @Test
+    void testReadRequest() throws Exception {
+        Request request = read("""
+            {"Request": {
+                "ReturnPolicyIdList": true,
+                "AccessSubject": {"Attribute": {"AttributeId": "urn:oasis:names:tc:xacml:1.0:subject:subject-id",
+                    "Value": "Julius Hibbert"}},
+                "Category": [{"CategoryId": "Resource", "Id": "res", "Attribute": [
+                    {"AttributeId": "urn:org:onap:count", "Value": [5, 6], "IncludeInResult": true},
+                    {"AttributeId": "urn:org:onap:ratio", "Value": 0.5, "Issuer": "me"},
+                    {"AttributeId": "urn:org:onap:enabled", "Value": true},
+                    {"AttributeId": "urn:org:onap:uri", "Value": "http://onap.org", "DataType": "anyURI"}]}],
+                "Environment": []
+            }}""");
+        assertTrue(request.getReturnPolicyIdList());
+        assertFalse(request.getCombinedDecision());
+
+        List<RequestAttributes> requestAttributes = new ArrayList<>(request.getRequestAttributes());
+        assertEquals(2, requestAttributes.size());
+        assertEquals(XACML3.ID_SUBJECT_CATEGORY_ACCESS_SUBJECT, requestAttributes.get(0).getCategory());
+
+        var resource = requestAttributes.get(1);
+        assertEquals(XACML3.ID_ATTRIBUTE_CATEGORY_RESOURCE, resource.getCategory());
+        assertEquals("res", resource.getXmlId());
+
+        List<Attribute> attributes = new ArrayList<>(resource.getAttributes());
+        assertEquals(4, attributes.size());
+        assertTrue(attributes.get(0).getIncludeInResults());
+        assertEquals(XACML3.ID_ATTRIBUTE_CATEGORY_RESOURCE, attributes.get(0).getCategory());
+        assertEquals(2, attributes.get(0).getValues().size());
+        assertEquals(XACML3.ID_DATATYPE_INTEGER, attributes.get(0).getValues().iterator().next().getDataTypeId());
+        assertEquals("me", attributes.get(1).getIssuer());
+        assertEquals(XACML3.ID_DATATYPE_DOUBLE, attributes.get(1).getValues().iterator().next().getDataTypeId());
+        assertEquals(XACML3.ID_DATATYPE_BOOLEAN, attributes.get(2).getValues().iterator().next().getDataTypeId());
+        assertEquals(XACML3.ID_DATATYPE_ANYURI, attributes.get(3).getValues().iterator().next().getDataTypeId());
+    }
+
+    @Test
+    void testReadRequestUnhandled() throws Exception {
+        // short attribute ids
+        assertNull(XacmlJsonStreaming.readRequest(ResourceUtils.getResourceAsStream(
+            "src/test/resources/decisions/decision.native.request.json")));
+
+        // multiple requests
+        assertNull(read("{\"Request\": {\"MultiRequests\": {}}}"));
+
+        // content
+        assertNull(read("{\"Request\": {\"Resource\": {\"Content\": \"<record/>\"}}}"));
+
+        // mixed values
+        assertNull(read("{\"Request\": {\"Resource\": {\"Attribute\": "
+            + "{\"AttributeId\": \"urn:org:onap:id\", \"Value\": [1, \"a\"]}}}}"));
+
+        // category without an id
+        assertNull(read("{\"Request\": {\"Category\": {\"Attribute\": []}}}"));
+
+        assertThatThrownBy(() -> read("{\"Request\": {")).isInstanceOf(IOException.class);
+    }
+
+    @Test
+    void testWriteResponse() throws Exception {
+        Response response = DOMResponse.load(ResourceUtils.getResourceAsString(
+            "src/test/resources/decisions/decision.native.full.response.xml"));
+        assertTrue(XacmlJsonStreaming.canWrite(response));
+
+        var stream = new ByteArrayOutputStream();
+        XacmlJsonStreaming.writeResponse(response, stream);
+        String json = stream.toString(StandardCharsets.UTF_8);
+        assertTrue(json.contains("\"Value\":10"));
+        assertTrue(json.contains("\"Value\":true"));
+        assertEquals(response, JsonResponseTranslator.load(new ByteArrayInputStream(stream.toByteArray())));
+    }
+
+    private static Request read(String json) throws Exception {
+        return XacmlJsonStreaming.readRequest(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -32,6 +32,7 @@ import com.att.research.xacml.std.dom.DOMStructureException;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.Iterator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -98,4 +99,28 @@ class TestXacmlXmlMessageBodyHandler {
         assertEquals("read", thirdRequestAttributes.getAttributes().iterator().next()
             .getValues().iterator().next().getValue().toString());
     }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testReadFrom_LargeMultiRequests() throws IOException {
+        //
+        // MultiRequests follow the attributes, so the streaming reader only gives up after
+        // more than a megabyte
+        //
+        String value = "a".repeat(2 * 1024 * 1024);
+        String request = "<Request xmlns=\"urn:oasis:names:tc:xacml:3.0:core:schema:wd-17\""
+            + " CombinedDecision=\"false\" ReturnPolicyIdList=\"false\">"
+            + "<Attributes Category=\"urn:oasis:names:tc:xacml:1.0:subject-category:access-subject\""
+            + " xml:id=\"s1\">"
+            + "<Attribute AttributeId=\"urn:a\" IncludeInResult=\"false\">"
+            + "<AttributeValue DataType=\"http://www.w3.org/2001/XMLSchema#string\">" + value
+            + "</AttributeValue></Attribute></Attributes>"
+            + "<MultiRequests><RequestReference><AttributesReference ReferenceId=\"s1\"/></RequestReference>"
+            + "</MultiRequests></Request>";
+        Request req = hdlr.readFrom(REQUEST_CLASS, REQUEST_CLASS, null, null, null,
+            new ByteArrayInputStream(request.getBytes(StandardCharsets.UTF_8)));
+        assertEquals(1, req.getMultiRequests().size());
+        assertEquals(value, req.getRequestAttributes().iterator().next().getAttributes().iterator().next()
+            .getValues().iterator().next().getValue().toString());
+    }
 }
@@ -0,0 +1,131 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdpx.main.rest.serialization;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.att.research.xacml.api.Request;
+import com.att.research.xacml.api.RequestAttributes;
+import com.att.research.xacml.api.Response;
+import com.att.research.xacml.api.XACML3;
+import com.att.research.xacml.std.dom.DOMRequest;
+import com.att.research.xacml.std.dom.DOMResponse;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import javax.xml.stream.XMLStreamException;
+import org.junit.jupiter.api.Test;
+import org.onap.policy.common.utils.resources.ResourceUtils;
+
+class TestXacmlXmlStreaming {
+    private static final String REQUEST_HEAD = "<Request xmlns=\"" + XacmlXmlStreaming.XACML3_NAMESPACE
+        + "\" ReturnPolicyIdList=\"true\" CombinedDecision=\"false\">";
+
+    @Test
+    void testReadRequest() throws Exception {
+        String xml = ResourceUtils.getResourceAsString("src/test/resources/decisions/decision.native.request.xml");
+        Request request = read(xml);
+        assertFalse(request.getReturnPolicyIdList());
+        assertFalse(request.getCombinedDecision());
+
+        List<RequestAttributes> attributes = new ArrayList<>(request.getRequestAttributes());
+        assertEquals(4, attributes.size());
+        assertEquals(XACML3.ID_SUBJECT_CATEGORY_ACCESS_SUBJECT, attributes.get(0).getCategory());
+        assertEquals("Julius Hibbert", attributes.get(0).getAttributes().iterator().next()
+            .getValues().iterator().next().getValue().toString());
+        var resource = attributes.get(1).getAttributes().iterator().next();
+        assertEquals(XACML3.ID_ATTRIBUTE_CATEGORY_RESOURCE, resource.getCategory());
+        assertEquals(XACML3.ID_DATATYPE_ANYURI, resource.getValues().iterator().next().getDataTypeId());
+        assertTrue(attributes.get(3).getAttributes().isEmpty());
+
+        //
+        // Same request as the DOM translator
+        //
+        Request domRequest = DOMRequest.load(xml);
+        assertEquals(domRequest.getRequestAttributes().size(), request.getRequestAttributes().size());
+        var domResource = new ArrayList<>(domRequest.getRequestAttributes()).get(1).getAttributes().iterator().next();
+        assertEquals(domResource.getAttributeId(), resource.getAttributeId());
+        assertEquals(domResource.getValues(), resource.getValues());
+    }
+
+    @Test
+    void testReadRequestValues() throws Exception {
+        Request request = read(REQUEST_HEAD
+            + "<Attributes Category=\"urn:oasis:names:tc:xacml:3.0:attribute-category:resource\" xml:id=\"res\">"
+            + "<Attribute AttributeId=\"urn:org:onap:count\" IncludeInResult=\"true\" Issuer=\"me\">"
+            + "<AttributeValue DataType=\"http://www.w3.org/2001/XMLSchema#integer\">5</AttributeValue>"
+            + "<AttributeValue DataType=\"http://www.w3.org/2001/XMLSchema#integer\">6</AttributeValue>"
+            + "</Attribute></Attributes></Request>");
+        assertTrue(request.getReturnPolicyIdList());
+
+        var requestAttributes = request.getRequestAttributes().iterator().next();
+        assertEquals("res", requestAttributes.getXmlId());
+        var attribute = requestAttributes.getAttributes().iterator().next();
+        assertEquals("me", attribute.getIssuer());
+        assertTrue(attribute.getIncludeInResults());
+        assertEquals("[5, 6]", attribute.getValues().stream().map(value -> value.getValue().toString()).toList()
+            .toString());
+    }
+
+    @Test
+    void testReadRequestUnhandled() throws Exception {
+        // content
+        assertNull(read(REQUEST_HEAD
+            + "<Attributes Category=\"urn:oasis:names:tc:xacml:3.0:attribute-category:resource\">"
+            + "<Content><record/></Content></Attributes></Request>"));
+
+        // multiple requests
+        assertNull(read(REQUEST_HEAD + "<MultiRequests/></Request>"));
+
+        // unknown data type
+        assertNull(read(REQUEST_HEAD
+            + "<Attributes Category=\"urn:oasis:names:tc:xacml:3.0:attribute-category:resource\">"
+            + "<Attribute AttributeId=\"urn:org:onap:id\" IncludeInResult=\"false\">"
+            + "<AttributeValue DataType=\"urn:org:onap:unknown\">5</AttributeValue>"
+            + "</Attribute></Attributes></Request>"));
+
+        // not xacml 3
+        assertNull(read("<Request/>"));
+
+        assertThatThrownBy(() -> read(REQUEST_HEAD + "<Attributes")).isInstanceOf(XMLStreamException.class);
+    }
+
+    @Test
+    void testWriteResponse() throws Exception {
+        Response response = DOMResponse.load(ResourceUtils.getResourceAsString(
+            "src/test/resources/decisions/decision.native.full.response.xml"));
+        assertTrue(XacmlXmlStreaming.canWrite(response));
+
+        var stream = new ByteArrayOutputStream();
+        XacmlXmlStreaming.writeResponse(response, stream);
+        assertEquals(response, DOMResponse.load(new ByteArrayInputStream(stream.toByteArray())));
+    }
+
+    private static Request read(String xml) throws Exception {
+        return XacmlXmlStreaming.readRequest(new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)));
+    }
+}